@@ -44,6 +44,7 @@ export enum PostStatus {
   DRAFT = 'DRAFT',
   PUBLISHED = 'PUBLISHED',
   DELETED = 'DELETED',
+  HIDDEN = 'HIDDEN',
 }
 
 export interface PostCreateRequest {
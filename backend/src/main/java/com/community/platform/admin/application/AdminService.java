@@ -303,6 +303,8 @@ public class AdminService {
                     post.restore();
                 } else if (post.getStatus() == PostStatus.DRAFT) {
                     post.publish();
+                } else if (post.isHidden()) {
+                    post.unhide();
                 }
                 break;
             case DRAFT:
@@ -369,9 +371,6 @@ public class AdminService {
         com.community.platform.user.domain.User author = userRepository.findById(post.getAuthorId())
                 .orElse(null);
 
-        // 스크랩 수 조회
-        Long scrapCount = postScrapRepository.countByPostId(post.getId());
-
         return PostManagementResponse.builder()
                 .postId(post.getId())
                 .title(post.getTitle())
@@ -385,7 +384,7 @@ public class AdminService {
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
                 .commentCount(post.getCommentCount())
-                .scrapCount(scrapCount)
+                .scrapCount(post.getScrapCount())
                 .publishedAt(post.getPublishedAt())
                 .createdAt(post.getCreatedAt())
                 .deletedAt(post.getDeletedAt())
@@ -107,6 +107,7 @@ public interface ContentMapper {
                 .viewCount(response.getViewCount())
                 .likeCount(response.getLikeCount())
                 .commentCount(response.getCommentCount())
+                .scrapCount(response.getScrapCount())
                 .createdAt(response.getCreatedAt())
                 .updatedAt(response.getUpdatedAt())
                 .publishedAt(response.getPublishedAt())
@@ -138,6 +139,7 @@ public interface ContentMapper {
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
                 .commentCount(post.getCommentCount())
+                .scrapCount(post.getScrapCount())
                 .publishedAt(post.getPublishedAt())
                 .tags(tags != null && tags.size() > 3 ? tags.subList(0, 3) : tags) // 최대 3개 태그만
                 .isLikedByUser(isLikedByUser)
@@ -39,7 +39,7 @@ public class PostEventHandler {
 
     /**
      * 게시글 발행 이벤트 처리
-     * - 팔로워들에게 알림 전송 (향후 구현)
+     * - 팔로워들에게 알림 전송 (FollowerFanoutService에서 처리)
      * - 검색 인덱스 업데이트 (향후 구현)
      * - RSS 피드 업데이트 (향후 구현)
      */
@@ -49,7 +49,6 @@ public class PostEventHandler {
                 event.getPostId(), event.getAuthorId(), event.getTitle());
         
         try {
-            // TODO: 팔로워 알림 전송
             // TODO: 검색 인덱스 업데이트
             // TODO: RSS 피드 업데이트
             // TODO: 소셜 미디어 연동 (선택적)
@@ -106,7 +105,7 @@ public class PostEventHandler {
 
     /**
      * 게시글 공지사항 설정 이벤트 처리
-     * - 전체 사용자 알림 전송 (향후 구현)
+     * - 전체 사용자 알림 전송 (BroadcastNotificationService에서 처리)
      * - 우선순위 설정 (향후 구현)
      */
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -114,7 +113,6 @@ public class PostEventHandler {
         log.info("게시글 공지사항 설정 이벤트 처리. postId: {}", event.getPostId());
         
         try {
-            // TODO: 전체 사용자 알림 전송
             // TODO: 공지사항 우선순위 관리
             
             log.debug("공지사항 설정 후속 처리 완료. postId: {}", event.getPostId());
@@ -171,8 +171,8 @@ public class PostService {
     public Post getPostWithViewCount(Long postId, String userId, String ip) {
         Post post = getPostById(postId);
 
-        // 삭제된 게시글은 조회 불가
-        if (post.isDeleted()) {
+        // 삭제되었거나 신고 누적으로 숨겨진 게시글은 조회 불가
+        if (post.isDeleted() || post.isHidden()) {
             throw new PostNotFoundException(postId);
         }
 
@@ -141,6 +141,10 @@ public class Comment extends AggregateRoot {
         return this.status == CommentStatus.BLOCKED;
     }
 
+    public boolean isReported() {
+        return this.status == CommentStatus.REPORTED;
+    }
+
     public boolean isRootComment() {
         return this.parentComment == null;
     }
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,6 +20,7 @@ import java.util.List;
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate // 카운터 컬럼은 원자적 UPDATE로 관리되므로 변경된 컬럼만 갱신
 public class Post extends AggregateRoot {
 
     @Column(name = "author_id", nullable = false)
@@ -55,6 +57,9 @@ public class Post extends AggregateRoot {
     @Column(name = "comment_count", nullable = false)
     private Long commentCount = 0L;
 
+    @Column(name = "scrap_count", nullable = false)
+    private Long scrapCount = 0L;
+
     @Column(name = "published_at")
     private LocalDateTime publishedAt;
 
@@ -125,6 +130,24 @@ public class Post extends AggregateRoot {
         addDomainEvent(new PostRestoredEvent(this.getId(), this.authorId));
     }
 
+    /**
+     * 신고 누적으로 숨김 (관리자 검토 전까지 목록/상세에서 제외)
+     */
+    public void hide() {
+        if (this.status == PostStatus.PUBLISHED) {
+            this.status = PostStatus.HIDDEN;
+        }
+    }
+
+    /**
+     * 숨김 해제 (신고 반려 시)
+     */
+    public void unhide() {
+        if (this.status == PostStatus.HIDDEN) {
+            this.status = PostStatus.PUBLISHED;
+        }
+    }
+
     public void increaseViewCount() {
         this.viewCount++;
     }
@@ -170,6 +193,10 @@ public class Post extends AggregateRoot {
         return this.status == PostStatus.DELETED;
     }
 
+    public boolean isHidden() {
+        return this.status == PostStatus.HIDDEN;
+    }
+
     public boolean isNotice() {
         return Boolean.TRUE.equals(this.isNoticePost);
     }
@@ -3,7 +3,8 @@ package com.community.platform.content.domain;
 public enum PostStatus {
     DRAFT("임시저장"),
     PUBLISHED("발행됨"),
-    DELETED("삭제됨");
+    DELETED("삭제됨"),
+    HIDDEN("신고 누적으로 숨김");
 
     private final String description;
 
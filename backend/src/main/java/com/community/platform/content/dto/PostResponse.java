@@ -39,6 +39,8 @@ public class PostResponse {
     
     private Long commentCount; // 댓글 수
     
+    private Long scrapCount; // 스크랩 수
+    
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt; // 생성 시간
     
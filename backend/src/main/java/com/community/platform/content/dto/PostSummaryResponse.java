@@ -34,6 +34,8 @@ public class PostSummaryResponse {
     
     private Long commentCount; // 댓글 수
     
+    private Long scrapCount; // 스크랩 수
+    
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime publishedAt; // 발행 시간
     
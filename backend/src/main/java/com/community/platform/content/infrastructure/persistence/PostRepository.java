@@ -78,6 +78,20 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
     void decrementCommentCount(@Param("postId") Long postId);
     
+    // 게시글 스크랩 수 증가 (스크랩 추가 시 호출)
+    @Modifying
+    @Query("UPDATE Post p SET p.scrapCount = p.scrapCount + 1 WHERE p.id = :postId")
+    void incrementScrapCount(@Param("postId") Long postId);
+    
+    // 게시글 스크랩 수 감소 (스크랩 취소 시 호출)
+    @Modifying
+    @Query("UPDATE Post p SET p.scrapCount = p.scrapCount - 1 WHERE p.id = :postId AND p.scrapCount > 0")
+    void decrementScrapCount(@Param("postId") Long postId);
+    
+    // 게시글 스크랩 수 조회 (집계 없이 비정규화 컬럼 조회)
+    @Query("SELECT p.scrapCount FROM Post p WHERE p.id = :postId")
+    Optional<Long> findScrapCountById(@Param("postId") Long postId);
+    
     // 작성자별 게시글 개수 조회 (프로필 페이지용)
     @Query("SELECT COUNT(p) FROM Post p WHERE p.authorId = :authorId AND p.status = :status")
     Long countByAuthorIdAndStatus(@Param("authorId") Long authorId, @Param("status") PostStatus status);
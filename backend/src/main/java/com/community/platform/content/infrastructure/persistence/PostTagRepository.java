@@ -50,6 +50,10 @@ public interface PostTagRepository extends JpaRepository<PostTag, Long> {
     @Query("DELETE FROM PostTag pt WHERE pt.post.id = :postId AND pt.tag.id = :tagId")
     void deleteByPostIdAndTagId(@Param("postId") Long postId, @Param("tagId") Long tagId);
     
+    // 여러 게시글의 태그 연결 조회 (목록 페이지 응답용)
+    @Query("SELECT pt FROM PostTag pt JOIN FETCH pt.tag WHERE pt.post.id IN :postIds")
+    List<PostTag> findByPostIdInWithTag(@Param("postIds") List<Long> postIds);
+    
     // 게시글별 태그 이름 목록 조회 (API 응답용)
     @Query("SELECT pt.post.id, t.name FROM PostTag pt JOIN pt.tag t WHERE pt.post.id IN :postIds")
     List<Object[]> findTagNamesByPostIds(@Param("postIds") List<Long> postIds);
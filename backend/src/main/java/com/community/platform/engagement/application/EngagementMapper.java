@@ -56,7 +56,6 @@ public interface EngagementMapper {
     /**
      * ScrapFolder 엔티티를 ScrapFolderResponse DTO로 변환
      */
-    @Mapping(target = "scrapCount", ignore = true) // 별도 설정 필요
     ScrapFolderResponse toScrapFolderResponse(ScrapFolder scrapFolder);
 
     /**
@@ -105,6 +104,7 @@ public interface EngagementMapper {
                 .name(scrapFolder.getName())
                 .description(scrapFolder.getDescription())
                 .isDefault(scrapFolder.getIsDefault())
+                .isPublic(scrapFolder.getIsPublic())
                 .createdAt(scrapFolder.getCreatedAt())
                 .scrapCount(scrapCount != null ? scrapCount : 0L)
                 .build();
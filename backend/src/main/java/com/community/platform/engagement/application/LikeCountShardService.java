@@ -0,0 +1,263 @@
+package com.community.platform.engagement.application;
+
+import com.community.platform.shared.application.SchedulerLeaseService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글 좋아요 수 샤드 서비스
+ * 좋아요 증감을 post_like_count_shards의 여러 행 중 임의의 한 행에 기록하여 인기 게시글의 posts 행 잠금 경합 제거
+ * - 한 노드 안에서는 지연 저장 큐의 flush 하나만 기록하므로 경합이 없고, 샤드는 여러 노드의 flush가 같은 게시글에 동시에 기록할 때만 효과가 있음
+ * - 샤드 행 기록은 (post_id, shard_no) 유니크 인덱스 기준 upsert 한 문장으로 처리 (노드 간 동시 생성에도 배치가 실패하지 않음)
+ * - 한 번의 저장에서 변경이 많은 게시글은 샤드 수를 두 배씩 늘림 (최대 maxShards)
+ * - 압축 작업이 주기적으로 샤드 합계를 posts.like_count로 옮기고 샤드 행은 삭제 (리스 보유 노드만)
+ * - 조회는 posts.like_count + 샤드 합계를 짧게 캐시하여 반환
+ */
+@Slf4j
+@Service
+public class LikeCountShardService {
+
+    private static final String LEASE_NAME = "like-count-compaction";
+    private static final int READ_CACHE_MAX_POSTS = 10000;
+    private static final int COMPACT_BATCH_SIZE = 500;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLeaseService leaseService;
+    private final int maxShards;
+    private final int hotThreshold;
+    private final long readCacheMillis;
+    private final String upsertSql;
+
+    // 게시글별 현재 샤드 수 (없으면 1)
+    private final Map<Long, Integer> shardCounts = new ConcurrentHashMap<>();
+
+    // 합산 좋아요 수 조회 캐시
+    private final Map<Long, CachedCount> readCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedCount> eldest) {
+            return size() > READ_CACHE_MAX_POSTS;
+        }
+    };
+
+    public LikeCountShardService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            SchedulerLeaseService leaseService,
+            @Value("${community.like.counter.max-shards:16}") int maxShards,
+            @Value("${community.like.counter.hot-threshold:20}") int hotThreshold,
+            @Value("${community.like.counter.read-cache-ms:1000}") long readCacheMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.leaseService = leaseService;
+        this.maxShards = maxShards;
+        this.hotThreshold = hotThreshold;
+        this.readCacheMillis = readCacheMillis;
+        this.upsertSql = resolveUpsertSql(jdbcTemplate);
+    }
+
+    /**
+     * 게시글별 좋아요 수 증감 기록 (호출 측 트랜잭션에 참여)
+     * @param deltas 게시글별 순증감
+     * @param activity 게시글별 이번 저장의 변경 건수 (인기 게시글 판별용)
+     */
+    public void applyDeltas(Map<Long, Long> deltas, Map<Long, Integer> activity) {
+        activity.forEach(this::growIfHot);
+
+        // 게시글 ID 순으로 기록하여 노드 간 잠금 순서를 맞춤
+        List<MapSqlParameterSource> params = new ArrayList<>();
+        new TreeMap<>(deltas).forEach((postId, delta) -> {
+            if (delta != 0) {
+                int shardNo = ThreadLocalRandom.current().nextInt(shardCounts.getOrDefault(postId, 1));
+                params.add(new MapSqlParameterSource()
+                        .addValue("postId", postId)
+                        .addValue("shardNo", shardNo)
+                        .addValue("delta", delta));
+            }
+        });
+        if (params.isEmpty()) {
+            return;
+        }
+
+        MapSqlParameterSource[] batch = params.toArray(MapSqlParameterSource[]::new);
+        if (upsertSql != null) {
+            jdbcTemplate.batchUpdate(upsertSql, batch);
+        } else {
+            updateOrInsert(batch);
+        }
+
+        synchronized (readCache) {
+            deltas.keySet().forEach(readCache::remove);
+        }
+    }
+
+    /**
+     * 게시글 좋아요 수 조회 (posts.like_count + 샤드 합계, 짧게 캐시)
+     */
+    public Long getLikeCount(Long postId) {
+        long now = System.currentTimeMillis();
+        synchronized (readCache) {
+            CachedCount cached = readCache.get(postId);
+            if (cached != null && cached.expiresAt > now) {
+                return cached.count;
+            }
+        }
+
+        List<Long> result = jdbcTemplate.queryForList(
+                "SELECT p.like_count + COALESCE((SELECT SUM(s.delta) FROM post_like_count_shards s " +
+                "                               WHERE s.post_id = p.id), 0) " +
+                "FROM posts p WHERE p.id = :postId",
+                new MapSqlParameterSource("postId", postId), Long.class);
+        Long count = result.isEmpty() ? 0L : Math.max(result.get(0), 0L);
+
+        synchronized (readCache) {
+            readCache.put(postId, new CachedCount(count, now + readCacheMillis));
+        }
+        return count;
+    }
+
+    /**
+     * 샤드 압축
+     * 10초마다 실행, 샤드에 쌓인 증감을 posts.like_count로 옮김
+     */
+    @Scheduled(fixedDelayString = "${community.like.counter.compact-interval-ms:10000}")
+    public void compact() {
+        // 인기 상태는 압축 주기마다 초기화 (계속 인기면 다음 저장에서 다시 증가)
+        shardCounts.clear();
+
+        if (!leaseService.tryAcquire(LEASE_NAME, Duration.ofMinutes(1))) {
+            return;
+        }
+
+        try {
+            int folded;
+            do {
+                folded = transactionTemplate.execute(status -> compactBatch());
+            } while (folded == COMPACT_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("좋아요 수 샤드 압축 중 오류 발생", e);
+        }
+    }
+
+    private int compactBatch() {
+        List<long[]> shards = jdbcTemplate.query(
+                "SELECT post_id, shard_no, delta FROM post_like_count_shards " +
+                "ORDER BY post_id, shard_no " +
+                "LIMIT " + COMPACT_BATCH_SIZE + " FOR UPDATE",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)});
+        if (shards.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> sums = new TreeMap<>();
+        List<MapSqlParameterSource> shardDeletes = new ArrayList<>(shards.size());
+        for (long[] shard : shards) {
+            if (shard[2] != 0) {
+                sums.merge(shard[0], shard[2], Long::sum);
+            }
+            shardDeletes.add(new MapSqlParameterSource()
+                    .addValue("postId", shard[0])
+                    .addValue("shardNo", (int) shard[1]));
+        }
+
+        // 조회한 행은 잠겨 있으므로 옮긴 증감 그대로 삭제 (이후 기록은 UPDATE가 0건이 되어 새 행으로 추가됨)
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM post_like_count_shards WHERE post_id = :postId AND shard_no = :shardNo",
+                shardDeletes.toArray(MapSqlParameterSource[]::new));
+
+        if (sums.isEmpty()) {
+            return shards.size();
+        }
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE posts SET like_count = CASE WHEN like_count + :delta < 0 THEN 0 " +
+                "ELSE like_count + :delta END WHERE id = :postId",
+                sums.entrySet().stream()
+                        .map(entry -> new MapSqlParameterSource()
+                                .addValue("postId", entry.getKey())
+                                .addValue("delta", entry.getValue()))
+                        .toArray(MapSqlParameterSource[]::new));
+
+        log.debug("좋아요 수 샤드 압축. 게시글 수: {}, 샤드 수: {}", sums.size(), shards.size());
+        return shards.size();
+    }
+
+    // upsert를 지원하지 않는 DB용 (동시 생성은 유니크 인덱스 위반으로 배치 재시도)
+    private void updateOrInsert(MapSqlParameterSource[] batch) {
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE post_like_count_shards SET delta = delta + :delta " +
+                "WHERE post_id = :postId AND shard_no = :shardNo", batch);
+
+        List<MapSqlParameterSource> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(batch[i]);
+            }
+        }
+        if (!missing.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO post_like_count_shards (post_id, shard_no, delta) " +
+                    "SELECT :postId, :shardNo, :delta " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM post_like_count_shards " +
+                    "                  WHERE post_id = :postId AND shard_no = :shardNo)",
+                    missing.toArray(MapSqlParameterSource[]::new));
+        }
+    }
+
+    private static String resolveUpsertSql(NamedParameterJdbcTemplate jdbcTemplate) {
+        String[] database = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<String[]>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return new String[]{metaData.getDatabaseProductName(), metaData.getURL()};
+        });
+        String product = database != null ? database[0].toLowerCase() : "";
+        String url = database != null && database[1] != null ? database[1].toLowerCase() : "";
+
+        if (product.contains("postgresql") || (product.contains("h2") && url.contains("mode=postgresql"))) {
+            log.info("좋아요 수 샤드 기록 방식: ON CONFLICT DO UPDATE ({})", product);
+            return "INSERT INTO post_like_count_shards (post_id, shard_no, delta) VALUES (:postId, :shardNo, :delta) " +
+                   "ON CONFLICT (post_id, shard_no) DO UPDATE SET delta = post_like_count_shards.delta + EXCLUDED.delta";
+        }
+        if (product.contains("mysql") || product.contains("mariadb")
+                || (product.contains("h2") && (url.contains("mode=mysql") || url.contains("mode=mariadb")))) {
+            log.info("좋아요 수 샤드 기록 방식: ON DUPLICATE KEY UPDATE ({})", product);
+            return "INSERT INTO post_like_count_shards (post_id, shard_no, delta) VALUES (:postId, :shardNo, :delta) " +
+                   "ON DUPLICATE KEY UPDATE delta = delta + :delta";
+        }
+        log.info("좋아요 수 샤드 기록 방식: UPDATE 후 INSERT ({})", product);
+        return null;
+    }
+
+    // 한 번의 저장에서 변경이 임계치 이상이면 샤드 수를 두 배로
+    private void growIfHot(Long postId, Integer changes) {
+        if (changes < hotThreshold) {
+            return;
+        }
+
+        shardCounts.compute(postId, (id, current) -> {
+            int next = Math.min((current == null ? 1 : current) * 2, maxShards);
+            if (current == null || next != current) {
+                log.debug("인기 게시글 좋아요 수 샤드 확장. postId: {}, shards: {}", postId, next);
+            }
+            return next;
+        });
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
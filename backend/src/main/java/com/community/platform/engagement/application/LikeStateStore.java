@@ -0,0 +1,86 @@
+package com.community.platform.engagement.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 좋아요 상태 저장소
+ * 게시글별 좋아요 사용자 집합을 보관하며, 토글은 상태 변경과 개수 조회를 원자적으로 처리
+ * 게시글 단위로 DB에서 적재(load)된 이후에만 응답하고, 미적재 시 null 반환
+ */
+public interface LikeStateStore {
+
+    /**
+     * 좋아요 상태 변경
+     * @return 변경 결과, 게시글이 적재되지 않았으면 null
+     */
+    LikeState apply(Long postId, Long userId, LikeOperation operation);
+
+    /**
+     * 좋아요 여부 조회 (미적재 시 null)
+     */
+    Boolean isLiked(Long postId, Long userId);
+
+    /**
+     * 여러 사용자의 좋아요 여부 일괄 조회 (미적재 시 null)
+     */
+    Map<Long, Boolean> isLiked(Long postId, Collection<Long> userIds);
+
+    /**
+     * 좋아요 수 조회 (미적재 시 null)
+     */
+    Long count(Long postId);
+
+    /**
+     * DB의 좋아요 사용자 목록으로 게시글 적재 (이미 적재된 경우 무시)
+     */
+    void load(Long postId, Collection<Long> userIds);
+
+    /**
+     * 게시글 적재 상태 제거 (DB 직접 변경 후 재적재 유도)
+     */
+    void evict(Long postId);
+
+    /**
+     * DB 저장 대기 표시 (표시 시각은 저장소 시계 기준으로 갱신)
+     * 노드가 저장 전에 중단되어도 다른 노드가 표시를 보고 이어서 저장할 수 있도록 함
+     */
+    void markPending(Long postId, Long userId);
+
+    /**
+     * 표시 시각이 before 이전인 저장 대기 항목 조회
+     */
+    List<PendingLike> findPendingBefore(long beforeMillis, int limit);
+
+    /**
+     * 저장 대기 표시 제거 (표시 시각이 readAt 이전인 항목만, 이후 다시 변경된 항목은 유지)
+     */
+    void clearPending(Collection<PendingLike> likes, long readAtMillis);
+
+    /**
+     * 저장 대기 표시에 쓰는 저장소 시계 (노드 간 시계 차이 배제)
+     */
+    long currentTimeMillis();
+
+    record PendingLike(Long postId, Long userId) {
+    }
+
+    enum LikeOperation {
+        TOGGLE, ADD, REMOVE
+    }
+
+    /**
+     * 좋아요 상태 변경 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    class LikeState {
+        private final boolean changed;
+        private final boolean liked;
+        private final long count;
+    }
+}
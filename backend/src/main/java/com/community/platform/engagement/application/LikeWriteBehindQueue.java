@@ -0,0 +1,461 @@
+package com.community.platform.engagement.application;
+
+import com.community.platform.engagement.domain.LikeCreatedEvent;
+import com.community.platform.shared.infrastructure.DomainEventPublisher;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 좋아요 변경 지연 저장 큐
+ * 좋아요 상태 저장소에 반영된 변경을 모아 post_likes와 좋아요 수 샤드에 배치로 저장
+ * - 같은 사용자/게시글의 연속 변경은 마지막 상태만 저장
+ * - 등록 시점의 상태가 아니라 저장 시점에 상태 저장소에서 다시 읽은 현재 상태를 저장
+ *   (다른 노드의 뒤이은 변경이 먼저 저장되어도 순서가 뒤집히지 않음)
+ * - 커밋 후 현재 상태를 다시 확인하여 그 사이 바뀐 항목은 다시 저장 (노드 간 저장이 겹쳐도 최종 상태로 수렴)
+ * - 실제 반영된 행 기준으로 좋아요 수를 증감하므로 중복 저장에도 카운트가 어긋나지 않음
+ * - 큐가 가득 차면 호출 스레드에서 즉시 저장하여 메모리 사용량 제한
+ * - 저장 실패한 변경은 재시도 목록에 보관하여 지수 백오프로 재시도 (대기 중에는 큐를 재시도 목록으로 옮김)
+ * - 큐와 재시도 목록은 노드 메모리에 있으므로 저장 대기 표시를 상태 저장소에 함께 남기고,
+ *   일정 시간 이상 남은 표시는 중단된 노드의 변경으로 보고 다른 노드가 복구 (로컬 저장소는 상태와 함께 유실)
+ * - 저장 완료 전 변경을 게시글별로 보관하여 상태 재적재 시 DB 조회 결과에 덧씌울 수 있게 함
+ */
+@Slf4j
+@Component
+public class LikeWriteBehindQueue {
+
+    private static final long RETRY_BASE_DELAY_MILLIS = 1000;
+    private static final long RETRY_MAX_DELAY_MILLIS = 60000;
+    // 최대 재시도 대기보다 충분히 길게 잡아 살아 있는 노드의 변경은 복구 대상에서 제외
+    private static final long ABANDONED_AFTER_MILLIS = 300000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventPublisher eventPublisher;
+    private final LikeCountShardService likeCountShardService;
+    private final LikeStateStore likeStateStore;
+    private final BlockingQueue<LikeChange> queue;
+    private final int batchSize;
+
+    // 저장 실패 후 재시도 대기 중인 변경 (용량 제한 없음)
+    private final Deque<LikeChange> retryBacklog = new ConcurrentLinkedDeque<>();
+
+    // 게시글 → 사용자 → 저장 완료 전 마지막 변경 (내부 맵은 compute 안에서만 접근)
+    private final Map<Long, Map<Long, LikeChange>> pendingByPost = new ConcurrentHashMap<>();
+
+    // 연속 저장 실패 횟수와 다음 저장 시도 가능 시각 (flush 안에서만 변경)
+    private int consecutiveFailures;
+    private volatile long nextAttemptAtMillis;
+
+    public LikeWriteBehindQueue(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            DomainEventPublisher eventPublisher,
+            LikeCountShardService likeCountShardService,
+            LikeStateStore likeStateStore,
+            @Value("${community.like.write-behind.capacity:50000}") int capacity,
+            @Value("${community.like.write-behind.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.likeCountShardService = likeCountShardService;
+        this.likeStateStore = likeStateStore;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 좋아요 변경 등록 (상태 저장소에 반영한 뒤 호출)
+     */
+    public void enqueue(Long postId, Long userId, boolean liked) {
+        LikeChange change = track(new LikeChange(postId, userId, liked, LocalDateTime.now()));
+        // 표시 시각을 상태 변경 이후로 갱신하여 변경 전 상태를 저장한 노드가 표시를 지우지 않도록 함
+        markPendingQuietly(postId, userId);
+        while (!queue.offer(change)) {
+            log.warn("좋아요 저장 큐 포화. 호출 스레드에서 즉시 저장합니다");
+            flush();
+        }
+    }
+
+    /**
+     * 대기 중인 변경 저장 (저장 순서 보장을 위해 동시에 하나만 실행)
+     */
+    @Scheduled(fixedDelayString = "${community.like.write-behind.flush-interval-ms:500}")
+    public synchronized void flush() {
+        if (System.currentTimeMillis() < nextAttemptAtMillis) {
+            // 재시도 대기 중에는 DB에 쓰지 않고 재시도 목록으로 옮겨 enqueue가 막히지 않도록 함
+            queue.drainTo(retryBacklog);
+            return;
+        }
+
+        List<LikeChange> drained = new ArrayList<>(batchSize);
+        while (!retryBacklog.isEmpty()) {
+            LikeChange change;
+            while (drained.size() < batchSize && (change = retryBacklog.poll()) != null) {
+                drained.add(change);
+            }
+            if (!persist(coalesce(drained))) {
+                return;
+            }
+            drained.clear();
+        }
+        while (queue.drainTo(drained, batchSize) > 0) {
+            if (!persist(coalesce(drained))) {
+                return;
+            }
+            drained.clear();
+        }
+    }
+
+    /**
+     * 중단된 노드가 남긴 저장 대기 변경 복구
+     * 1분마다 실행, 표시 후 일정 시간이 지나도록 저장되지 않은 항목을 현재 상태로 저장 (여러 노드가 실행해도 결과는 같음)
+     */
+    @Scheduled(fixedDelayString = "${community.like.write-behind.recovery-interval-ms:60000}")
+    public synchronized void recoverAbandoned() {
+        if (System.currentTimeMillis() < nextAttemptAtMillis) {
+            return;
+        }
+
+        long readAtMillis;
+        List<LikeStateStore.PendingLike> abandoned;
+        try {
+            readAtMillis = likeStateStore.currentTimeMillis();
+            abandoned = likeStateStore.findPendingBefore(readAtMillis - ABANDONED_AFTER_MILLIS, batchSize);
+        } catch (Exception e) {
+            log.warn("좋아요 저장 대기 목록 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        // 이 노드의 큐에 남은 변경은 flush에서 저장
+        List<LikeChange> candidates = abandoned.stream()
+                .filter(like -> !isPendingLocally(like.postId(), like.userId()))
+                .map(like -> new LikeChange(like.postId(), like.userId(), false, LocalDateTime.now()))
+                .toList();
+        if (candidates.isEmpty()) {
+            return;
+        }
+        log.warn("저장되지 않은 좋아요 변경 복구. 건수: {}", candidates.size());
+
+        // 상태가 적재되어 있지 않은 항목은 DB가 기준이므로 저장 없이 표시만 제거 (조회 실패한 항목은 다음 주기로)
+        Map<Long, Map<Long, Boolean>> current = readCurrentStates(candidates);
+        List<LikeChange> recovered = new ArrayList<>();
+        List<LikeChange> unloaded = new ArrayList<>();
+        for (LikeChange candidate : candidates) {
+            Map<Long, Boolean> states = current.get(candidate.postId());
+            if (states == null) {
+                continue;
+            }
+            Boolean liked = states.get(candidate.userId());
+            if (liked != null) {
+                recovered.add(new LikeChange(candidate.postId(), candidate.userId(), liked, candidate.likedAt()));
+            } else {
+                unloaded.add(candidate);
+            }
+        }
+
+        try {
+            if (!recovered.isEmpty()) {
+                transactionTemplate.execute(status -> persistInTransaction(recovered));
+            }
+            clearPendingQuietly(unloaded, readAtMillis);
+            verifyPersisted(recovered, readAtMillis);
+        } catch (Exception e) {
+            // 표시가 남아 있으므로 다음 주기에 다시 복구
+            log.error("좋아요 변경 복구 실패. 건수: {}", recovered.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        nextAttemptAtMillis = 0;
+        flush();
+        int remaining = getPendingCount();
+        if (remaining > 0) {
+            log.error("종료 시 저장하지 못한 좋아요 변경. 건수: {} (공유 저장소 사용 시 다른 노드가 저장 대기 표시로 복구)", remaining);
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size() + retryBacklog.size();
+    }
+
+    /**
+     * 게시글의 저장 완료 전 변경 (사용자 ID → 좋아요 여부)
+     * 상태 재적재 시 DB 조회 전에 가져와 조회 결과에 덧씌움 (저장 완료 후에 목록에서 빠지므로 누락 없음)
+     */
+    public Map<Long, Boolean> getPendingChanges(Long postId) {
+        Map<Long, Boolean> pending = new HashMap<>();
+        pendingByPost.computeIfPresent(postId, (key, changes) -> {
+            changes.forEach((userId, change) -> pending.put(userId, change.liked()));
+            return changes;
+        });
+        return pending;
+    }
+
+    // 사용자/게시글별 마지막 변경만 남김
+    private List<LikeChange> coalesce(List<LikeChange> changes) {
+        Map<String, LikeChange> latest = new LinkedHashMap<>();
+        for (LikeChange change : changes) {
+            latest.remove(change.key());
+            latest.put(change.key(), change);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    // 저장 실패 시 재시도 목록에 보관하고 false 반환
+    private boolean persist(List<LikeChange> drained) {
+        // 이후 변경이 등록되었거나 이미 저장된 변경은 건너뜀 (재시도가 최신 상태를 덮어쓰지 않도록)
+        List<LikeChange> changes = drained.stream().filter(this::isLatest).toList();
+        if (changes.isEmpty()) {
+            return true;
+        }
+
+        try {
+            long readAtMillis = currentTimeMillisQuietly();
+            List<LikeChange> resolved = resolveCurrentStates(changes);
+            List<LikeCreatedEvent> events = transactionTemplate.execute(status -> persistInTransaction(resolved));
+            changes.forEach(this::release);
+            consecutiveFailures = 0;
+            verifyPersisted(resolved, readAtMillis);
+            log.debug("좋아요 변경 저장 완료. 변경 수: {}, 신규 좋아요: {}", resolved.size(), events.size());
+            return true;
+        } catch (Exception e) {
+            retryBacklog.addAll(changes);
+            consecutiveFailures++;
+            long delay = Math.min(RETRY_BASE_DELAY_MILLIS << Math.min(consecutiveFailures - 1, 16), RETRY_MAX_DELAY_MILLIS);
+            nextAttemptAtMillis = System.currentTimeMillis() + delay;
+            log.error("좋아요 변경 저장 실패. 변경 수: {}, 재시도 대기: {}건, {}ms 후 재시도",
+                    changes.size(), retryBacklog.size(), delay, e);
+            return false;
+        }
+    }
+
+    /**
+     * 상태 저장소의 현재 상태로 변경을 대체
+     * 상태가 적재되어 있지 않거나 조회에 실패하면 등록된 상태를 그대로 사용
+     */
+    private List<LikeChange> resolveCurrentStates(List<LikeChange> changes) {
+        Map<Long, Map<Long, Boolean>> current = readCurrentStates(changes);
+        List<LikeChange> resolved = new ArrayList<>(changes.size());
+        for (LikeChange change : changes) {
+            Map<Long, Boolean> states = current.get(change.postId());
+            Boolean liked = states != null ? states.get(change.userId()) : null;
+            resolved.add(liked != null
+                    ? new LikeChange(change.postId(), change.userId(), liked, change.likedAt())
+                    : change);
+        }
+        return resolved;
+    }
+
+    /**
+     * 커밋 후 현재 상태 재확인
+     * 저장한 상태와 같으면 저장 대기 표시를 제거하고, 그 사이 바뀌었으면 다시 등록하여 다음 저장에 반영
+     */
+    private void verifyPersisted(List<LikeChange> persisted, long readAtMillis) {
+        Map<Long, Map<Long, Boolean>> current = readCurrentStates(persisted);
+        List<LikeChange> settled = new ArrayList<>(persisted.size());
+        for (LikeChange change : persisted) {
+            Map<Long, Boolean> states = current.get(change.postId());
+            if (states == null) {
+                // 조회 실패 시 표시를 남겨 복구 작업에 맡김 (적재되지 않은 게시글은 빈 맵)
+                continue;
+            }
+            Boolean liked = states.get(change.userId());
+            if (liked == null || liked == change.liked()) {
+                settled.add(change);
+            } else if (!isPendingLocally(change.postId(), change.userId())) {
+                LikeChange retry = track(new LikeChange(change.postId(), change.userId(), liked, LocalDateTime.now()));
+                if (!queue.offer(retry)) {
+                    retryBacklog.add(retry);
+                }
+            }
+        }
+        clearPendingQuietly(settled, readAtMillis);
+    }
+
+    // 게시글별 현재 상태 (조회 실패한 게시글은 제외, 적재되지 않은 게시글은 빈 맵)
+    private Map<Long, Map<Long, Boolean>> readCurrentStates(List<LikeChange> changes) {
+        Map<Long, List<Long>> userIdsByPost = new LinkedHashMap<>();
+        changes.forEach(change ->
+                userIdsByPost.computeIfAbsent(change.postId(), key -> new ArrayList<>()).add(change.userId()));
+
+        Map<Long, Map<Long, Boolean>> current = new HashMap<>();
+        userIdsByPost.forEach((postId, userIds) -> {
+            try {
+                Map<Long, Boolean> states = likeStateStore.isLiked(postId, userIds);
+                current.put(postId, states != null ? states : Map.of());
+            } catch (Exception e) {
+                log.warn("좋아요 현재 상태 조회 실패. postId: {}, error: {}", postId, e.getMessage());
+            }
+        });
+        return current;
+    }
+
+    // 시각 조회 실패 시 어떤 표시도 제거하지 않는 값 반환
+    private long currentTimeMillisQuietly() {
+        try {
+            return likeStateStore.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("좋아요 상태 저장소 시각 조회 실패: {}", e.getMessage());
+            return Long.MIN_VALUE;
+        }
+    }
+
+    private void markPendingQuietly(Long postId, Long userId) {
+        try {
+            likeStateStore.markPending(postId, userId);
+        } catch (Exception e) {
+            log.warn("좋아요 저장 대기 표시 실패. postId: {}, error: {}", postId, e.getMessage());
+        }
+    }
+
+    private void clearPendingQuietly(Collection<LikeChange> changes, long readAtMillis) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            likeStateStore.clearPending(changes.stream()
+                    .map(change -> new LikeStateStore.PendingLike(change.postId(), change.userId()))
+                    .toList(), readAtMillis);
+        } catch (Exception e) {
+            // 남은 표시는 복구 작업이 현재 상태로 다시 저장 (결과는 같음)
+            log.warn("좋아요 저장 대기 표시 제거 실패. 건수: {}, error: {}", changes.size(), e.getMessage());
+        }
+    }
+
+    // 저장 완료 전 변경 목록에 등록 (같은 사용자/게시글의 이전 변경은 대체)
+    private LikeChange track(LikeChange change) {
+        pendingByPost.compute(change.postId(), (key, changes) -> {
+            Map<Long, LikeChange> updated = changes != null ? changes : new HashMap<>();
+            updated.put(change.userId(), change);
+            return updated;
+        });
+        return change;
+    }
+
+    private boolean isPendingLocally(Long postId, Long userId) {
+        boolean[] pending = new boolean[1];
+        pendingByPost.computeIfPresent(postId, (key, changes) -> {
+            pending[0] = changes.containsKey(userId);
+            return changes;
+        });
+        return pending[0];
+    }
+
+    private boolean isLatest(LikeChange change) {
+        boolean[] latest = new boolean[1];
+        pendingByPost.computeIfPresent(change.postId(), (key, changes) -> {
+            latest[0] = changes.get(change.userId()) == change;
+            return changes;
+        });
+        return latest[0];
+    }
+
+    // 저장 완료된 변경을 목록에서 제거 (그 사이 새 변경이 등록되었으면 유지)
+    private void release(LikeChange change) {
+        pendingByPost.computeIfPresent(change.postId(), (key, changes) -> {
+            changes.remove(change.userId(), change);
+            return changes.isEmpty() ? null : changes;
+        });
+    }
+
+    private List<LikeCreatedEvent> persistInTransaction(List<LikeChange> changes) {
+        List<LikeChange> additions = changes.stream().filter(LikeChange::liked).toList();
+        List<LikeChange> removals = changes.stream().filter(change -> !change.liked()).toList();
+        Map<Long, Long> deltas = new HashMap<>();
+        List<LikeChange> inserted = new ArrayList<>();
+
+        if (!additions.isEmpty()) {
+            int[] results = jdbcTemplate.batchUpdate(
+                    "INSERT INTO post_likes (post_id, user_id, created_at, updated_at) " +
+                    "SELECT :postId, :userId, :likedAt, :likedAt " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM post_likes WHERE post_id = :postId AND user_id = :userId)",
+                    additions.stream().map(LikeChange::toParams).toArray(MapSqlParameterSource[]::new));
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] > 0) {
+                    inserted.add(additions.get(i));
+                    deltas.merge(additions.get(i).postId(), 1L, Long::sum);
+                }
+            }
+        }
+
+        if (!removals.isEmpty()) {
+            int[] results = jdbcTemplate.batchUpdate(
+                    "DELETE FROM post_likes WHERE post_id = :postId AND user_id = :userId",
+                    removals.stream().map(LikeChange::toParams).toArray(MapSqlParameterSource[]::new));
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] > 0) {
+                    deltas.merge(removals.get(i).postId(), -1L, Long::sum);
+                }
+            }
+        }
+
+        // 좋아요 수는 게시글 행 대신 샤드 행에 기록
+        Map<Long, Integer> activity = new HashMap<>();
+        changes.forEach(change -> activity.merge(change.postId(), 1, Integer::sum));
+        likeCountShardService.applyDeltas(deltas, activity);
+
+        return publishLikeCreatedEvents(inserted);
+    }
+
+    // 알림용 이벤트 발행 (커밋 후 리스너 실행)
+    private List<LikeCreatedEvent> publishLikeCreatedEvents(List<LikeChange> inserted) {
+        if (inserted.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> authorIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, author_id FROM posts WHERE id IN (:postIds)",
+                new MapSqlParameterSource("postIds", inserted.stream().map(LikeChange::postId).distinct().toList()),
+                rs -> {
+                    authorIds.put(rs.getLong(1), rs.getLong(2));
+                }
+        );
+
+        List<LikeCreatedEvent> events = new ArrayList<>(inserted.size());
+        for (LikeChange change : inserted) {
+            Long authorId = authorIds.get(change.postId());
+            if (authorId != null) {
+                // 배치 저장이라 생성된 좋아요 ID는 알 수 없음 (알림은 게시글 기준)
+                LikeCreatedEvent event = new LikeCreatedEvent(null, change.postId(), authorId, change.userId());
+                eventPublisher.publishEvent(event);
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    private record LikeChange(Long postId, Long userId, boolean liked, LocalDateTime likedAt) {
+
+        String key() {
+            return postId + ":" + userId;
+        }
+
+        MapSqlParameterSource toParams() {
+            return new MapSqlParameterSource()
+                    .addValue("postId", postId)
+                    .addValue("userId", userId)
+                    .addValue("likedAt", Timestamp.valueOf(likedAt));
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.community.platform.engagement.application;
+
+import com.community.platform.engagement.domain.ScrapCreatedEvent;
+import com.community.platform.engagement.infrastructure.persistence.ScrapFolderRepository;
+import com.community.platform.shared.infrastructure.redis.ClusterMessageBroker;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 인기 공개 스크랩 폴더 랭킹
+ * 폴더별 일 단위 스크랩 수를 메모리에 유지하고 기간(1/7/30일)별 순위를 주기적으로 미리 계산
+ * - 스크랩 생성 이벤트로 증분 반영, 다른 노드의 증분은 Redis Pub/Sub으로 전달
+ * - 시작 시와 매일 한 번 post_scraps 집계로 재구성 (스크랩 취소/이동, 메시지 유실 보정)
+ * - 조회는 미리 계산된 순위만 읽으므로 post_scraps를 조회하지 않음
+ */
+@Slf4j
+@Component
+public class PopularScrapFolderRanking {
+
+    private static final String ACTIVITY_CHANNEL = "engagement:scrap-folder:activity";
+    private static final int[] WINDOWS = {1, 7, 30};
+    private static final int MAX_DAYS = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScrapFolderRepository scrapFolderRepository;
+    private final ClusterMessageBroker messageBroker;
+    private final int rankingSize;
+
+    // 폴더별 최근 MAX_DAYS일 스크랩 수 (쓰기는 this로 동기화)
+    private final Map<Long, DailyCounts> activities = new HashMap<>();
+
+    // 기간별 미리 계산된 순위
+    private volatile Map<Integer, Ranking> rankings = Map.of();
+
+    public PopularScrapFolderRanking(
+            JdbcTemplate jdbcTemplate,
+            ScrapFolderRepository scrapFolderRepository,
+            ClusterMessageBroker messageBroker,
+            @Value("${community.scrap.popular.ranking-size:500}") int rankingSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scrapFolderRepository = scrapFolderRepository;
+        this.messageBroker = messageBroker;
+        this.rankingSize = rankingSize;
+    }
+
+    @PostConstruct
+    void subscribeActivity() {
+        messageBroker.subscribe(ACTIVITY_CHANNEL, payload -> record(Long.parseLong(payload)));
+    }
+
+    /**
+     * 스크랩 생성 이벤트 처리 - 오늘 버킷 증가 후 다른 노드에 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleScrapCreated(ScrapCreatedEvent event) {
+        if (event.getScrapFolderId() == null) {
+            return;
+        }
+        record(event.getScrapFolderId());
+        messageBroker.publish(ACTIVITY_CHANNEL, String.valueOf(event.getScrapFolderId()));
+    }
+
+    /**
+     * 애플리케이션 시작 시 집계 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 최근 MAX_DAYS일 스크랩을 폴더/일자별로 집계하여 재구성 (기본 매일 00:10)
+     */
+    @Scheduled(cron = "${community.scrap.popular.rebuild-cron:0 10 0 * * *}")
+    public void rebuild() {
+        try {
+            long today = LocalDate.now().toEpochDay();
+            LocalDate from = LocalDate.ofEpochDay(today - MAX_DAYS + 1);
+
+            Map<Long, DailyCounts> rebuilt = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT scrap_folder_id, CAST(created_at AS DATE), COUNT(*) FROM post_scraps " +
+                    "WHERE created_at >= ? AND scrap_folder_id IS NOT NULL " +
+                    "GROUP BY scrap_folder_id, CAST(created_at AS DATE)",
+                    rs -> {
+                        long day = rs.getDate(2).toLocalDate().toEpochDay();
+                        rebuilt.computeIfAbsent(rs.getLong(1), id -> new DailyCounts())
+                                .add(day, rs.getInt(3));
+                    },
+                    Timestamp.valueOf(from.atStartOfDay()));
+
+            synchronized (this) {
+                activities.clear();
+                activities.putAll(rebuilt);
+            }
+            refreshRankings();
+
+            log.info("인기 폴더 집계 재구성 완료. 활동 폴더 수: {}", rebuilt.size());
+        } catch (Exception e) {
+            log.error("인기 폴더 집계 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 기간별 순위 재계산 (기본 1분마다)
+     * 점수 상위 후보 중 공개 폴더만 남김 (scrap_folders 조회 한 번)
+     */
+    @Scheduled(fixedDelayString = "${community.scrap.popular.refresh-interval-ms:60000}")
+    public void refreshRankings() {
+        long today = LocalDate.now().toEpochDay();
+        Map<Integer, long[][]> candidates = new HashMap<>();
+        Set<Long> candidateIds = new HashSet<>();
+
+        synchronized (this) {
+            // 최근 MAX_DAYS일 동안 활동이 없는 폴더 제거
+            activities.values().removeIf(counts -> counts.lastDay <= today - MAX_DAYS);
+
+            for (int window : WINDOWS) {
+                long[][] top = topFolders(window, today);
+                candidates.put(window, top);
+                for (long[] entry : top) {
+                    candidateIds.add(entry[0]);
+                }
+            }
+        }
+
+        Set<Long> publicIds = candidateIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(scrapFolderRepository.findPublicIdsByIdIn(candidateIds));
+
+        Map<Integer, Ranking> refreshed = new HashMap<>();
+        candidates.forEach((window, top) -> refreshed.put(window, Ranking.of(top, publicIds)));
+        rankings = refreshed;
+    }
+
+    /**
+     * 기간 내 인기 공개 폴더 ID (순위순)
+     * 요청 기간 이상인 가장 짧은 집계 기간으로 맞춤 (최대 30일)
+     */
+    public Ranking getRanking(int days) {
+        return rankings.getOrDefault(resolveWindow(days), Ranking.EMPTY);
+    }
+
+    /**
+     * 기간 내 스크랩 활동 통계 [활동 폴더 수, 스크랩 수]
+     */
+    public synchronized long[] getActivityStatistics(int days) {
+        int window = resolveWindow(days);
+        long today = LocalDate.now().toEpochDay();
+
+        long activeFolders = 0;
+        long scraps = 0;
+        for (DailyCounts counts : activities.values()) {
+            long sum = counts.sum(today, window);
+            if (sum > 0) {
+                activeFolders++;
+                scraps += sum;
+            }
+        }
+        return new long[]{activeFolders, scraps};
+    }
+
+    private synchronized void record(Long folderId) {
+        activities.computeIfAbsent(folderId, id -> new DailyCounts())
+                .add(LocalDate.now().toEpochDay(), 1);
+    }
+
+    // 기간 내 점수 상위 rankingSize개 [folderId, score] (점수 내림차순)
+    private long[][] topFolders(int window, long today) {
+        PriorityQueue<long[]> heap = new PriorityQueue<>(
+                (a, b) -> a[1] != b[1] ? Long.compare(a[1], b[1]) : Long.compare(b[0], a[0]));
+
+        activities.forEach((folderId, counts) -> {
+            long score = counts.sum(today, window);
+            if (score <= 0) {
+                return;
+            }
+            heap.offer(new long[]{folderId, score});
+            if (heap.size() > rankingSize) {
+                heap.poll();
+            }
+        });
+
+        long[][] top = heap.toArray(long[][]::new);
+        Arrays.sort(top, (a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(a[0], b[0]));
+        return top;
+    }
+
+    private static int resolveWindow(int days) {
+        for (int window : WINDOWS) {
+            if (days <= window) {
+                return window;
+            }
+        }
+        return WINDOWS[WINDOWS.length - 1];
+    }
+
+    /**
+     * 폴더 하나의 일별 스크랩 수 (epochDay % MAX_DAYS 위치의 순환 버퍼)
+     */
+    private static final class DailyCounts {
+        private final int[] counts = new int[MAX_DAYS];
+        private long lastDay = Long.MIN_VALUE;
+
+        void add(long day, int amount) {
+            if (lastDay != Long.MIN_VALUE && day <= lastDay - MAX_DAYS) {
+                return;
+            }
+            if (day > lastDay) {
+                // 마지막 기록일 이후 지나간 날짜의 버킷 초기화
+                long clearFrom = lastDay == Long.MIN_VALUE ? day - MAX_DAYS + 1 : Math.max(lastDay + 1, day - MAX_DAYS + 1);
+                for (long d = clearFrom; d <= day; d++) {
+                    counts[(int) Math.floorMod(d, (long) MAX_DAYS)] = 0;
+                }
+                lastDay = day;
+            }
+            counts[(int) Math.floorMod(day, (long) MAX_DAYS)] += amount;
+        }
+
+        long sum(long today, int window) {
+            long from = Math.max(today - window + 1, lastDay - MAX_DAYS + 1);
+            long to = Math.min(today, lastDay);
+            long sum = 0;
+            for (long d = from; d <= to; d++) {
+                sum += counts[(int) Math.floorMod(d, (long) MAX_DAYS)];
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * 기간별 인기 공개 폴더 순위 (불변)
+     */
+    public static final class Ranking {
+        static final Ranking EMPTY = new Ranking(new long[0], new long[0]);
+
+        private final long[] folderIds;
+        private final long[] scores;
+
+        private Ranking(long[] folderIds, long[] scores) {
+            this.folderIds = folderIds;
+            this.scores = scores;
+        }
+
+        static Ranking of(long[][] top, Set<Long> publicIds) {
+            long[] ids = new long[top.length];
+            long[] scores = new long[top.length];
+            int size = 0;
+            for (long[] entry : top) {
+                if (publicIds.contains(entry[0])) {
+                    ids[size] = entry[0];
+                    scores[size] = entry[1];
+                    size++;
+                }
+            }
+            return new Ranking(Arrays.copyOf(ids, size), Arrays.copyOf(scores, size));
+        }
+
+        public int size() {
+            return folderIds.length;
+        }
+
+        /**
+         * 순위 구간의 폴더 ID
+         */
+        public List<Long> slice(long offset, int limit) {
+            if (offset >= folderIds.length) {
+                return List.of();
+            }
+            int from = (int) offset;
+            int to = Math.min(folderIds.length, from + limit);
+            return Arrays.stream(folderIds, from, to).boxed().toList();
+        }
+    }
+}
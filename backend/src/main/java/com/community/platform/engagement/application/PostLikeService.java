@@ -14,10 +14,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 게시글 좋아요 관리 애플리케이션 서비스
@@ -33,6 +42,10 @@ public class PostLikeService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final DomainEventPublisher eventPublisher;
+    private final LikeStateStore likeStateStore;
+    private final LikeWriteBehindQueue writeBehindQueue;
+    private final LikeCountShardService likeCountShardService;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 게시글 좋아요 추가
@@ -64,6 +77,7 @@ public class PostLikeService {
 
         // 게시글 좋아요 수 증가
         postRepository.incrementLikeCount(postId);
+        evictLikeState(postId);
 
         log.info("게시글 좋아요 추가 완료. userId: {}, postId: {}", userId, postId);
     }
@@ -85,6 +99,7 @@ public class PostLikeService {
         
         // 게시글 좋아요 수 감소
         postRepository.decrementLikeCount(postId);
+        evictLikeState(postId);
         
         log.info("게시글 좋아요 취소 완료. userId: {}, postId: {}", userId, postId);
     }
@@ -92,27 +107,51 @@ public class PostLikeService {
     /**
      * 게시글 좋아요 상태 토글 (좋아요 ↔ 좋아요 취소)
      * Controller용 메서드 - LikeResult 반환
+     * 좋아요 상태 저장소에서 원자적으로 토글하고 DB 저장은 지연 저장 큐에 위임
+     * 저장소 장애 시 DB 직접 처리로 대체
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LikeResult toggleLike(Long userId, Long postId) {
-        log.info("게시글 좋아요 상태 토글. userId: {}, postId: {}", userId, postId);
-
-        boolean isLiked = postLikeRepository.existsByUserIdAndPostId(userId, postId);
+        log.debug("게시글 좋아요 상태 토글. userId: {}, postId: {}", userId, postId);
+
+        LikeStateStore.LikeState state;
+        try {
+            // 상태 변경 직후 노드가 중단되어도 다른 노드가 이어서 저장하도록 변경 전에 저장 대기 표시
+            likeStateStore.markPending(postId, userId);
+            state = likeStateStore.apply(postId, userId, LikeStateStore.LikeOperation.TOGGLE);
+            if (state == null) {
+                loadLikeState(postId);
+                state = likeStateStore.apply(postId, userId, LikeStateStore.LikeOperation.TOGGLE);
+            }
+        } catch (PostNotFoundException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("좋아요 상태 저장소 처리 실패. postId: {}, fallback to DB", postId, e);
+            return transactionTemplate.execute(status -> toggleLikeInDatabase(userId, postId));
+        }
 
-        if (isLiked) {
-            removePostLike(userId, postId);
-        } else {
-            addPostLike(userId, postId);
+        if (state == null) {
+            return transactionTemplate.execute(status -> toggleLikeInDatabase(userId, postId));
         }
 
-        Long totalCount = postLikeRepository.countByPostId(postId);
-        return new LikeResult(!isLiked, totalCount);
+        if (state.isChanged()) {
+            writeBehindQueue.enqueue(postId, userId, state.isLiked());
+        }
+        return new LikeResult(state.isLiked(), state.getCount());
     }
 
     /**
      * 사용자의 게시글 좋아요 상태 확인
      */
     public boolean isLikedByUser(Long userId, Long postId) {
+        try {
+            Boolean liked = likeStateStore.isLiked(postId, userId);
+            if (liked != null) {
+                return liked;
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 상태 저장소 조회 실패. postId: {}, error: {}", postId, e.getMessage());
+        }
         return postLikeRepository.existsByUserIdAndPostId(userId, postId);
     }
 
@@ -120,7 +159,15 @@ public class PostLikeService {
      * 게시글의 좋아요 개수 조회
      */
     public Long getLikeCount(Long postId) {
-        return postLikeRepository.countByPostId(postId);
+        try {
+            Long count = likeStateStore.count(postId);
+            if (count != null) {
+                return count;
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 상태 저장소 조회 실패. postId: {}, error: {}", postId, e.getMessage());
+        }
+        return likeCountShardService.getLikeCount(postId);
     }
 
     /**
@@ -180,6 +227,101 @@ public class PostLikeService {
         return postLikeRepository.findByUserIdAndPostIdIn(userId, postIds);
     }
 
+    /**
+     * 여러 게시글 중 사용자가 좋아요한 게시글 ID (목록 페이지용)
+     * DB 조회 결과에 지연 저장 큐의 미저장 변경을 덧씌움
+     */
+    public Set<Long> getLikedPostIds(Long userId, List<Long> postIds) {
+        if (userId == null || postIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, Boolean> pending = new HashMap<>();
+        for (Long postId : postIds) {
+            Boolean liked = writeBehindQueue.getPendingChanges(postId).get(userId);
+            if (liked != null) {
+                pending.put(postId, liked);
+            }
+        }
+
+        Set<Long> likedPostIds = new HashSet<>();
+        for (PostLike like : postLikeRepository.findByUserIdAndPostIdIn(userId, postIds)) {
+            likedPostIds.add(like.getPostId());
+        }
+        pending.forEach((postId, liked) -> {
+            if (liked) {
+                likedPostIds.add(postId);
+            } else {
+                likedPostIds.remove(postId);
+            }
+        });
+        return likedPostIds;
+    }
+
+    /**
+     * DB 직접 토글 (좋아요 상태 저장소 장애 시)
+     */
+    private LikeResult toggleLikeInDatabase(Long userId, Long postId) {
+        boolean isLiked = postLikeRepository.existsByUserIdAndPostId(userId, postId);
+
+        if (isLiked) {
+            removePostLike(userId, postId);
+        } else {
+            addPostLike(userId, postId);
+        }
+
+        Long totalCount = postLikeRepository.countByPostId(postId);
+        return new LikeResult(!isLiked, totalCount);
+    }
+
+    /**
+     * 게시글 좋아요 상태를 DB에서 저장소로 적재
+     * 저장소에서 밀려난 게시글에 지연 저장 큐의 미저장 변경이 남아 있을 수 있으므로 DB 조회 결과에 덧씌움
+     * (미저장 변경을 먼저 가져와야 그 사이 저장 완료된 변경도 DB 조회에 포함됨)
+     */
+    private void loadLikeState(Long postId) {
+        validatePostExists(postId);
+        Map<Long, Boolean> pending = writeBehindQueue.getPendingChanges(postId);
+        List<Long> userIds = postLikeRepository.findUserIdsByPostId(postId);
+        if (!pending.isEmpty()) {
+            Set<Long> merged = new HashSet<>(userIds);
+            pending.forEach((userId, liked) -> {
+                if (liked) {
+                    merged.add(userId);
+                } else {
+                    merged.remove(userId);
+                }
+            });
+            userIds = new ArrayList<>(merged);
+        }
+        likeStateStore.load(postId, userIds);
+    }
+
+    /**
+     * DB 직접 변경 후 저장소 상태 제거 (다음 조회 시 재적재)
+     * 커밋 전에 제거하면 다른 요청이 커밋 전 DB 상태로 다시 적재할 수 있으므로 커밋 후 제거
+     */
+    private void evictLikeState(Long postId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictLikeStateQuietly(postId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictLikeStateQuietly(postId);
+            }
+        });
+    }
+
+    private void evictLikeStateQuietly(Long postId) {
+        try {
+            likeStateStore.evict(postId);
+        } catch (Exception e) {
+            log.warn("좋아요 상태 저장소 제거 실패. postId: {}, error: {}", postId, e.getMessage());
+        }
+    }
+
     /**
      * 사용자 존재 여부 확인
      */
@@ -79,6 +79,10 @@ public class PostScrapService {
         PostScrap postScrap = PostScrap.create(postId, userId, folder, postAuthorId);
         postScrapRepository.save(postScrap);
 
+        // 게시글/폴더 스크랩 수 증가
+        postRepository.incrementScrapCount(postId);
+        scrapFolderRepository.adjustScrapCount(folderId, 1);
+
         // 도메인 이벤트 발행
         eventPublisher.publishEvents(postScrap);
 
@@ -92,13 +96,19 @@ public class PostScrapService {
     public void removePostScrap(Long userId, Long postId) {
         log.info("게시글 스크랩 제거. userId: {}, postId: {}", userId, postId);
         
-        // 스크랩 존재 확인
-        if (!postScrapRepository.existsByUserIdAndPostId(userId, postId)) {
-            throw new IllegalStateException("스크랩하지 않은 게시글입니다.");
-        }
+        // 스크랩 조회
+        PostScrap postScrap = postScrapRepository.findByUserIdAndPostId(userId, postId)
+                .orElseThrow(() -> new IllegalStateException("스크랩하지 않은 게시글입니다."));
+        Long folderId = postScrap.getScrapFolder() != null ? postScrap.getScrapFolder().getId() : null;
         
         // 스크랩 삭제
-        postScrapRepository.deleteByUserIdAndPostId(userId, postId);
+        postScrapRepository.delete(postScrap);
+        
+        // 게시글/폴더 스크랩 수 감소
+        postRepository.decrementScrapCount(postId);
+        if (folderId != null) {
+            scrapFolderRepository.adjustScrapCount(folderId, -1);
+        }
         
         log.info("게시글 스크랩 제거 완료. userId: {}, postId: {}", userId, postId);
     }
@@ -120,8 +130,16 @@ public class PostScrapService {
         // 폴더 소유자 확인
         validateFolderOwnership(newFolder, userId);
         
-        // 폴더 변경
+        // 폴더 변경 및 폴더별 스크랩 수 이동
+        ScrapFolder oldFolder = postScrap.getScrapFolder();
+        if (oldFolder != null && oldFolder.getId().equals(newFolderId)) {
+            return;
+        }
         postScrap.updateScrapFolder(newFolder);
+        if (oldFolder != null) {
+            scrapFolderRepository.adjustScrapCount(oldFolder.getId(), -1);
+        }
+        scrapFolderRepository.adjustScrapCount(newFolderId, 1);
         
         log.info("스크랩 폴더 이동 완료. userId: {}, postId: {}", userId, postId);
     }
@@ -156,10 +174,11 @@ public class PostScrapService {
     }
 
     /**
-     * 게시글의 스크랩 개수 조회
+     * 게시글의 스크랩 개수 조회 (비정규화된 posts.scrap_count)
      */
     public Long getPostScrapCount(Long postId) {
-        return postScrapRepository.countByPostId(postId);
+        return postRepository.findScrapCountById(postId)
+                .orElseThrow(() -> new PostNotFoundException(postId));
     }
 
     /**
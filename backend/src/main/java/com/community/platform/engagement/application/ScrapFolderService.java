@@ -1,6 +1,5 @@
 package com.community.platform.engagement.application;
 
-import com.community.platform.engagement.domain.PostScrap;
 import com.community.platform.engagement.domain.ScrapFolder;
 import com.community.platform.engagement.exception.ScrapFolderNotFoundException;
 import com.community.platform.engagement.infrastructure.persistence.ScrapFolderRepository;
@@ -13,6 +12,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +32,7 @@ public class ScrapFolderService {
     private final ScrapFolderRepository scrapFolderRepository;
     private final PostScrapRepository postScrapRepository;
     private final UserRepository userRepository;
+    private final PopularScrapFolderRanking popularFolderRanking;
 
     private static final int MAX_FOLDERS_PER_USER = 20; // 사용자당 최대 폴더 수
 
@@ -44,13 +47,14 @@ public class ScrapFolderService {
         validateUserExists(userId);
         
         // 폴더 개수 제한 확인
-        validateFolderCountLimit(userId);
+        Long currentCount = validateFolderCountLimit(userId);
         
         // 폴더명 중복 확인
         validateFolderNameNotDuplicated(userId, name);
         
-        // 폴더 생성
+        // 폴더 생성 (목록 마지막 순서)
         ScrapFolder folder = ScrapFolder.create(userId, name, description);
+        folder.assignDisplayOrder(currentCount.intValue());
         ScrapFolder savedFolder = scrapFolderRepository.save(folder);
         
         log.info("스크랩 폴더 생성 완료. folderId: {}", savedFolder.getId());
@@ -102,14 +106,10 @@ public class ScrapFolderService {
             throw new IllegalStateException("기본 폴더는 삭제할 수 없습니다.");
         }
         
-        // 폴더 내 스크랩 존재 확인
-        Long scrapCount = postScrapRepository.countByScrapFolderId(folderId);
-        if (scrapCount > 0) {
-            // 기본 폴더로 스크랩 이동
-            moveScrapToDefaultFolder(userId, folderId);
-        }
+        // 기본 폴더로 스크랩 이동 (scrap_count는 보정 전까지 어긋날 수 있으므로 확인 없이 항상 실행)
+        moveScrapToDefaultFolder(userId, folderId);
         
-        // 폴더 삭제
+        // 폴더 삭제 (벌크 UPDATE로 영속성 컨텍스트가 비워졌을 수 있으므로 ID로 삭제)
         scrapFolderRepository.deleteById(folderId);
         
         log.info("스크랩 폴더 삭제 완료. folderId: {}", folderId);
@@ -119,7 +119,7 @@ public class ScrapFolderService {
      * 사용자의 모든 스크랩 폴더 조회
      */
     public List<ScrapFolder> getUserScrapFolders(Long userId) {
-        return scrapFolderRepository.findByUserIdOrderByCreatedAtAsc(userId);
+        return scrapFolderRepository.findByUserIdOrderByDisplayOrderAscCreatedAtAsc(userId);
     }
 
     /**
@@ -139,10 +139,12 @@ public class ScrapFolderService {
     }
 
     /**
-     * 스크랩 개수와 함께 폴더 조회
+     * 스크랩 개수와 함께 폴더 조회 (비정규화된 scrap_count 사용, 집계 쿼리 없음)
      */
     public List<Object[]> getUserFoldersWithScrapCount(Long userId) {
-        return scrapFolderRepository.findFoldersWithScrapCountByUserId(userId);
+        return scrapFolderRepository.findByUserIdOrderByDisplayOrderAscCreatedAtAsc(userId).stream()
+                .map(folder -> new Object[]{folder, folder.getScrapCount()})
+                .toList();
     }
 
     /**
@@ -184,22 +186,24 @@ public class ScrapFolderService {
 
     /**
      * 폴더 내 스크랩을 기본 폴더로 이동
+     * 스크랩 수와 관계없이 UPDATE 한 번으로 이동 (영속성 컨텍스트는 비워짐)
      */
     @Transactional
     public void moveScrapToDefaultFolder(Long userId, Long fromFolderId) {
         log.info("스크랩을 기본 폴더로 이동. userId: {}, fromFolderId: {}", userId, fromFolderId);
         
         // 기본 폴더 조회 또는 생성
-        ScrapFolder defaultFolder = getUserDefaultFolder(userId);
-        
-        // 해당 폴더의 모든 스크랩 조회
-        List<PostScrap> scraps = postScrapRepository.findByScrapFolderIdOrderByCreatedAtDesc(
-                fromFolderId, null).getContent(); // 모든 스크랩 조회
+        Long defaultFolderId = getUserDefaultFolder(userId).getId();
+        if (defaultFolderId.equals(fromFolderId)) {
+            return;
+        }
         
-        // 각 스크랩의 폴더를 기본 폴더로 변경
-        scraps.forEach(scrap -> scrap.updateScrapFolder(defaultFolder));
+        // 폴더 단위 일괄 이동
+        int moved = postScrapRepository.moveAllToFolder(fromFolderId, defaultFolderId);
+        scrapFolderRepository.adjustScrapCount(defaultFolderId, moved);
+        scrapFolderRepository.adjustScrapCount(fromFolderId, -moved);
         
-        log.info("스크랩 이동 완료. 이동된 스크랩 수: {}", scraps.size());
+        log.info("스크랩 이동 완료. 이동된 스크랩 수: {}", moved);
     }
 
     /**
@@ -212,14 +216,15 @@ public class ScrapFolderService {
     }
 
     /**
-     * 폴더 개수 제한 확인
+     * 폴더 개수 제한 확인 (현재 폴더 수 반환)
      */
-    private void validateFolderCountLimit(Long userId) {
+    private Long validateFolderCountLimit(Long userId) {
         Long currentCount = scrapFolderRepository.countByUserId(userId);
         if (currentCount >= MAX_FOLDERS_PER_USER) {
             throw new IllegalStateException(
                 String.format("폴더는 최대 %d개까지 생성할 수 있습니다.", MAX_FOLDERS_PER_USER));
         }
+        return currentCount;
     }
 
     /**
@@ -254,9 +259,14 @@ public class ScrapFolderService {
             throw new IllegalStateException("기본 폴더는 삭제할 수 없습니다.");
         }
 
-        Long scrapCount = postScrapRepository.countByScrapFolderId(folderId);
-        if (scrapCount > 0 && moveToDefault) {
+        // scrap_count는 보정 전까지 어긋날 수 있으므로 확인 없이 항상 일괄 처리
+        if (moveToDefault) {
             moveScrapToDefaultFolder(userId, folderId);
+        } else {
+            // 게시글 스크랩 수 차감 후 폴더의 스크랩 일괄 삭제
+            postScrapRepository.decrementPostScrapCountsByFolderId(folderId);
+            int deleted = postScrapRepository.deleteByScrapFolderId(folderId);
+            log.info("폴더 내 스크랩 삭제. folderId: {}, 삭제된 스크랩 수: {}", folderId, deleted);
         }
 
         scrapFolderRepository.deleteById(folderId);
@@ -292,28 +302,35 @@ public class ScrapFolderService {
         ScrapFolder folder = getScrapFolderById(folderId);
         validateFolderOwnership(folder, userId);
 
-        // TODO: ScrapFolder에 isPublic 필드와 togglePublic 메서드가 있다고 가정
-        // 실제 구현은 도메인 모델에 따라 달라질 수 있음
-        boolean isPublic = false; // 임시값
+        boolean isPublic = !folder.getIsPublic();
+        folder.changeVisibility(isPublic);
         log.info("폴더 공개 상태 변경 완료. isPublic: {}", isPublic);
         return isPublic;
     }
 
     /**
      * 폴더 순서 변경
+     * 소유권은 COUNT 한 번으로 확인하고 순서는 CASE 기반 UPDATE 한 번으로 반영
      */
     @Transactional
     public void reorderFolders(Long userId, List<Long> folderIds) {
         log.info("폴더 순서 변경. userId: {}, folderCount: {}", userId, folderIds.size());
 
-        for (int i = 0; i < folderIds.size(); i++) {
-            Long folderId = folderIds.get(i);
-            ScrapFolder folder = getScrapFolderById(folderId);
-            validateFolderOwnership(folder, userId);
-            // TODO: ScrapFolder에 displayOrder 필드와 updateOrder 메서드 필요
+        List<Long> distinctIds = folderIds.stream().distinct().toList();
+        if (distinctIds.size() != folderIds.size()) {
+            throw new IllegalArgumentException("폴더 목록에 중복된 폴더가 있습니다.");
+        }
+        if (distinctIds.isEmpty()) {
+            return;
+        }
+
+        // 목록의 모든 폴더가 존재하고 본인 소유인지 확인
+        if (scrapFolderRepository.countByUserIdAndIdIn(userId, distinctIds) != distinctIds.size()) {
+            throw new IllegalArgumentException("다른 사용자의 폴더에는 접근할 수 없습니다.");
         }
 
-        log.info("폴더 순서 변경 완료");
+        long updated = scrapFolderRepository.reorderFolders(userId, distinctIds);
+        log.info("폴더 순서 변경 완료. 변경된 폴더 수: {}", updated);
     }
 
     /**
@@ -329,8 +346,7 @@ public class ScrapFolderService {
      */
     public Page<ScrapFolder> getPublicFolders(Pageable pageable) {
         log.info("공개 폴더 목록 조회");
-        // TODO: Repository에 findByIsPublicTrue 메서드 필요
-        return new PageImpl<>(List.of(), pageable, 0);
+        return scrapFolderRepository.findByIsPublicTrue(pageable);
     }
 
     /**
@@ -338,17 +354,30 @@ public class ScrapFolderService {
      */
     public List<ScrapFolder> getUserPublicFolders(Long userId) {
         log.info("사용자 공개 폴더 조회. userId: {}", userId);
-        // TODO: Repository에 findByUserIdAndIsPublicTrue 메서드 필요
-        return List.of();
+        return scrapFolderRepository.findByUserIdAndIsPublicTrueOrderByDisplayOrderAscCreatedAtAsc(userId);
     }
 
     /**
-     * 인기 공개 폴더 조회
+     * 인기 공개 폴더 조회 (미리 계산된 기간별 순위 사용, 해당 페이지 폴더만 ID로 조회)
      */
     public Page<ScrapFolder> getPopularPublicFolders(int days, Pageable pageable) {
         log.info("인기 공개 폴더 조회. days: {}", days);
-        // TODO: Repository에 인기도 기반 조회 메서드 필요
-        return new PageImpl<>(List.of(), pageable, 0);
+
+        PopularScrapFolderRanking.Ranking ranking = popularFolderRanking.getRanking(days);
+        List<Long> folderIds = ranking.slice(pageable.getOffset(), pageable.getPageSize());
+        if (folderIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranking.size());
+        }
+
+        // 순위 순서 유지, 순위 계산 이후 비공개로 바뀐 폴더는 제외
+        Map<Long, ScrapFolder> folders = scrapFolderRepository.findAllById(folderIds).stream()
+                .collect(Collectors.toMap(ScrapFolder::getId, Function.identity()));
+        List<ScrapFolder> content = folderIds.stream()
+                .map(folders::get)
+                .filter(folder -> folder != null && folder.getIsPublic())
+                .toList();
+
+        return new PageImpl<>(content, pageable, ranking.size());
     }
 
     /**
@@ -364,8 +393,10 @@ public class ScrapFolderService {
      */
     public Object[] getAdminFolderStatistics(int days) {
         log.info("관리자 폴더 통계 조회. days: {}", days);
-        // TODO: 통계 조회 로직 구현 필요
-        return new Object[]{0L, 0L, 0L};
+
+        // [기간 내 활동 폴더 수, 기간 내 스크랩 수, 인기 공개 폴더 수]
+        long[] activity = popularFolderRanking.getActivityStatistics(days);
+        return new Object[]{activity[0], activity[1], (long) popularFolderRanking.getRanking(days).size()};
     }
 
     /**
@@ -381,13 +412,15 @@ public class ScrapFolderService {
 
     /**
      * 폴더 생성 (Controller용 래퍼)
-     * isPublic 파라미터는 현재 도메인에서 미지원으로 무시됨
      */
     @Transactional
     public ScrapFolder createFolder(Long userId, String name, String description, Boolean isPublic) {
         log.info("스크랩 폴더 생성 (Controller). userId: {}, name: {}", userId, name);
-        // isPublic 파라미터는 현재 미구현으로 무시
-        return createScrapFolder(userId, name, description);
+        ScrapFolder folder = createScrapFolder(userId, name, description);
+        if (Boolean.TRUE.equals(isPublic)) {
+            folder.changeVisibility(true);
+        }
+        return folder;
     }
 
     /**
@@ -408,12 +441,13 @@ public class ScrapFolderService {
 
     /**
      * 폴더 수정 (Controller용 래퍼)
-     * isPublic 파라미터는 현재 도메인에서 미지원으로 무시됨
      */
     @Transactional
     public void updateFolder(Long folderId, Long userId, String name, String description, Boolean isPublic) {
         log.info("스크랩 폴더 수정 (Controller). folderId: {}, userId: {}", folderId, userId);
-        // isPublic 파라미터는 현재 미구현으로 무시
         updateScrapFolder(folderId, userId, name, description);
+        if (isPublic != null) {
+            getScrapFolderById(folderId).changeVisibility(isPublic);
+        }
     }
 }
\ No newline at end of file
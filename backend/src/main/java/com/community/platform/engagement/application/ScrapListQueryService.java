@@ -0,0 +1,179 @@
+package com.community.platform.engagement.application;
+
+import com.community.platform.content.application.ContentMapper;
+import com.community.platform.content.dto.CategoryResponse;
+import com.community.platform.content.domain.PostTag;
+import com.community.platform.content.dto.PostSummaryResponse;
+import com.community.platform.content.dto.TagResponse;
+import com.community.platform.content.infrastructure.persistence.PostTagRepository;
+import com.community.platform.engagement.domain.PostScrap;
+import com.community.platform.engagement.dto.PostScrapResponse;
+import com.community.platform.engagement.infrastructure.persistence.PostScrapRepository;
+import com.community.platform.engagement.infrastructure.persistence.PostScrapRepositoryCustom.ScrapListRow;
+import com.community.platform.shared.dto.CursorResponse;
+import com.community.platform.user.dto.UserSummaryResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 스크랩 목록 조회 서비스 (읽기 모델)
+ * 페이지 단위로 게시글, 작성자, 카테고리, 폴더를 조인 쿼리 한 번으로 채워 응답 구성
+ * 태그와 좋아요 여부는 페이지의 게시글 ID로 한 번씩 일괄 조회
+ * - 무한 스크롤용 키셋 페이징: (created_at, id) 기준, 불투명 커서 문자열 사용
+ * - 기존 오프셋 페이징 결과도 같은 방식으로 보강
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScrapListQueryService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final PostScrapRepository postScrapRepository;
+    private final ContentMapper contentMapper;
+    private final EngagementMapper engagementMapper;
+    private final PostTagRepository postTagRepository;
+    private final PostLikeService postLikeService;
+
+    /**
+     * 커서 기반 스크랩 목록 조회
+     * @param scrapFolderId 폴더별 조회 시 폴더 ID (전체 목록이면 null)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public CursorResponse<PostScrapResponse> getScrapList(Long userId, Long scrapFolderId, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        ScrapCursor position = ScrapCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<ScrapListRow> rows = postScrapRepository.findScrapListByCursor(userId, scrapFolderId,
+                position != null ? position.createdAt() : null,
+                position != null ? position.id() : null,
+                limit + 1);
+
+        boolean hasNext = rows.size() > limit;
+        List<ScrapListRow> pageRows = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostScrap last = pageRows.get(pageRows.size() - 1).scrap();
+            nextCursor = new ScrapCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        PageDetails details = loadDetails(userId, pageRows);
+        return new CursorResponse<>(pageRows.stream().map(row -> toResponse(row, details)).toList(), nextCursor);
+    }
+
+    /**
+     * 오프셋 페이징으로 조회한 스크랩 목록에 게시글/작성자/폴더 정보 채우기
+     */
+    public Page<PostScrapResponse> hydrate(Page<PostScrap> scraps) {
+        List<Long> scrapIds = scraps.getContent().stream().map(PostScrap::getId).toList();
+        Map<Long, ScrapListRow> rows = postScrapRepository.findScrapListByIds(scrapIds).stream()
+                .collect(Collectors.toMap(row -> row.scrap().getId(), Function.identity()));
+        Long userId = scraps.getContent().isEmpty() ? null : scraps.getContent().get(0).getUserId();
+        PageDetails details = loadDetails(userId, rows.values());
+
+        return scraps.map(scrap -> {
+            ScrapListRow row = rows.get(scrap.getId());
+            // 게시글이 없는 스크랩은 기본 정보만 반환
+            return row != null ? toResponse(row, details) : PostScrapResponse.builder()
+                    .id(scrap.getId())
+                    .postId(scrap.getPostId())
+                    .userId(scrap.getUserId())
+                    .createdAt(scrap.getCreatedAt())
+                    .build();
+        });
+    }
+
+    // 페이지 게시글의 태그와 좋아요 여부 일괄 조회
+    private PageDetails loadDetails(Long userId, Collection<ScrapListRow> rows) {
+        List<Long> postIds = rows.stream().map(row -> row.post().getId()).distinct().toList();
+        if (postIds.isEmpty()) {
+            return new PageDetails(Map.of(), Set.of());
+        }
+
+        Map<Long, List<TagResponse>> tagsByPostId = new HashMap<>();
+        for (PostTag postTag : postTagRepository.findByPostIdInWithTag(postIds)) {
+            tagsByPostId.computeIfAbsent(postTag.getPost().getId(), id -> new ArrayList<>())
+                    .add(contentMapper.toTagResponse(postTag.getTag()));
+        }
+        return new PageDetails(tagsByPostId, postLikeService.getLikedPostIds(userId, postIds));
+    }
+
+    private PostScrapResponse toResponse(ScrapListRow row, PageDetails details) {
+        PostScrap scrap = row.scrap();
+
+        UserSummaryResponse author = row.authorId() != null
+                ? UserSummaryResponse.builder()
+                        .id(row.authorId())
+                        .nickname(row.authorNickname())
+                        .profileImageUrl(row.authorProfileImageUrl())
+                        .build()
+                : null;
+        CategoryResponse category = row.post().getCategory() != null
+                ? contentMapper.toCategoryResponse(row.post().getCategory())
+                : null;
+
+        // 본인 스크랩 목록이므로 스크랩 여부는 항상 true
+        Long postId = row.post().getId();
+        PostSummaryResponse post = contentMapper.toPostSummaryResponseWithDetails(
+                row.post(), author, category, details.tagsByPostId().getOrDefault(postId, List.of()),
+                details.likedPostIds().contains(postId), true);
+
+        return PostScrapResponse.builder()
+                .id(scrap.getId())
+                .postId(scrap.getPostId())
+                .userId(scrap.getUserId())
+                .folderId(scrap.getScrapFolder() != null ? scrap.getScrapFolder().getId() : null)
+                .post(post)
+                .scrapFolder(scrap.getScrapFolder() != null
+                        ? engagementMapper.toScrapFolderResponse(scrap.getScrapFolder())
+                        : null)
+                .createdAt(scrap.getCreatedAt())
+                .build();
+    }
+
+    private record PageDetails(Map<Long, List<TagResponse>> tagsByPostId, Set<Long> likedPostIds) {
+    }
+
+    /**
+     * 스크랩 목록 커서 ("생성시간_ID"를 URL-safe Base64로 인코딩)
+     */
+    private record ScrapCursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "_" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static ScrapCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('_');
+                return new ScrapCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.community.platform.engagement.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 좋아요 수 샤드 엔티티
+ * 좋아요 증감을 게시글 행 대신 여러 샤드 행에 분산 기록하고, 압축 작업이 posts.like_count로 합산
+ * 실제 좋아요 수 = posts.like_count + 샤드 delta 합계
+ */
+@Entity
+@Table(name = "post_like_count_shards",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_like_count_shard_post_shard", columnNames = {"post_id", "shard_no"})
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostLikeCountShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Long delta = 0L;
+}
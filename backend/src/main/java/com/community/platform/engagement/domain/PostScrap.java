@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "post_scraps",
        indexes = {
-           @Index(name = "idx_post_scrap_user_created", columnList = "user_id, created_at"),
+           @Index(name = "idx_post_scrap_user_created", columnList = "user_id, created_at, id"),
+           @Index(name = "idx_post_scrap_folder_created", columnList = "scrap_folder_id, created_at, id"),
            @Index(name = "idx_post_scrap_user_post", columnList = "user_id, post_id")
        })
 @Getter
@@ -35,12 +36,13 @@ public class PostScrap extends AggregateRoot {
     public static PostScrap create(Long postId, Long userId, ScrapFolder scrapFolder, Long postAuthorId) {
         PostScrap scrap = new PostScrap(postId, userId, scrapFolder);
 
-        // 스크랩 생성 이벤트 발행 (알림용)
+        // 스크랩 생성 이벤트 발행 (알림, 인기 폴더 집계용)
         scrap.addDomainEvent(new ScrapCreatedEvent(
                 scrap.getId(),
                 postId,
                 postAuthorId,
-                userId
+                userId,
+                scrapFolder != null ? scrapFolder.getId() : null
         ));
 
         return scrap;
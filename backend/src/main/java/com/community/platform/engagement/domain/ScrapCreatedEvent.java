@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 
 /**
  * 스크랩 생성 도메인 이벤트
- * 알림 시스템에서 사용
+ * 알림 시스템, 인기 공개 폴더 집계에서 사용
  */
 @Getter
 @RequiredArgsConstructor
@@ -18,5 +18,6 @@ public class ScrapCreatedEvent implements DomainEvent {
     private final Long postId;
     private final Long postAuthorId;  // 게시글 작성자 ID
     private final Long userId;  // 스크랩한 사용자 ID
+    private final Long scrapFolderId;  // 스크랩이 담긴 폴더 ID (인기 폴더 집계용)
     private final LocalDateTime occurredOn = LocalDateTime.now();
 }
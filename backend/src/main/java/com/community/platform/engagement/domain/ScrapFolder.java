@@ -5,14 +5,17 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "scrap_folders",
        indexes = {
-           @Index(name = "idx_scrap_folder_user", columnList = "user_id, created_at")
+           @Index(name = "idx_scrap_folder_user", columnList = "user_id, created_at"),
+           @Index(name = "idx_scrap_folder_public", columnList = "is_public, created_at")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate // scrapCount는 원자적 UPDATE로 관리되므로 변경된 컬럼만 갱신
 public class ScrapFolder extends BaseEntity {
 
     @Column(name = "user_id", nullable = false)
@@ -27,6 +30,15 @@ public class ScrapFolder extends BaseEntity {
     @Column(name = "is_default", nullable = false)
     private Boolean isDefault = false;
 
+    @Column(name = "is_public", nullable = false)
+    private Boolean isPublic = false;  // 공개 여부 (공개 폴더는 다른 사용자에게 노출)
+
+    @Column(name = "scrap_count", nullable = false)
+    private Long scrapCount = 0L;  // 폴더 내 스크랩 수 (비정규화)
+
+    @Column(name = "display_order", nullable = false)
+    private Integer displayOrder = 0;  // 폴더 목록 표시 순서
+
     private ScrapFolder(Long userId, String name, String description, Boolean isDefault) {
         this.userId = userId;
         this.name = name;
@@ -42,6 +54,14 @@ public class ScrapFolder extends BaseEntity {
         return new ScrapFolder(userId, "기본 폴더", "기본 스크랩 폴더", true);
     }
 
+    public void assignDisplayOrder(int displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
+    public void changeVisibility(boolean isPublic) {
+        this.isPublic = isPublic;
+    }
+
     public void updateInfo(String name, String description) {
         validateName(name);
         this.name = name;
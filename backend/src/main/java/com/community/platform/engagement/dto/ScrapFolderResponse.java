@@ -23,6 +23,8 @@ public class ScrapFolderResponse {
     
     private Boolean isDefault; // 기본 폴더 여부
     
+    private Boolean isPublic; // 공개 여부
+    
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt; // 생성 시간
     
@@ -0,0 +1,144 @@
+package com.community.platform.engagement.infrastructure.memory;
+
+import com.community.platform.engagement.application.LikeStateStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 단일 노드용 인메모리 좋아요 상태 저장소
+ * 게시글별 사용자 ID를 정렬된 long 배열로 보관 (박싱 없이 이진 탐색)
+ * 최근 사용 순으로 최대 게시글 수를 넘으면 오래된 게시글부터 제거 (다음 조회 시 재적재)
+ * 노드 간 상태를 공유하지 않으므로 community.like.store=local로 명시한 단일 노드 환경에서만 사용
+ */
+@Component
+@ConditionalOnProperty(name = "community.like.store", havingValue = "local")
+public class LocalLikeStateStore implements LikeStateStore {
+
+    private static final int MAX_POSTS = 10000;
+
+    private final Map<Long, PostLikeSet> posts = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, PostLikeSet> eldest) {
+            return size() > MAX_POSTS;
+        }
+    };
+
+    @Override
+    public LikeState apply(Long postId, Long userId, LikeOperation operation) {
+        PostLikeSet likeSet = get(postId);
+        return likeSet != null ? likeSet.apply(userId, operation) : null;
+    }
+
+    @Override
+    public Boolean isLiked(Long postId, Long userId) {
+        PostLikeSet likeSet = get(postId);
+        return likeSet != null ? likeSet.contains(userId) : null;
+    }
+
+    @Override
+    public Map<Long, Boolean> isLiked(Long postId, Collection<Long> userIds) {
+        PostLikeSet likeSet = get(postId);
+        if (likeSet == null) {
+            return null;
+        }
+        Map<Long, Boolean> liked = new HashMap<>();
+        userIds.forEach(userId -> liked.put(userId, likeSet.contains(userId)));
+        return liked;
+    }
+
+    @Override
+    public Long count(Long postId) {
+        PostLikeSet likeSet = get(postId);
+        return likeSet != null ? likeSet.size() : null;
+    }
+
+    @Override
+    public void load(Long postId, Collection<Long> userIds) {
+        long[] sorted = userIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        synchronized (posts) {
+            posts.putIfAbsent(postId, new PostLikeSet(sorted));
+        }
+    }
+
+    @Override
+    public void evict(Long postId) {
+        synchronized (posts) {
+            posts.remove(postId);
+        }
+    }
+
+    // 상태가 노드 메모리에만 있어 중단 시 함께 사라지므로 저장 대기 표시는 남기지 않음
+    @Override
+    public void markPending(Long postId, Long userId) {
+    }
+
+    @Override
+    public List<PendingLike> findPendingBefore(long beforeMillis, int limit) {
+        return List.of();
+    }
+
+    @Override
+    public void clearPending(Collection<PendingLike> likes, long readAtMillis) {
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private PostLikeSet get(Long postId) {
+        synchronized (posts) {
+            return posts.get(postId);
+        }
+    }
+
+    /**
+     * 게시글 하나의 좋아요 사용자 집합
+     */
+    private static final class PostLikeSet {
+        private long[] userIds;
+        private int size;
+
+        PostLikeSet(long[] sortedUserIds) {
+            this.userIds = sortedUserIds;
+            this.size = sortedUserIds.length;
+        }
+
+        synchronized LikeState apply(long userId, LikeOperation operation) {
+            int index = Arrays.binarySearch(userIds, 0, size, userId);
+            boolean liked = index >= 0;
+
+            if (liked && operation != LikeOperation.ADD) {
+                System.arraycopy(userIds, index + 1, userIds, index, size - index - 1);
+                size--;
+                return new LikeState(true, false, size);
+            }
+            if (!liked && operation != LikeOperation.REMOVE) {
+                int insertAt = -index - 1;
+                if (size == userIds.length) {
+                    userIds = Arrays.copyOf(userIds, Math.max(8, size * 2));
+                }
+                System.arraycopy(userIds, insertAt, userIds, insertAt + 1, size - insertAt);
+                userIds[insertAt] = userId;
+                size++;
+                return new LikeState(true, true, size);
+            }
+            return new LikeState(false, liked, size);
+        }
+
+        synchronized boolean contains(long userId) {
+            return Arrays.binarySearch(userIds, 0, size, userId) >= 0;
+        }
+
+        synchronized long size() {
+            return size;
+        }
+    }
+}
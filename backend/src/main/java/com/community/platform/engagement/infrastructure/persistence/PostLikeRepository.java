@@ -21,6 +21,10 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     // 특정 사용자와 게시글의 좋아요 존재 여부 확인 (좋아요 중복 체크용)
     boolean existsByUserIdAndPostId(Long userId, Long postId);
     
+    // 특정 게시글을 좋아요한 사용자 ID 목록 조회 (좋아요 상태 저장소 적재용)
+    @Query("SELECT pl.userId FROM PostLike pl WHERE pl.postId = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+    
     // 특정 게시글의 좋아요 개수 조회 (게시글 상세 페이지용)
     @Query("SELECT COUNT(pl) FROM PostLike pl WHERE pl.postId = :postId")
     Long countByPostId(@Param("postId") Long postId);
@@ -4,6 +4,7 @@ import com.community.platform.engagement.domain.PostScrap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,7 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PostScrapRepository extends JpaRepository<PostScrap, Long> {
+public interface PostScrapRepository extends JpaRepository<PostScrap, Long>, PostScrapRepositoryCustom {
 
     // 특정 사용자와 게시글의 스크랩 조회 (스크랩 상태 확인용)
     Optional<PostScrap> findByUserIdAndPostId(Long userId, Long postId);
@@ -71,8 +72,23 @@ public interface PostScrapRepository extends JpaRepository<PostScrap, Long> {
     // 특정 사용자의 모든 스크랩 삭제 (회원 탈퇴 시 사용)
     void deleteByUserId(Long userId);
     
-    // 특정 폴더의 모든 스크랩 삭제 (폴더 삭제 시 사용)
-    void deleteByScrapFolderId(Long scrapFolderId);
+    // 특정 폴더의 모든 스크랩 삭제 (폴더 삭제 시 사용, 단일 DELETE)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PostScrap ps WHERE ps.scrapFolder.id = :scrapFolderId")
+    int deleteByScrapFolderId(@Param("scrapFolderId") Long scrapFolderId);
+    
+    // 폴더의 모든 스크랩을 다른 폴더로 이동 (폴더 삭제/정리 시 사용, 단일 UPDATE)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE post_scraps SET scrap_folder_id = :toFolderId, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE scrap_folder_id = :fromFolderId", nativeQuery = true)
+    int moveAllToFolder(@Param("fromFolderId") Long fromFolderId, @Param("toFolderId") Long toFolderId);
+    
+    // 폴더에 담긴 게시글들의 스크랩 수 일괄 감소 (폴더째 스크랩 삭제 전 호출)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE posts SET scrap_count = scrap_count - 1 " +
+                   "WHERE scrap_count > 0 AND id IN (SELECT post_id FROM post_scraps WHERE scrap_folder_id = :scrapFolderId)",
+           nativeQuery = true)
+    int decrementPostScrapCountsByFolderId(@Param("scrapFolderId") Long scrapFolderId);
     
     // 스크랩 폴더 변경 (스크랩을 다른 폴더로 이동)
     @Query("SELECT ps FROM PostScrap ps WHERE ps.userId = :userId AND ps.postId IN :postIds")
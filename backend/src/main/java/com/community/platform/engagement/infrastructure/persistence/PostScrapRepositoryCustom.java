@@ -0,0 +1,35 @@
+package com.community.platform.engagement.infrastructure.persistence;
+
+import com.community.platform.content.domain.Post;
+import com.community.platform.engagement.domain.PostScrap;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스크랩 목록 조회용 커스텀 Repository
+ * 스크랩, 게시글, 카테고리, 폴더, 작성자를 조인 쿼리 한 번으로 조회
+ */
+public interface PostScrapRepositoryCustom {
+
+    /**
+     * 키셋 페이징 스크랩 목록 조회 ((created_at, id) 내림차순)
+     * @param scrapFolderId 폴더 조건 (전체 목록이면 null)
+     * @param cursorCreatedAt 이전 페이지 마지막 스크랩의 생성 시간 (첫 페이지면 null)
+     * @param cursorId 이전 페이지 마지막 스크랩 ID (첫 페이지면 null)
+     */
+    List<ScrapListRow> findScrapListByCursor(Long userId, Long scrapFolderId,
+                                             LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * 주어진 스크랩들의 목록 표시 정보 조회 (오프셋 페이징 결과 보강용)
+     */
+    List<ScrapListRow> findScrapListByIds(List<Long> scrapIds);
+
+    /**
+     * 스크랩 목록 한 행 (폴더와 카테고리는 함께 로딩됨)
+     */
+    record ScrapListRow(PostScrap scrap, Post post, Long authorId,
+                        String authorNickname, String authorProfileImageUrl) {
+    }
+}
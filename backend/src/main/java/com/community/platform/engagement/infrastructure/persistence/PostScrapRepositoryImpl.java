@@ -0,0 +1,88 @@
+package com.community.platform.engagement.infrastructure.persistence;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.community.platform.content.domain.QCategory.category;
+import static com.community.platform.content.domain.QPost.post;
+import static com.community.platform.engagement.domain.QPostScrap.postScrap;
+import static com.community.platform.engagement.domain.QScrapFolder.scrapFolder;
+import static com.community.platform.user.domain.QUser.user;
+import static com.community.platform.user.domain.QUserProfile.userProfile;
+
+/**
+ * QueryDSL을 사용한 스크랩 목록 커스텀 Repository 구현체
+ * 작성자는 엔티티 대신 필요한 컬럼만 조회 (User.profile 역방향 연관 추가 조회 방지)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostScrapRepositoryImpl implements PostScrapRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<ScrapListRow> findScrapListByCursor(Long userId, Long scrapFolderId,
+                                                    LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        List<Predicate> conditions = new ArrayList<>();
+        conditions.add(postScrap.userId.eq(userId));
+        if (scrapFolderId != null) {
+            conditions.add(postScrap.scrapFolder.id.eq(scrapFolderId));
+        }
+        if (cursorCreatedAt != null && cursorId != null) {
+            // (created_at, id) < (:cursorCreatedAt, :cursorId)
+            conditions.add(postScrap.createdAt.lt(cursorCreatedAt)
+                    .or(postScrap.createdAt.eq(cursorCreatedAt).and(postScrap.id.lt(cursorId))));
+        }
+
+        return selectScrapList(conditions.toArray(Predicate[]::new))
+                .orderBy(postScrap.createdAt.desc(), postScrap.id.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(this::toRow)
+                .toList();
+    }
+
+    @Override
+    public List<ScrapListRow> findScrapListByIds(List<Long> scrapIds) {
+        if (scrapIds.isEmpty()) {
+            return List.of();
+        }
+
+        return selectScrapList(postScrap.id.in(scrapIds))
+                .fetch()
+                .stream()
+                .map(this::toRow)
+                .toList();
+    }
+
+    // 스크랩 + 폴더 + 게시글 + 카테고리 + 작성자(프로필 이미지 포함) 조인
+    private JPAQuery<Tuple> selectScrapList(Predicate... conditions) {
+        return queryFactory
+                .select(postScrap, post, user.id, user.nickname, userProfile.profileImageUrl)
+                .from(postScrap)
+                .leftJoin(postScrap.scrapFolder, scrapFolder).fetchJoin()
+                .join(post).on(post.id.eq(postScrap.postId))
+                .leftJoin(post.category, category).fetchJoin()
+                .leftJoin(user).on(user.id.eq(post.authorId))
+                .leftJoin(userProfile).on(userProfile.user.id.eq(user.id))
+                .where(conditions);
+    }
+
+    private ScrapListRow toRow(Tuple tuple) {
+        return new ScrapListRow(
+                tuple.get(postScrap),
+                tuple.get(post),
+                tuple.get(user.id),
+                tuple.get(user.nickname),
+                tuple.get(userProfile.profileImageUrl));
+    }
+}
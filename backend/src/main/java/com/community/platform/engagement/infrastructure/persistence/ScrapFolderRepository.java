@@ -1,20 +1,41 @@
 package com.community.platform.engagement.infrastructure.persistence;
 
 import com.community.platform.engagement.domain.ScrapFolder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ScrapFolderRepository extends JpaRepository<ScrapFolder, Long> {
+public interface ScrapFolderRepository extends JpaRepository<ScrapFolder, Long>, ScrapFolderRepositoryCustom {
 
     // 특정 사용자의 모든 스크랩 폴더 조회 (마이페이지 폴더 목록용)
     List<ScrapFolder> findByUserIdOrderByCreatedAtAsc(Long userId);
     
+    // 특정 사용자의 모든 스크랩 폴더를 표시 순서대로 조회 (폴더 목록 화면용)
+    List<ScrapFolder> findByUserIdOrderByDisplayOrderAscCreatedAtAsc(Long userId);
+    
+    // 공개 폴더 목록 조회 (폴더 탐색용)
+    Page<ScrapFolder> findByIsPublicTrue(Pageable pageable);
+    
+    // 특정 사용자의 공개 폴더 조회 (다른 사용자 프로필용)
+    List<ScrapFolder> findByUserIdAndIsPublicTrueOrderByDisplayOrderAscCreatedAtAsc(Long userId);
+    
+    // 주어진 폴더 중 공개 폴더 ID만 조회 (인기 폴더 랭킹 필터링용)
+    @Query("SELECT sf.id FROM ScrapFolder sf WHERE sf.id IN :folderIds AND sf.isPublic = true")
+    List<Long> findPublicIdsByIdIn(@Param("folderIds") Collection<Long> folderIds);
+    
+    // 사용자 소유 폴더 중 주어진 ID에 해당하는 폴더 수 (일괄 작업 소유권 확인용)
+    @Query("SELECT COUNT(sf) FROM ScrapFolder sf WHERE sf.userId = :userId AND sf.id IN :folderIds")
+    long countByUserIdAndIdIn(@Param("userId") Long userId, @Param("folderIds") List<Long> folderIds);
+    
     // 특정 사용자의 기본 스크랩 폴더 조회 (기본 폴더 찾기용)
     Optional<ScrapFolder> findByUserIdAndIsDefaultTrue(Long userId);
     
@@ -28,19 +49,16 @@ public interface ScrapFolderRepository extends JpaRepository<ScrapFolder, Long>
     @Query("SELECT COUNT(sf) FROM ScrapFolder sf WHERE sf.userId = :userId")
     Long countByUserId(@Param("userId") Long userId);
     
-    // 스크랩 개수와 함께 폴더 조회 (폴더별 스크랩 통계용)
-    @Query("SELECT sf, COUNT(ps) as scrapCount FROM ScrapFolder sf " +
-           "LEFT JOIN PostScrap ps ON ps.scrapFolder.id = sf.id " +
-           "WHERE sf.userId = :userId " +
-           "GROUP BY sf " +
-           "ORDER BY sf.createdAt ASC")
-    List<Object[]> findFoldersWithScrapCountByUserId(@Param("userId") Long userId);
-    
     // 빈 스크랩 폴더 조회 (사용하지 않는 폴더 정리용)
-    @Query("SELECT sf FROM ScrapFolder sf WHERE sf.userId = :userId AND " +
-           "NOT EXISTS (SELECT 1 FROM PostScrap ps WHERE ps.scrapFolder.id = sf.id)")
+    @Query("SELECT sf FROM ScrapFolder sf WHERE sf.userId = :userId AND sf.scrapCount = 0")
     List<ScrapFolder> findEmptyFoldersByUserId(@Param("userId") Long userId);
     
+    // 폴더 스크랩 수 증감 (스크랩 추가/취소/이동 시 호출)
+    @Modifying
+    @Query("UPDATE ScrapFolder sf SET sf.scrapCount = CASE WHEN sf.scrapCount + :delta < 0 THEN 0 " +
+           "ELSE sf.scrapCount + :delta END WHERE sf.id = :folderId")
+    void adjustScrapCount(@Param("folderId") Long folderId, @Param("delta") long delta);
+    
     // 특정 사용자의 모든 폴더 삭제 (회원 탈퇴 시 사용)
     void deleteByUserId(Long userId);
     
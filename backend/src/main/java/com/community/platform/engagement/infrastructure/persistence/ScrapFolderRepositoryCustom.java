@@ -0,0 +1,16 @@
+package com.community.platform.engagement.infrastructure.persistence;
+
+import java.util.List;
+
+/**
+ * 스크랩 폴더 커스텀 Repository
+ * 여러 행을 한 번에 변경하는 일괄 작업
+ */
+public interface ScrapFolderRepositoryCustom {
+
+    /**
+     * 폴더 표시 순서 일괄 변경 (목록 순서대로 0부터 부여, 단일 UPDATE)
+     * @return 변경된 폴더 수
+     */
+    long reorderFolders(Long userId, List<Long> orderedFolderIds);
+}
@@ -0,0 +1,48 @@
+package com.community.platform.engagement.infrastructure.persistence;
+
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.community.platform.engagement.domain.QScrapFolder.scrapFolder;
+
+/**
+ * QueryDSL을 사용한 스크랩 폴더 커스텀 Repository 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScrapFolderRepositoryImpl implements ScrapFolderRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    @Override
+    public long reorderFolders(Long userId, List<Long> orderedFolderIds) {
+        if (orderedFolderIds.isEmpty()) {
+            return 0;
+        }
+
+        // CASE id WHEN ? THEN 0 WHEN ? THEN 1 ... END
+        CaseBuilder.Cases<Integer, NumberExpression<Integer>> cases = new CaseBuilder()
+                .when(scrapFolder.id.eq(orderedFolderIds.get(0))).then(0);
+        for (int i = 1; i < orderedFolderIds.size(); i++) {
+            cases = cases.when(scrapFolder.id.eq(orderedFolderIds.get(i))).then(i);
+        }
+
+        // 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 전후로 동기화
+        entityManager.flush();
+        long updated = queryFactory.update(scrapFolder)
+                .set(scrapFolder.displayOrder, cases.otherwise(scrapFolder.displayOrder))
+                .where(scrapFolder.userId.eq(userId),
+                       scrapFolder.id.in(orderedFolderIds))
+                .execute();
+        entityManager.clear();
+
+        return updated;
+    }
+}
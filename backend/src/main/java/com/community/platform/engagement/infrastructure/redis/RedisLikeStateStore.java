@@ -0,0 +1,215 @@
+package com.community.platform.engagement.infrastructure.redis;
+
+import com.community.platform.engagement.application.LikeStateStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis Set 기반 좋아요 상태 저장소
+ * 게시글별 Set에 사용자 ID를 보관하고, 토글은 Lua 스크립트 한 번으로 상태 변경과 개수 조회를 처리
+ * - 적재 여부는 센티널 멤버(0)로 표시하여 좋아요가 없는 게시글도 적재 상태를 유지
+ * - 임시 키에 나누어 적재한 뒤 원자적으로 교체하여 적재 중 토글과 충돌하지 않음
+ * - DB 저장 대기 항목은 "게시글:사용자" → 표시 시각(Redis 서버 시각) Sorted Set에 보관
+ * - 모든 노드가 같은 상태를 보므로 설정이 없으면 이 저장소를 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "community.like.store", havingValue = "redis", matchIfMissing = true)
+public class RedisLikeStateStore implements LikeStateStore {
+
+    private static final String KEY_PREFIX = "post:like:{";
+    private static final String KEY_SUFFIX = "}:users";
+    private static final String LOADING_SUFFIX = "}:loading";
+    private static final String SENTINEL = "0"; // 사용자 ID는 1부터 발급됨
+    private static final Duration TTL = Duration.ofDays(3);
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final String PENDING_KEY = "post:like:pending";
+
+    private static final RedisScript<List> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0, 0} end " +
+            "local liked = redis.call('SISMEMBER', KEYS[1], ARGV[1]) " +
+            "local changed = 0 " +
+            "if liked == 1 and (ARGV[2] == 'TOGGLE' or ARGV[2] == 'REMOVE') then " +
+            "  redis.call('SREM', KEYS[1], ARGV[1]) liked = 0 changed = 1 " +
+            "elseif liked == 0 and (ARGV[2] == 'TOGGLE' or ARGV[2] == 'ADD') then " +
+            "  redis.call('SADD', KEYS[1], ARGV[1]) liked = 1 changed = 1 " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return {changed, liked, redis.call('SCARD', KEYS[1]) - 1}",
+            List.class);
+
+    private static final RedisScript<Long> IS_LIKED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "return redis.call('SISMEMBER', KEYS[1], ARGV[1])",
+            Long.class);
+
+    private static final RedisScript<List> IS_LIKED_ALL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {} end " +
+            "local result = {} " +
+            "for i = 1, #ARGV do result[i] = redis.call('SISMEMBER', KEYS[1], ARGV[i]) end " +
+            "return result",
+            List.class);
+
+    private static final RedisScript<Long> MARK_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local now = redis.call('TIME') " +
+            "return redis.call('ZADD', KEYS[1], now[1] * 1000 + math.floor(now[2] / 1000), ARGV[1])",
+            Long.class);
+
+    // 표시 시각이 ARGV[1]보다 이전인 항목만 제거
+    private static final RedisScript<Long> CLEAR_PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local removed = 0 " +
+            "for i = 2, #ARGV do " +
+            "  local markedAt = redis.call('ZSCORE', KEYS[1], ARGV[i]) " +
+            "  if markedAt and tonumber(markedAt) < tonumber(ARGV[1]) then " +
+            "    redis.call('ZREM', KEYS[1], ARGV[i]) removed = removed + 1 " +
+            "  end " +
+            "end " +
+            "return removed",
+            Long.class);
+
+    private static final RedisScript<Long> PUBLISH_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('DEL', KEYS[2]) return 0 end " +
+            "redis.call('RENAME', KEYS[2], KEYS[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public LikeState apply(Long postId, Long userId, LikeOperation operation) {
+        List<?> result = redisTemplate.execute(APPLY_SCRIPT, List.of(key(postId)),
+                String.valueOf(userId), operation.name(), String.valueOf(TTL.getSeconds()));
+
+        if (result == null || ((Number) result.get(0)).longValue() < 0) {
+            return null;
+        }
+        return new LikeState(
+                ((Number) result.get(0)).longValue() == 1,
+                ((Number) result.get(1)).longValue() == 1,
+                ((Number) result.get(2)).longValue()
+        );
+    }
+
+    @Override
+    public Boolean isLiked(Long postId, Long userId) {
+        Long result = redisTemplate.execute(IS_LIKED_SCRIPT, List.of(key(postId)), String.valueOf(userId));
+        if (result == null || result < 0) {
+            return null;
+        }
+        return result == 1;
+    }
+
+    @Override
+    public Map<Long, Boolean> isLiked(Long postId, Collection<Long> userIds) {
+        List<Long> members = List.copyOf(userIds);
+        List<?> result = redisTemplate.execute(IS_LIKED_ALL_SCRIPT, List.of(key(postId)),
+                members.stream().map(String::valueOf).toArray());
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Boolean> liked = new HashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            liked.put(members.get(i), ((Number) result.get(i)).longValue() == 1);
+        }
+        return liked;
+    }
+
+    @Override
+    public Long count(Long postId) {
+        Long size = redisTemplate.opsForSet().size(key(postId));
+        return size == null || size == 0 ? null : size - 1;
+    }
+
+    @Override
+    public void load(Long postId, Collection<Long> userIds) {
+        String loadingKey = KEY_PREFIX + postId + LOADING_SUFFIX;
+        redisTemplate.delete(loadingKey);
+        redisTemplate.opsForSet().add(loadingKey, SENTINEL);
+
+        List<String> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+        for (Long userId : userIds) {
+            chunk.add(String.valueOf(userId));
+            if (chunk.size() == LOAD_CHUNK_SIZE) {
+                redisTemplate.opsForSet().add(loadingKey, chunk.toArray(String[]::new));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            redisTemplate.opsForSet().add(loadingKey, chunk.toArray(String[]::new));
+        }
+
+        redisTemplate.execute(PUBLISH_LOADED_SCRIPT, List.of(key(postId), loadingKey),
+                String.valueOf(TTL.getSeconds()));
+        log.debug("좋아요 상태 적재. postId: {}, 좋아요 수: {}", postId, userIds.size());
+    }
+
+    @Override
+    public void evict(Long postId) {
+        redisTemplate.delete(key(postId));
+    }
+
+    @Override
+    public void markPending(Long postId, Long userId) {
+        redisTemplate.execute(MARK_PENDING_SCRIPT, List.of(PENDING_KEY), postId + ":" + userId);
+    }
+
+    @Override
+    public List<PendingLike> findPendingBefore(long beforeMillis, int limit) {
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(PENDING_KEY, 0, beforeMillis, 0, limit);
+        if (members == null) {
+            return List.of();
+        }
+
+        List<PendingLike> likes = new ArrayList<>(members.size());
+        for (String member : members) {
+            int separator = member.indexOf(':');
+            likes.add(new PendingLike(
+                    Long.valueOf(member.substring(0, separator)),
+                    Long.valueOf(member.substring(separator + 1))));
+        }
+        return likes;
+    }
+
+    @Override
+    public void clearPending(Collection<PendingLike> likes, long readAtMillis) {
+        if (likes.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(likes.size() + 1);
+        args.add(String.valueOf(readAtMillis));
+        likes.forEach(like -> args.add(like.postId() + ":" + like.userId()));
+        redisTemplate.execute(CLEAR_PENDING_SCRIPT, List.of(PENDING_KEY), args.toArray());
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        Long now = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        if (now == null) {
+            throw new IllegalStateException("Redis 서버 시각 조회 실패");
+        }
+        return now;
+    }
+
+    // 해시 태그로 같은 게시글의 키는 같은 클러스터 슬롯에 배치
+    private String key(Long postId) {
+        return KEY_PREFIX + postId + KEY_SUFFIX;
+    }
+}
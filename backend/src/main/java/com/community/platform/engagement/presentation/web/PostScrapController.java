@@ -1,17 +1,13 @@
 package com.community.platform.engagement.presentation.web;
 
-import com.community.platform.content.application.ContentMapper;
-import com.community.platform.content.domain.Post;
-import com.community.platform.content.dto.PostSummaryResponse;
-import com.community.platform.content.infrastructure.persistence.PostRepository;
 import com.community.platform.engagement.application.EngagementMapper;
 import com.community.platform.engagement.application.PostScrapService;
+import com.community.platform.engagement.application.ScrapListQueryService;
 import com.community.platform.engagement.domain.PostScrap;
-import com.community.platform.engagement.domain.ScrapFolder;
 import com.community.platform.engagement.dto.PostScrapRequest;
 import com.community.platform.engagement.dto.PostScrapResponse;
-import com.community.platform.engagement.dto.ScrapFolderResponse;
 import com.community.platform.shared.dto.ApiResponse;
+import com.community.platform.shared.dto.CursorResponse;
 import com.community.platform.shared.dto.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,10 +17,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
 /**
  * 게시글 스크랩 관리 REST API Controller
  * 게시글 스크랩/취소, 스크랩 폴더별 관리 엔드포인트 제공
@@ -36,9 +28,8 @@ import java.util.stream.Collectors;
 public class PostScrapController {
 
     private final PostScrapService postScrapService;
+    private final ScrapListQueryService scrapListQueryService;
     private final EngagementMapper engagementMapper;
-    private final PostRepository postRepository;
-    private final ContentMapper contentMapper;
 
     /**
      * 게시글 스크랩 추가
@@ -115,18 +106,8 @@ public class PostScrapController {
 
         Page<PostScrap> scraps = postScrapService.getUserScraps(currentUserId, pageable);
 
-        // 게시글 정보 조회 (N+1 방지)
-        List<Long> postIds = scraps.getContent().stream()
-                .map(PostScrap::getPostId)
-                .collect(Collectors.toList());
-
-        Map<Long, Post> postMap = postRepository.findAllById(postIds).stream()
-                .collect(Collectors.toMap(Post::getId, p -> p));
-
-        // PostScrapResponse 변환 (post 정보 포함)
-        Page<PostScrapResponse> scrapResponses = scraps.map(scrap ->
-            buildPostScrapResponse(scrap, postMap.get(scrap.getPostId()))
-        );
+        // 게시글, 작성자, 카테고리, 폴더 정보를 조인 쿼리 한 번으로 채움
+        Page<PostScrapResponse> scrapResponses = scrapListQueryService.hydrate(scraps);
 
         PageResponse<PostScrapResponse> response = PageResponse.of(scrapResponses);
 
@@ -147,21 +128,28 @@ public class PostScrapController {
 
         Page<PostScrap> scraps = postScrapService.getScrapsByFolder(currentUserId, folderId, pageable);
 
-        // 게시글 정보 조회 (N+1 방지)
-        List<Long> postIds = scraps.getContent().stream()
-                .map(PostScrap::getPostId)
-                .collect(Collectors.toList());
+        // 게시글, 작성자, 카테고리, 폴더 정보를 조인 쿼리 한 번으로 채움
+        Page<PostScrapResponse> scrapResponses = scrapListQueryService.hydrate(scraps);
 
-        Map<Long, Post> postMap = postRepository.findAllById(postIds).stream()
-                .collect(Collectors.toMap(Post::getId, p -> p));
+        PageResponse<PostScrapResponse> response = PageResponse.of(scrapResponses);
 
-        // PostScrapResponse 변환 (post 정보 포함)
-        Page<PostScrapResponse> scrapResponses = scraps.map(scrap ->
-            buildPostScrapResponse(scrap, postMap.get(scrap.getPostId()))
-        );
+        return ApiResponse.success(response);
+    }
 
-        PageResponse<PostScrapResponse> response = PageResponse.of(scrapResponses);
+    /**
+     * 스크랩 목록 커서 조회 (무한 스크롤용, 폴더 지정 시 해당 폴더만)
+     * GET /api/v1/posts/scraps/me/feed
+     */
+    @GetMapping("/scraps/me/feed")
+    public ApiResponse<CursorResponse<PostScrapResponse>> getUserScrapFeed(
+            @RequestParam Long currentUserId, // TODO: Security 적용 후 제거
+            @RequestParam(required = false) Long folderId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("스크랩 목록 커서 조회: userId={}, folderId={}, cursor={}", currentUserId, folderId, cursor);
 
+        CursorResponse<PostScrapResponse> response =
+                scrapListQueryService.getScrapList(currentUserId, folderId, cursor, size);
         return ApiResponse.success(response);
     }
 
@@ -197,17 +185,8 @@ public class PostScrapController {
         Page<PostScrap> scraps = postScrapService.searchUserScraps(
             currentUserId, keyword, folderId, pageable);
 
-        // 게시글 정보 조회 (N+1 방지)
-        List<Long> postIds = scraps.getContent().stream()
-                .map(PostScrap::getPostId)
-                .collect(Collectors.toList());
-
-        Map<Long, Post> postMap = postRepository.findAllById(postIds).stream()
-                .collect(Collectors.toMap(Post::getId, p -> p));
-
-        Page<PostScrapResponse> scrapResponses = scraps.map(scrap ->
-            buildPostScrapResponse(scrap, postMap.get(scrap.getPostId()))
-        );
+        // 게시글, 작성자, 카테고리, 폴더 정보를 조인 쿼리 한 번으로 채움
+        Page<PostScrapResponse> scrapResponses = scrapListQueryService.hydrate(scraps);
         PageResponse<PostScrapResponse> response = PageResponse.of(scrapResponses);
 
         return ApiResponse.success(response);
@@ -242,17 +221,8 @@ public class PostScrapController {
 
         Page<PostScrap> scraps = postScrapService.getRecentScraps(currentUserId, days, pageable);
 
-        // 게시글 정보 조회 (N+1 방지)
-        List<Long> postIds = scraps.getContent().stream()
-                .map(PostScrap::getPostId)
-                .collect(Collectors.toList());
-
-        Map<Long, Post> postMap = postRepository.findAllById(postIds).stream()
-                .collect(Collectors.toMap(Post::getId, p -> p));
-
-        Page<PostScrapResponse> scrapResponses = scraps.map(scrap ->
-            buildPostScrapResponse(scrap, postMap.get(scrap.getPostId()))
-        );
+        // 게시글, 작성자, 카테고리, 폴더 정보를 조인 쿼리 한 번으로 채움
+        Page<PostScrapResponse> scrapResponses = scrapListQueryService.hydrate(scraps);
         PageResponse<PostScrapResponse> response = PageResponse.of(scrapResponses);
 
         return ApiResponse.success(response);
@@ -302,32 +272,4 @@ public class PostScrapController {
         Object[] statistics = postScrapService.getScrapStatistics(days);
         return ApiResponse.success(statistics);
     }
-
-    // ========== Helper Methods ==========
-
-    /**
-     * PostScrap을 PostScrapResponse로 변환 (게시글 정보 포함)
-     */
-    private PostScrapResponse buildPostScrapResponse(PostScrap scrap, Post post) {
-        PostScrapResponse.PostScrapResponseBuilder builder = PostScrapResponse.builder()
-                .id(scrap.getId())
-                .postId(scrap.getPostId())
-                .userId(scrap.getUserId())
-                .folderId(scrap.getScrapFolder() != null ? scrap.getScrapFolder().getId() : null)
-                .createdAt(scrap.getCreatedAt());
-
-        // post 정보 추가
-        if (post != null) {
-            PostSummaryResponse postSummary = contentMapper.toPostSummaryResponse(post);
-            builder.post(postSummary);
-        }
-
-        // scrapFolder 정보 추가
-        if (scrap.getScrapFolder() != null) {
-            ScrapFolderResponse folderResponse = engagementMapper.toScrapFolderResponse(scrap.getScrapFolder());
-            builder.scrapFolder(folderResponse);
-        }
-
-        return builder.build();
-    }
-}
\ No newline at end of file
+}
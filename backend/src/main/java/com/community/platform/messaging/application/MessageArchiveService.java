@@ -0,0 +1,264 @@
+package com.community.platform.messaging.application;
+
+import com.community.platform.messaging.domain.ArchivedMessage;
+import com.community.platform.messaging.domain.Message;
+import com.community.platform.messaging.domain.MessageArchiveSegment;
+import com.community.platform.messaging.domain.MessageStatus;
+import com.community.platform.messaging.infrastructure.persistence.MessageArchiveSegmentRepository;
+import com.community.platform.messaging.infrastructure.persistence.MessageRepository;
+import com.community.platform.messaging.infrastructure.persistence.MessageThreadRepository;
+import com.community.platform.shared.application.LoadBudgetThrottle;
+import com.community.platform.shared.application.SchedulerLeaseService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 메시지 보관(아카이브) 서비스
+ * 보관 기간이 지난 메시지를 messages 테이블에서 압축 세그먼트로 옮겨 활성 테이블과 인덱스를 작게 유지
+ * - 스레드별로 가장 오래된 메시지부터 segment-size개씩 묶어 세그먼트 INSERT + 원본 DELETE를 한 트랜잭션으로 처리
+ * - 항상 가장 오래된 구간부터 옮기므로 세그먼트는 서로 겹치지 않고 남아있는 메시지보다 모두 오래됨
+ * - 대상 스레드는 기준 시각 이전 메시지가 남아 있는 스레드만 조회 (전체 스레드를 훑지 않음)
+ * - 삭제 상태 메시지는 보관하지 않고 함께 삭제, 보관되는 읽지 않은 메시지는 읽음으로 보관하고 스레드의 읽지 않은 수에서 차감
+ * - 스레드 메시지 조회가 활성 구간을 지나면 세그먼트를 풀어 이어서 반환
+ * - 처리 시간 대비 휴식으로 DB 부하를 설정 비율 이내로 제한
+ */
+@Slf4j
+@Service
+public class MessageArchiveService {
+
+    private static final String LEASE_NAME = "message-archive";
+    private static final Duration LEASE_TTL = Duration.ofHours(2);
+    private static final int SEGMENT_FETCH_SIZE = 4;
+    private static final TypeReference<List<ArchivedMessage>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final MessageRepository messageRepository;
+    private final MessageThreadRepository threadRepository;
+    private final MessageArchiveSegmentRepository segmentRepository;
+    private final SchedulerLeaseService leaseService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int archiveAfterDays;
+    private final int segmentSize;
+    private final int threadBatchSize;
+    private final LoadBudgetThrottle throttle;
+
+    private final Counter archivedCounter;
+    private final Counter segmentCounter;
+
+    public MessageArchiveService(
+            MessageRepository messageRepository,
+            MessageThreadRepository threadRepository,
+            MessageArchiveSegmentRepository segmentRepository,
+            SchedulerLeaseService leaseService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${community.messaging.archive.after-days:365}") int archiveAfterDays,
+            @Value("${community.messaging.archive.segment-size:500}") int segmentSize,
+            @Value("${community.messaging.archive.thread-batch-size:500}") int threadBatchSize,
+            @Value("${community.messaging.archive.load-budget:0.2}") double loadBudget) {
+        this.messageRepository = messageRepository;
+        this.threadRepository = threadRepository;
+        this.segmentRepository = segmentRepository;
+        this.leaseService = leaseService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archiveAfterDays = Math.max(archiveAfterDays, 1);
+        this.segmentSize = Math.max(segmentSize, 1);
+        this.threadBatchSize = Math.max(threadBatchSize, 1);
+        this.throttle = new LoadBudgetThrottle(loadBudget);
+        this.archivedCounter = meterRegistry.counter("community.messaging.archive.messages");
+        this.segmentCounter = meterRegistry.counter("community.messaging.archive.segments");
+    }
+
+    /**
+     * 정기 보관 실행 (기본 매일 새벽 4시 30분, 리스를 획득한 한 노드만 실행)
+     */
+    @Scheduled(cron = "${community.messaging.archive.cron:0 30 4 * * *}")
+    public void archiveScheduled() {
+        if (!leaseService.tryAcquire(LEASE_NAME, LEASE_TTL)) {
+            log.debug("메시지 보관 건너뜀. 다른 노드에서 실행 중");
+            return;
+        }
+
+        try {
+            archiveExpired();
+        } catch (Exception e) {
+            log.error("메시지 보관 중 오류 발생", e);
+        } finally {
+            leaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 메시지를 세그먼트로 이동 (리스를 보유한 상태에서 호출, 세그먼트마다 리스를 연장하며 잃으면 중단)
+     * @return 옮기거나 정리한 메시지 수
+     */
+    public long archiveExpired() {
+        LocalDateTime before = LocalDateTime.now().minusDays(archiveAfterDays);
+
+        long archived = 0;
+        long afterThreadId = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> threadIds = messageRepository.findThreadIdsWithMessagesBefore(
+                    afterThreadId, before, PageRequest.of(0, threadBatchSize));
+            if (threadIds.isEmpty()) {
+                break;
+            }
+            for (Long threadId : threadIds) {
+                archived += archiveThread(threadId, before);
+                if (!leaseService.isHeld(LEASE_NAME)) {
+                    log.warn("메시지 보관 중단. 리스를 유지하지 못함. threadId: {}", threadId);
+                    return archived;
+                }
+            }
+            afterThreadId = threadIds.get(threadIds.size() - 1);
+        }
+
+        log.info("메시지 보관 완료. 처리 수: {}, 기준 시각: {}", archived, before);
+        return archived;
+    }
+
+    /**
+     * 스레드의 보관된 메시지 중 (createdAt, messageId)보다 오래된 것을 최근 순으로 최대 limit개 조회
+     * @param createdAt 커서 생성 시간 (처음부터 조회하면 null)
+     * @param messageId 커서 메시지 ID (처음부터 조회하면 null)
+     */
+    public List<ArchivedMessage> findBefore(Long threadId, LocalDateTime createdAt, Long messageId, int limit) {
+        List<ArchivedMessage> result = new ArrayList<>(limit);
+        LocalDateTime segmentCreatedAt = createdAt;
+        Long segmentMessageId = messageId;
+
+        while (result.size() < limit) {
+            List<MessageArchiveSegment> segments = segmentCreatedAt != null && segmentMessageId != null
+                    ? segmentRepository.findBefore(threadId, segmentCreatedAt, segmentMessageId,
+                            PageRequest.of(0, SEGMENT_FETCH_SIZE))
+                    : segmentRepository.findLatest(threadId, PageRequest.of(0, SEGMENT_FETCH_SIZE));
+            if (segments.isEmpty()) {
+                break;
+            }
+
+            for (MessageArchiveSegment segment : segments) {
+                List<ArchivedMessage> messages = decode(segment.getPayload());
+                for (int i = messages.size() - 1; i >= 0 && result.size() < limit; i--) {
+                    ArchivedMessage message = messages.get(i);
+                    if (createdAt == null || messageId == null || isBefore(message, createdAt, messageId)) {
+                        result.add(message);
+                    }
+                }
+                if (result.size() >= limit) {
+                    break;
+                }
+            }
+
+            MessageArchiveSegment oldest = segments.get(segments.size() - 1);
+            segmentCreatedAt = oldest.getFirstCreatedAt();
+            segmentMessageId = oldest.getFirstMessageId();
+        }
+        return result;
+    }
+
+    // 스레드 하나를 가장 오래된 메시지부터 세그먼트 단위로 이동
+    private long archiveThread(Long threadId, LocalDateTime before) {
+        long archived = 0;
+        while (!Thread.currentThread().isInterrupted() && leaseService.renew(LEASE_NAME, LEASE_TTL)) {
+            long chunkStart = System.nanoTime();
+            Integer moved = transactionTemplate.execute(status -> archiveSegment(threadId, before));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            archived += moved;
+
+            throttle.pause(System.nanoTime() - chunkStart);
+            if (moved < segmentSize) {
+                break;
+            }
+        }
+        return archived;
+    }
+
+    // 가장 오래된 segment-size개를 세그먼트로 저장하고 원본 삭제
+    private int archiveSegment(Long threadId, LocalDateTime before) {
+        List<Message> messages = messageRepository.findOldestByThreadId(
+                threadId, before, PageRequest.of(0, segmentSize));
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        List<ArchivedMessage> active = new ArrayList<>(messages.size());
+        Map<Long, Integer> unreadByRecipient = new HashMap<>();
+        for (Message message : messages) {
+            if (message.getStatus() != MessageStatus.ACTIVE) {
+                continue;
+            }
+            ArchivedMessage archived = ArchivedMessage.from(message);
+            if (!message.getIsRead()) {
+                // 읽지 않은 수에서 빠지므로 보관본도 읽음으로 표시 (카운터와 목록 표시가 어긋나지 않도록)
+                archived = archived.markedRead(archivedAt);
+                unreadByRecipient.merge(message.getRecipientId(), 1, Integer::sum);
+            }
+            active.add(archived);
+        }
+
+        if (!active.isEmpty()) {
+            segmentRepository.save(MessageArchiveSegment.create(threadId,
+                    active.get(0), active.get(active.size() - 1), active.size(), encode(active)));
+            segmentCounter.increment();
+        }
+        unreadByRecipient.forEach((recipientId, count) ->
+                threadRepository.decreaseUnread(threadId, recipientId, count));
+        messageRepository.deleteByIdIn(messages.stream().map(Message::getId).toList());
+
+        archivedCounter.increment(messages.size());
+        return messages.size();
+    }
+
+    private static boolean isBefore(ArchivedMessage message, LocalDateTime createdAt, Long messageId) {
+        int compared = message.createdAt().compareTo(createdAt);
+        return compared < 0 || (compared == 0 && message.id() < messageId);
+    }
+
+    private byte[] encode(List<ArchivedMessage> messages) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(out, messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("메시지 세그먼트 압축 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private List<ArchivedMessage> decode(byte[] payload) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(in, PAYLOAD_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("메시지 세그먼트 해제 실패", e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.community.platform.messaging.application;
 
+import com.community.platform.messaging.domain.ArchivedMessage;
 import com.community.platform.messaging.domain.Message;
+import com.community.platform.messaging.domain.MessageStatus;
 import com.community.platform.messaging.domain.MessageThread;
 import com.community.platform.messaging.dto.MessageResponse;
 import com.community.platform.messaging.dto.MessageThreadResponse;
@@ -10,6 +12,8 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
+import java.util.Map;
+
 /**
  * Message 도메인 객체와 DTO 간 매핑을 담당하는 MapStruct 매퍼
  */
@@ -30,14 +34,31 @@ public interface MessageMapper {
      * Message 엔티티를 MessageResponse DTO로 변환 (상세 정보 포함)
      */
     default MessageResponse toMessageResponse(Message message, User sender, User recipient, Long currentUserId) {
+        return toMessageResponse(message, sender, recipient, currentUserId, message.getIsRead());
+    }
+
+    /**
+     * Message 엔티티를 MessageResponse DTO로 변환 (읽음 여부를 스레드 워터마크로 판단한 경우)
+     */
+    default MessageResponse toMessageResponse(Message message, User sender, User recipient, Long currentUserId,
+                                              boolean read) {
+        return toMessageResponse(message, toUserSummaryResponse(sender), toUserSummaryResponse(recipient),
+                currentUserId, read);
+    }
+
+    /**
+     * Message 엔티티를 MessageResponse DTO로 변환 (발신자/수신자 요약 정보를 미리 조회한 경우)
+     */
+    default MessageResponse toMessageResponse(Message message, UserSummaryResponse sender,
+                                              UserSummaryResponse recipient, Long currentUserId, boolean read) {
         return MessageResponse.builder()
                 .id(message.getId())
                 .threadId(message.getThread() != null ? message.getThread().getId() : null)
-                .sender(toUserSummaryResponse(sender))
-                .recipient(toUserSummaryResponse(recipient))
+                .sender(sender)
+                .recipient(recipient)
                 .content(message.getContent())
                 .status(message.getStatus())
-                .isRead(message.getIsRead())
+                .isRead(read)
                 .readAt(message.getReadAt())
                 .createdAt(message.getCreatedAt())
                 .updatedAt(message.getUpdatedAt())
@@ -45,16 +66,63 @@ public interface MessageMapper {
                 .build();
     }
 
+    /**
+     * 보관된 메시지를 MessageResponse DTO로 변환 (보관된 메시지는 항상 활성 상태)
+     */
+    default MessageResponse toMessageResponse(ArchivedMessage message, Long threadId, UserSummaryResponse sender,
+                                              UserSummaryResponse recipient, Long currentUserId, boolean read) {
+        return MessageResponse.builder()
+                .id(message.id())
+                .threadId(threadId)
+                .sender(sender)
+                .recipient(recipient)
+                .content(message.content())
+                .status(MessageStatus.ACTIVE)
+                .isRead(read)
+                .readAt(message.readAt())
+                .createdAt(message.createdAt())
+                .updatedAt(message.updatedAt())
+                .isSender(message.senderId().equals(currentUserId))
+                .build();
+    }
+
+    /**
+     * 스레드에 비정규화된 마지막 메시지를 MessageResponse로 변환 (메시지가 없으면 null)
+     * 내용은 미리보기, 읽음 여부는 상대방이 보낸 메시지일 때만 읽지 않은 수로 판단
+     */
+    default MessageResponse toLastMessageResponse(MessageThread thread, Map<Long, User> users, Long currentUserId) {
+        if (thread.getLastMessageId() == null) {
+            return null;
+        }
+        Long senderId = thread.getLastSenderId();
+        Long recipientId = thread.getOtherUserId(senderId);
+        boolean isSender = senderId.equals(currentUserId);
+        return MessageResponse.builder()
+                .id(thread.getLastMessageId())
+                .threadId(thread.getId())
+                .sender(toUserSummaryResponse(users.get(senderId)))
+                .recipient(toUserSummaryResponse(users.get(recipientId)))
+                .content(thread.getLastMessagePreview())
+                .isRead(isSender ? null : thread.getUnreadCount(currentUserId) == 0)
+                .createdAt(thread.getLastMessageAt())
+                .isSender(isSender)
+                .build();
+    }
+
     /**
      * MessageThread를 MessageThreadResponse로 변환
      */
     default MessageThreadResponse toThreadResponse(MessageThread thread, User otherUser,
-                                                   MessageResponse lastMessage, Integer unreadCount) {
+                                                   MessageResponse lastMessage, Integer unreadCount,
+                                                   boolean otherUserOnline) {
         return MessageThreadResponse.builder()
                 .id(thread.getId())
                 .otherUser(toUserSummaryResponse(otherUser))
                 .lastMessage(lastMessage)
                 .unreadCount(unreadCount)
+                .otherUserLastReadMessageId(otherUser != null ? thread.getLastReadMessageId(otherUser.getId()) : null)
+                .otherUserLastDeliveredMessageId(otherUser != null ? thread.getLastDeliveredMessageId(otherUser.getId()) : null)
+                .otherUserOnline(otherUserOnline)
                 .lastMessageAt(thread.getLastMessageAt())
                 .createdAt(thread.getCreatedAt())
                 .build();
@@ -0,0 +1,229 @@
+package com.community.platform.messaging.application;
+
+import com.community.platform.messaging.domain.MessageReceiptType;
+import com.community.platform.messaging.domain.MessageThread;
+import com.community.platform.messaging.dto.MessageReceiptResponse;
+import com.community.platform.messaging.infrastructure.persistence.MessageThreadRepository;
+import com.community.platform.notification.application.RealtimePushService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메시지 수신/읽음 확인 서비스
+ * 실시간으로 메시지를 받은 클라이언트의 확인 요청을 메모리에서 모았다가 주기적으로 한 번에 반영
+ * - 확인은 "이 메시지 ID까지"를 뜻하므로 같은 (스레드, 사용자)의 요청은 가장 큰 ID 하나로 합쳐짐
+ * - 반영은 스레드의 참여자별 워터마크 전진 + 읽음이면 메시지 일괄 읽음 처리
+ *   한 주기에 모인 확인을 트랜잭션 하나에서 JDBC 배치 UPDATE 두 번으로 처리 (실패하면 다음 주기에 다시 합쳐서 재시도)
+ * - 반영 후 상대방(발신자)에게 실시간 푸시로 수신/읽음 표시 전달 (다른 노드 연결은 Redis로 전달됨)
+ * - 반영 전 노드가 종료되면 마지막 확인이 유실될 수 있으나, 클라이언트가 다음 확인 시 더 큰 ID로 다시 보냄
+ */
+@Slf4j
+@Service
+public class MessageReceiptService {
+
+    private static final String MARK_MESSAGES_READ_SQL =
+            "UPDATE messages SET is_read = true, read_at = :readAt " +
+            "WHERE thread_id = :threadId AND recipient_id = :userId AND is_read = false " +
+            "AND status = 'ACTIVE' AND id <= :readUpTo";
+
+    // 읽음/수신 워터마크는 현재 값보다 클 때만 전진, 읽지 않은 수는 읽음 처리한 수만큼 감소 (0 미만 방지)
+    private static final String ADVANCE_WATERMARKS_SQL =
+            "UPDATE message_threads SET " +
+            "user1_last_read_message_id = CASE WHEN user1_id = :userId AND user1_last_read_message_id < :readUpTo " +
+            "                                  THEN :readUpTo ELSE user1_last_read_message_id END, " +
+            "user2_last_read_message_id = CASE WHEN user2_id = :userId AND user2_last_read_message_id < :readUpTo " +
+            "                                  THEN :readUpTo ELSE user2_last_read_message_id END, " +
+            "user1_last_delivered_message_id = CASE WHEN user1_id = :userId AND user1_last_delivered_message_id < :deliveredUpTo " +
+            "                                       THEN :deliveredUpTo ELSE user1_last_delivered_message_id END, " +
+            "user2_last_delivered_message_id = CASE WHEN user2_id = :userId AND user2_last_delivered_message_id < :deliveredUpTo " +
+            "                                       THEN :deliveredUpTo ELSE user2_last_delivered_message_id END, " +
+            "user1_unread_count = CASE WHEN user1_id = :userId AND user1_unread_count >= :readCount THEN user1_unread_count - :readCount " +
+            "                          WHEN user1_id = :userId THEN 0 ELSE user1_unread_count END, " +
+            "user2_unread_count = CASE WHEN user2_id = :userId AND user2_unread_count >= :readCount THEN user2_unread_count - :readCount " +
+            "                          WHEN user2_id = :userId THEN 0 ELSE user2_unread_count END " +
+            "WHERE id = :threadId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final MessageThreadRepository threadRepository;
+    private final RealtimePushService pushService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<ReceiptKey, PendingReceipt> pending = new ConcurrentHashMap<>();
+
+    public MessageReceiptService(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            MessageThreadRepository threadRepository,
+            RealtimePushService pushService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.threadRepository = threadRepository;
+        this.pushService = pushService;
+
+        // 스케줄러 스레드에서 호출 측 트랜잭션과 무관하게 반영되도록 항상 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("community.messaging.receipt.pending", pending, Map::size)
+                .description("반영 대기 중인 수신/읽음 확인 수 (스레드, 사용자 단위)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 수신/읽음 확인 등록 (즉시 반환, 다음 반영 주기에 DB와 상대방에게 반영)
+     */
+    public void acknowledge(Long userId, Long threadId, Long messageId, MessageReceiptType type) {
+        if (userId == null || threadId == null || messageId == null || type == null) {
+            return;
+        }
+        long readUpTo = type == MessageReceiptType.READ ? messageId : 0L;
+        pending.merge(new ReceiptKey(threadId, userId), new PendingReceipt(messageId, readUpTo), PendingReceipt::merge);
+    }
+
+    /**
+     * 모아둔 확인 반영 (기본 200ms마다, 한 번의 트랜잭션)
+     */
+    @Scheduled(fixedDelayString = "${community.messaging.receipt.flush-interval-ms:200}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<ReceiptKey, PendingReceipt> batch = new HashMap<>();
+        for (ReceiptKey key : pending.keySet()) {
+            PendingReceipt receipt = pending.remove(key);
+            if (receipt != null) {
+                batch.put(key, receipt);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<AppliedReceipt> applied;
+        try {
+            applied = transactionTemplate.execute(status -> apply(batch));
+        } catch (Exception e) {
+            // 그 사이 들어온 확인과 합쳐서 다음 주기에 재시도
+            batch.forEach((key, receipt) -> pending.merge(key, receipt, PendingReceipt::merge));
+            log.warn("메시지 확인 반영 실패. 건수: {}: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        for (AppliedReceipt receipt : applied) {
+            pushService.publish(receipt.otherUserId(), RealtimePushService.MESSAGE_RECEIPT_EVENT, receipt.response());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    private List<AppliedReceipt> apply(Map<ReceiptKey, PendingReceipt> batch) {
+        Map<Long, MessageThread> threads = new HashMap<>();
+        threadRepository.findAllById(batch.keySet().stream().map(ReceiptKey::threadId).distinct().toList())
+                .forEach(thread -> threads.put(thread.getId(), thread));
+
+        List<ReceiptUpdate> updates = new ArrayList<>();
+        batch.forEach((key, receipt) -> {
+            MessageThread thread = threads.get(key.threadId());
+            if (thread == null || !thread.involvesUser(key.userId())) {
+                log.warn("참여하지 않은 스레드에 대한 메시지 확인 무시. threadId: {}, userId: {}", key.threadId(), key.userId());
+                return;
+            }
+            Long lastMessageId = thread.getLastMessageId();
+            if (lastMessageId == null) {
+                return;
+            }
+
+            // 아직 없는 메시지 ID로 워터마크가 앞서가지 않도록 현재 마지막 메시지로 제한
+            long readUpTo = Math.min(receipt.readUpTo(), lastMessageId);
+            long deliveredUpTo = Math.min(Math.max(receipt.deliveredUpTo(), receipt.readUpTo()), lastMessageId);
+            long lastRead = thread.getLastReadMessageId(key.userId());
+            long lastDelivered = thread.getLastDeliveredMessageId(key.userId());
+            if (readUpTo <= lastRead && deliveredUpTo <= lastDelivered) {
+                return;
+            }
+            updates.add(new ReceiptUpdate(key, thread.getOtherUserId(key.userId()),
+                    readUpTo > lastRead ? readUpTo : 0L, Math.max(readUpTo, lastRead),
+                    Math.max(deliveredUpTo, lastDelivered)));
+        });
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+
+        // 읽음 처리 대상 메시지를 먼저 갱신하고, 처리된 행 수로 스레드의 읽지 않은 수 감소
+        Timestamp readAt = Timestamp.valueOf(LocalDateTime.now());
+        List<ReceiptUpdate> reads = updates.stream().filter(update -> update.readUpTo() > 0).toList();
+        int[] readCounts = reads.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(MARK_MESSAGES_READ_SQL,
+                reads.stream()
+                        .map(update -> new MapSqlParameterSource()
+                                .addValue("threadId", update.key().threadId())
+                                .addValue("userId", update.key().userId())
+                                .addValue("readUpTo", update.readUpTo())
+                                .addValue("readAt", readAt))
+                        .toArray(MapSqlParameterSource[]::new));
+        Map<ReceiptKey, Integer> readCountByKey = new HashMap<>();
+        for (int i = 0; i < readCounts.length; i++) {
+            readCountByKey.put(reads.get(i).key(), Math.max(readCounts[i], 0));
+        }
+
+        jdbcTemplate.batchUpdate(ADVANCE_WATERMARKS_SQL, updates.stream()
+                .map(update -> new MapSqlParameterSource()
+                        .addValue("threadId", update.key().threadId())
+                        .addValue("userId", update.key().userId())
+                        .addValue("readUpTo", update.readUpTo())
+                        .addValue("deliveredUpTo", update.deliveredUpTo())
+                        .addValue("readCount", readCountByKey.getOrDefault(update.key(), 0)))
+                .toArray(MapSqlParameterSource[]::new));
+
+        return updates.stream()
+                .map(update -> new AppliedReceipt(update.otherUserId(), MessageReceiptResponse.builder()
+                        .threadId(update.key().threadId())
+                        .userId(update.key().userId())
+                        .lastDeliveredMessageId(update.deliveredUpTo())
+                        .lastReadMessageId(update.lastReadMessageId())
+                        .build()))
+                .toList();
+    }
+
+    private record ReceiptKey(Long threadId, Long userId) {
+    }
+
+    private record AppliedReceipt(Long otherUserId, MessageReceiptResponse response) {
+    }
+
+    /**
+     * 반영할 확인 한 건
+     * @param readUpTo 새로 읽음 처리할 마지막 메시지 ID (읽음 변경이 없으면 0)
+     * @param lastReadMessageId 반영 후 읽음 워터마크
+     * @param deliveredUpTo 반영 후 수신 워터마크
+     */
+    private record ReceiptUpdate(ReceiptKey key, Long otherUserId, long readUpTo,
+                                 long lastReadMessageId, long deliveredUpTo) {
+    }
+
+    private record PendingReceipt(long deliveredUpTo, long readUpTo) {
+        PendingReceipt merge(PendingReceipt other) {
+            return new PendingReceipt(Math.max(deliveredUpTo, other.deliveredUpTo), Math.max(readUpTo, other.readUpTo));
+        }
+    }
+}
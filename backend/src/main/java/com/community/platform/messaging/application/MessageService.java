@@ -1,5 +1,6 @@
 package com.community.platform.messaging.application;
 
+import com.community.platform.messaging.domain.ArchivedMessage;
 import com.community.platform.messaging.domain.Message;
 import com.community.platform.messaging.domain.MessageStatus;
 import com.community.platform.messaging.domain.MessageThread;
@@ -10,21 +11,40 @@ import com.community.platform.messaging.exception.MessageThreadNotFoundException
 import com.community.platform.messaging.exception.UnauthorizedMessageAccessException;
 import com.community.platform.messaging.infrastructure.persistence.MessageRepository;
 import com.community.platform.messaging.infrastructure.persistence.MessageThreadRepository;
+import com.community.platform.shared.dto.CursorResponse;
 import com.community.platform.shared.infrastructure.DomainEventPublisher;
+import com.community.platform.user.application.PresenceService;
+import com.community.platform.user.application.UserSummaryCache;
 import com.community.platform.user.domain.User;
+import com.community.platform.user.dto.UserSummaryResponse;
 import com.community.platform.user.exception.UserNotFoundException;
 import com.community.platform.user.infrastructure.persistence.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * 메시지 관리 애플리케이션 서비스
+ * 스레드의 마지막 메시지와 참여자별 읽지 않은 수는 전송/읽음/삭제와 같은 트랜잭션에서 조건부 UPDATE로 함께 갱신
+ * 메시지 목록은 (created_at, id) 키셋 커서 페이징을 제공하고, 발신자/수신자 정보는 페이지마다 사용자 요약 캐시에서 한 번에 조회
+ * 스레드 커서 조회는 활성 메시지가 끝나면 보관 세그먼트의 메시지로 이어서 반환
  */
 @Slf4j
 @Service
@@ -32,11 +52,16 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class MessageService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final MessageRepository messageRepository;
     private final MessageThreadRepository threadRepository;
     private final UserRepository userRepository;
     private final MessageMapper messageMapper;
     private final DomainEventPublisher eventPublisher;
+    private final UserSummaryCache userSummaryCache;
+    private final MessageArchiveService archiveService;
+    private final PresenceService presenceService;
 
     /**
      * 메시지 전송
@@ -56,6 +81,10 @@ public class MessageService {
         Message message = Message.create(thread, senderId, recipientId, content);
         Message savedMessage = messageRepository.save(message);
 
+        // 스레드 마지막 메시지와 수신자 읽지 않은 수 갱신
+        threadRepository.recordMessage(thread.getId(), savedMessage.getId(), senderId, recipientId,
+                MessageThread.preview(content), savedMessage.getCreatedAt());
+
         // 도메인 이벤트 발행
         eventPublisher.publishEvents(savedMessage);
 
@@ -99,11 +128,44 @@ public class MessageService {
         Page<Message> messages = messageRepository.findByThreadIdAndStatus(
             threadId, MessageStatus.ACTIVE, pageable);
 
-        return messages.map(message -> {
-            User sender = getUserById(message.getSenderId());
-            User recipient = getUserById(message.getRecipientId());
-            return messageMapper.toMessageResponse(message, sender, recipient, currentUserId);
-        });
+        return toResponsePage(messages, currentUserId,
+                message -> thread.isReadBy(message.getRecipientId(), message));
+    }
+
+    /**
+     * 스레드 메시지 목록 커서 조회 (최신순, 과거 대화를 거슬러 올라가는 무한 스크롤용)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public CursorResponse<MessageResponse> getMessagesByThread(Long threadId, Long currentUserId,
+                                                               String cursor, int size) {
+        log.debug("스레드 메시지 커서 조회. threadId: {}, currentUserId: {}, cursor: {}", threadId, currentUserId, cursor);
+
+        MessageThread thread = getThreadById(threadId);
+
+        // 권한 확인 (스레드 참여자만 조회 가능)
+        if (!thread.involvesUser(currentUserId)) {
+            throw new UnauthorizedMessageAccessException();
+        }
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        MessageCursor position = MessageCursor.decode(cursor);
+
+        LocalDateTime cursorCreatedAt = position != null ? position.createdAt() : null;
+        Long cursorId = position != null ? position.id() : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<Message> rows = messageRepository.findThreadMessagesByCursor(threadId, cursorCreatedAt, cursorId, limit + 1);
+        List<MessageResponse> responses = new ArrayList<>(toResponses(rows, currentUserId,
+                message -> thread.isReadBy(message.getRecipientId(), message)));
+
+        // 활성 메시지를 다 읽었으면 보관된 메시지로 이어서 채움 (보관된 메시지는 활성 메시지보다 항상 오래됨)
+        if (rows.size() <= limit) {
+            List<ArchivedMessage> archived = archiveService.findBefore(
+                    threadId, cursorCreatedAt, cursorId, limit + 1 - rows.size());
+            responses.addAll(toArchivedResponses(thread, archived, currentUserId));
+        }
+
+        return toCursorPage(responses, limit);
     }
 
     /**
@@ -115,11 +177,24 @@ public class MessageService {
         Page<Message> messages = messageRepository.findByRecipientIdAndStatus(
             userId, MessageStatus.ACTIVE, pageable);
 
-        return messages.map(message -> {
-            User sender = getUserById(message.getSenderId());
-            User recipient = getUserById(message.getRecipientId());
-            return messageMapper.toMessageResponse(message, sender, recipient, userId);
-        });
+        return toResponsePage(messages, userId, Message::getIsRead);
+    }
+
+    /**
+     * 받은 메시지 목록 커서 조회 (최신순)
+     */
+    public CursorResponse<MessageResponse> getReceivedMessages(Long userId, String cursor, int size) {
+        log.debug("받은 메시지 커서 조회. userId: {}, cursor: {}", userId, cursor);
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        MessageCursor position = MessageCursor.decode(cursor);
+
+        List<Message> rows = messageRepository.findReceivedMessagesByCursor(userId,
+                position != null ? position.createdAt() : null,
+                position != null ? position.id() : null,
+                limit + 1);
+
+        return toCursorResponse(rows, limit, userId, Message::getIsRead);
     }
 
     /**
@@ -131,41 +206,46 @@ public class MessageService {
         Page<Message> messages = messageRepository.findBySenderIdAndStatus(
             userId, MessageStatus.ACTIVE, pageable);
 
-        return messages.map(message -> {
-            User sender = getUserById(message.getSenderId());
-            User recipient = getUserById(message.getRecipientId());
-            return messageMapper.toMessageResponse(message, sender, recipient, userId);
-        });
+        return toResponsePage(messages, userId, Message::getIsRead);
+    }
+
+    /**
+     * 보낸 메시지 목록 커서 조회 (최신순)
+     */
+    public CursorResponse<MessageResponse> getSentMessages(Long userId, String cursor, int size) {
+        log.debug("보낸 메시지 커서 조회. userId: {}, cursor: {}", userId, cursor);
+
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        MessageCursor position = MessageCursor.decode(cursor);
+
+        List<Message> rows = messageRepository.findSentMessagesByCursor(userId,
+                position != null ? position.createdAt() : null,
+                position != null ? position.id() : null,
+                limit + 1);
+
+        return toCursorResponse(rows, limit, userId, Message::getIsRead);
     }
 
     /**
      * 대화 스레드 목록 조회
+     * 마지막 메시지와 읽지 않은 수는 스레드 행에서 읽고, 상대방 정보는 한 번에 조회 (접속 여부는 메모리 조회)
      */
     public Page<MessageThreadResponse> getThreads(Long userId, Pageable pageable) {
         log.info("대화 스레드 목록 조회. userId: {}", userId);
 
         Page<MessageThread> threads = threadRepository.findByUserId(userId, pageable);
 
-        return threads.map(thread -> {
-            Long otherUserId = thread.getOtherUserId(userId);
-            User otherUser = getUserById(otherUserId);
-
-            Message lastMessage = messageRepository.findLastMessageByThreadId(
-                thread.getId(), MessageStatus.ACTIVE);
+        Set<Long> userIds = new HashSet<>();
+        userIds.add(userId);
+        threads.forEach(thread -> userIds.add(thread.getOtherUserId(userId)));
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
 
-            Integer unreadCount = messageRepository.countUnreadMessagesByThread(
-                thread.getId(), userId, MessageStatus.ACTIVE);
-
-            MessageResponse lastMessageResponse = null;
-            if (lastMessage != null) {
-                User sender = getUserById(lastMessage.getSenderId());
-                User recipient = getUserById(lastMessage.getRecipientId());
-                lastMessageResponse = messageMapper.toMessageResponse(
-                    lastMessage, sender, recipient, userId);
-            }
-
-            return messageMapper.toThreadResponse(
-                thread, otherUser, lastMessageResponse, unreadCount);
+        return threads.map(thread -> {
+            User otherUser = users.get(thread.getOtherUserId(userId));
+            MessageResponse lastMessage = messageMapper.toLastMessageResponse(thread, users, userId);
+            return messageMapper.toThreadResponse(thread, otherUser, lastMessage, thread.getUnreadCount(userId),
+                    presenceService.isOnline(thread.getOtherUserId(userId)));
         });
     }
 
@@ -183,7 +263,10 @@ public class MessageService {
             throw new UnauthorizedMessageAccessException();
         }
 
-        message.markAsRead();
+        if (!message.getIsRead()) {
+            message.markAsRead();
+            decreaseThreadUnread(message, 1);
+        }
         log.info("메시지 읽음 처리 완료. messageId: {}", messageId);
     }
 
@@ -201,14 +284,17 @@ public class MessageService {
             throw new UnauthorizedMessageAccessException();
         }
 
-        List<Message> unreadMessages = messageRepository.findByThreadIdAndStatusOrderByCreatedAt(
-            threadId, MessageStatus.ACTIVE).stream()
-            .filter(m -> m.getRecipientId().equals(currentUserId) && !m.getIsRead())
-            .toList();
+        // 조회 시점의 마지막 메시지까지만 처리 (그 이후 도착한 메시지는 읽지 않은 상태로 남음)
+        Long lastMessageId = thread.getLastMessageId();
+        if (lastMessageId == null) {
+            return;
+        }
 
-        unreadMessages.forEach(Message::markAsRead);
-        log.info("스레드 전체 읽음 처리 완료. threadId: {}, 처리된 메시지 수: {}",
-                 threadId, unreadMessages.size());
+        int readCount = messageRepository.markThreadAsRead(
+                threadId, currentUserId, MessageStatus.ACTIVE, lastMessageId, LocalDateTime.now());
+        threadRepository.markReadUpTo(threadId, currentUserId, lastMessageId, readCount);
+        threadRepository.markDeliveredUpTo(threadId, currentUserId, lastMessageId);
+        log.info("스레드 전체 읽음 처리 완료. threadId: {}, 처리된 메시지 수: {}", threadId, readCount);
     }
 
     /**
@@ -225,19 +311,98 @@ public class MessageService {
             throw new UnauthorizedMessageAccessException();
         }
 
+        boolean wasUnread = message.getStatus() == MessageStatus.ACTIVE && !message.getIsRead();
         message.delete();
+
+        if (message.getThread() != null) {
+            if (wasUnread) {
+                decreaseThreadUnread(message, 1);
+            }
+            replaceLastMessageIfDeleted(message.getThread().getId(), messageId);
+        }
         log.info("메시지 삭제 완료. messageId: {}", messageId);
     }
 
     /**
-     * 안 읽은 메시지 수 조회
+     * 안 읽은 메시지 수 조회 (스레드별 카운터 합계)
      */
     public Long getUnreadCount(Long userId) {
-        return messageRepository.countUnreadMessages(userId, MessageStatus.ACTIVE);
+        return threadRepository.sumUnreadByUserId(userId);
     }
 
     // === 헬퍼 메서드 ===
 
+    // 오프셋 페이지 응답 변환 (발신자/수신자 정보는 페이지 단위로 한 번에 조회)
+    private Page<MessageResponse> toResponsePage(Page<Message> messages, Long currentUserId,
+                                                 Predicate<Message> readState) {
+        return new PageImpl<>(toResponses(messages.getContent(), currentUserId, readState),
+                messages.getPageable(), messages.getTotalElements());
+    }
+
+    // 커서 페이지 응답 변환 (limit + 1건 조회 결과로 다음 페이지 여부 판단)
+    private CursorResponse<MessageResponse> toCursorResponse(List<Message> rows, int limit, Long currentUserId,
+                                                             Predicate<Message> readState) {
+        return toCursorPage(toResponses(rows, currentUserId, readState), limit);
+    }
+
+    private CursorResponse<MessageResponse> toCursorPage(List<MessageResponse> responses, int limit) {
+        boolean hasNext = responses.size() > limit;
+        List<MessageResponse> page = hasNext ? responses.subList(0, limit) : responses;
+
+        String nextCursor = null;
+        if (hasNext) {
+            MessageResponse last = page.get(page.size() - 1);
+            nextCursor = new MessageCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorResponse<>(page, nextCursor);
+    }
+
+    private List<MessageResponse> toArchivedResponses(MessageThread thread, List<ArchivedMessage> messages,
+                                                      Long currentUserId) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, UserSummaryResponse> users = userSummaryCache.getAll(List.of(thread.getUser1Id(), thread.getUser2Id()));
+
+        return messages.stream()
+                .map(message -> messageMapper.toMessageResponse(message, thread.getId(),
+                        users.get(message.senderId()), users.get(message.recipientId()), currentUserId,
+                        message.read() || message.id() <= thread.getLastReadMessageId(message.recipientId())))
+                .toList();
+    }
+
+    private List<MessageResponse> toResponses(List<Message> messages, Long currentUserId,
+                                              Predicate<Message> readState) {
+        Set<Long> userIds = new HashSet<>();
+        messages.forEach(message -> {
+            userIds.add(message.getSenderId());
+            userIds.add(message.getRecipientId());
+        });
+        Map<Long, UserSummaryResponse> users = userSummaryCache.getAll(userIds);
+
+        return messages.stream()
+                .map(message -> messageMapper.toMessageResponse(message,
+                        users.get(message.getSenderId()), users.get(message.getRecipientId()),
+                        currentUserId, readState.test(message)))
+                .toList();
+    }
+
+    private void decreaseThreadUnread(Message message, int count) {
+        if (message.getThread() != null) {
+            threadRepository.decreaseUnread(message.getThread().getId(), message.getRecipientId(), count);
+        }
+    }
+
+    // 삭제된 메시지가 스레드의 마지막 메시지였다면 남은 메시지 중 가장 최근 것으로 교체
+    private void replaceLastMessageIfDeleted(Long threadId, Long deletedMessageId) {
+        Message last = messageRepository.findLastMessageByThreadId(threadId, MessageStatus.ACTIVE);
+        threadRepository.replaceLastMessage(threadId, deletedMessageId,
+                last != null ? last.getId() : null,
+                last != null ? last.getSenderId() : null,
+                last != null ? MessageThread.preview(last.getContent()) : null,
+                last != null ? last.getCreatedAt() : null);
+    }
+
     private Message getMessageById(Long messageId) {
         return messageRepository.findById(messageId)
                 .orElseThrow(() -> new MessageNotFoundException(messageId));
@@ -263,4 +428,30 @@ public class MessageService {
                     return threadRepository.save(newThread);
                 });
     }
+
+    /**
+     * 메시지 목록 커서 ("생성시간_ID"를 URL-safe Base64로 인코딩)
+     */
+    private record MessageCursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "_" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static MessageCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('_');
+                return new MessageCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.community.platform.messaging.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(아카이브) 세그먼트에 저장된 메시지 한 건
+ * 보관 후에는 수정/삭제하지 않는 읽기 전용 값이며, 삭제 상태였던 메시지는 보관하지 않음
+ */
+public record ArchivedMessage(Long id,
+                              Long senderId,
+                              Long recipientId,
+                              String content,
+                              boolean read,
+                              LocalDateTime readAt,
+                              LocalDateTime createdAt,
+                              LocalDateTime updatedAt) {
+
+    public static ArchivedMessage from(Message message) {
+        return new ArchivedMessage(message.getId(), message.getSenderId(), message.getRecipientId(),
+                message.getContent(), message.getIsRead(), message.getReadAt(),
+                message.getCreatedAt(), message.getUpdatedAt());
+    }
+
+    /**
+     * 읽음 처리된 사본 (읽지 않은 채 보관되는 메시지용, 보관 시 읽지 않은 수에서 빠지므로 읽음으로 표시)
+     */
+    public ArchivedMessage markedRead(LocalDateTime readAt) {
+        return read ? this : new ArchivedMessage(id, senderId, recipientId, content, true, readAt, createdAt, updatedAt);
+    }
+}
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
            @Index(name = "idx_message_recipient_status_created", columnList = "recipient_id, status, created_at"),
            @Index(name = "idx_message_sender_created", columnList = "sender_id, created_at"),
            @Index(name = "idx_message_thread_created", columnList = "thread_id, created_at"),
-           @Index(name = "idx_message_recipient_read", columnList = "recipient_id, is_read, created_at")
+           @Index(name = "idx_message_recipient_read", columnList = "recipient_id, is_read, created_at"),
+           @Index(name = "idx_message_created_thread", columnList = "created_at, thread_id")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -57,23 +58,22 @@ public class Message extends AggregateRoot {
         validateContent(content);
         validateUsers(senderId, recipientId);
 
-        Message message = new Message(thread, senderId, recipientId, content);
+        return new Message(thread, senderId, recipientId, content);
+    }
 
-        // 메시지 생성 이벤트 발행 (알림용)
-        message.addDomainEvent(new MessageCreatedEvent(
-                message.getId(),
+    /**
+     * 메시지 생성 이벤트 등록 (알림/실시간 전달용)
+     * 저장 직후 호출되어 이벤트에 실제 메시지 ID가 담기도록 함
+     */
+    @PostPersist
+    void registerCreatedEvent() {
+        addDomainEvent(new MessageCreatedEvent(
+                getId(),
                 thread != null ? thread.getId() : null,
                 senderId,
                 recipientId,
                 content
         ));
-
-        // 스레드의 마지막 메시지 시간 업데이트
-        if (thread != null) {
-            thread.updateLastMessageAt();
-        }
-
-        return message;
     }
 
     private static void validateContent(String content) {
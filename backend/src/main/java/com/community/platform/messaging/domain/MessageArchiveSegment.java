@@ -0,0 +1,66 @@
+package com.community.platform.messaging.domain;
+
+import com.community.platform.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메시지 보관 세그먼트 엔티티
+ * 오래된 메시지를 스레드별로 (created_at, id) 순서의 연속 구간으로 묶어 압축(gzip JSON)하여 한 행에 저장
+ * 한 스레드의 세그먼트끼리는 구간이 겹치지 않고, 모든 세그먼트는 해당 스레드의 남아있는 메시지보다 오래됨
+ */
+@Entity
+@Table(name = "message_archive_segments",
+       indexes = {
+           @Index(name = "idx_archive_segment_thread_last", columnList = "thread_id, last_created_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageArchiveSegment extends BaseEntity {
+
+    @Column(name = "thread_id", nullable = false)
+    private Long threadId;
+
+    @Column(name = "first_message_id", nullable = false)
+    private Long firstMessageId;
+
+    @Column(name = "first_created_at", nullable = false)
+    private LocalDateTime firstCreatedAt;
+
+    @Column(name = "last_message_id", nullable = false)
+    private Long lastMessageId;
+
+    @Column(name = "last_created_at", nullable = false)
+    private LocalDateTime lastCreatedAt;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    @Column(name = "payload", nullable = false, length = 16_777_216)
+    private byte[] payload;  // 압축된 메시지 목록 (오래된 순)
+
+    private MessageArchiveSegment(Long threadId, ArchivedMessage first, ArchivedMessage last,
+                                  int messageCount, byte[] payload) {
+        this.threadId = threadId;
+        this.firstMessageId = first.id();
+        this.firstCreatedAt = first.createdAt();
+        this.lastMessageId = last.id();
+        this.lastCreatedAt = last.createdAt();
+        this.messageCount = messageCount;
+        this.payload = payload;
+    }
+
+    /**
+     * 세그먼트 생성
+     * @param first 구간의 가장 오래된 메시지
+     * @param last 구간의 가장 최근 메시지
+     */
+    public static MessageArchiveSegment create(Long threadId, ArchivedMessage first, ArchivedMessage last,
+                                               int messageCount, byte[] payload) {
+        return new MessageArchiveSegment(threadId, first, last, messageCount, payload);
+    }
+}
@@ -0,0 +1,6 @@
+package com.community.platform.messaging.domain;
+
+public enum MessageReceiptType {
+    DELIVERED,  // 수신 확인 (클라이언트가 메시지를 받음)
+    READ        // 읽음 확인 (사용자가 메시지를 확인함, 수신 확인 포함)
+}
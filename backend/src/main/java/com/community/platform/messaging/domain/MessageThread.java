@@ -10,16 +10,26 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 1:1 대화 스레드 엔티티
+ * 목록 화면용으로 마지막 메시지 미리보기와 참여자별 읽지 않은 메시지 수를 비정규화하여 보관
+ * 참여자별 읽음 워터마크(마지막으로 읽은 메시지 ID) 이하의 메시지는 행의 is_read와 관계없이 읽은 것으로 봄
+ * 비정규화 컬럼은 엔티티 변경 감지가 아닌 MessageThreadRepository의 조건부 UPDATE로만 갱신 (동시 전송 시 증감 유실 방지)
+ */
 @Entity
 @Table(name = "message_threads",
        indexes = {
            @Index(name = "idx_thread_user1_user2", columnList = "user1_id, user2_id", unique = true),
+           @Index(name = "idx_thread_user1_last_message", columnList = "user1_id, last_message_at"),
+           @Index(name = "idx_thread_user2_last_message", columnList = "user2_id, last_message_at"),
            @Index(name = "idx_thread_last_message", columnList = "last_message_at")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MessageThread extends BaseEntity {
 
+    private static final int PREVIEW_LENGTH = 100;
+
     @Column(name = "user1_id", nullable = false)
     private Long user1Id;
 
@@ -32,6 +42,33 @@ public class MessageThread extends BaseEntity {
     @Column(name = "last_message_at")
     private LocalDateTime lastMessageAt;
 
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_sender_id")
+    private Long lastSenderId;
+
+    @Column(name = "last_message_preview", length = 200)
+    private String lastMessagePreview;
+
+    @Column(name = "user1_unread_count", nullable = false)
+    private Integer user1UnreadCount = 0;  // user1이 읽지 않은 메시지 수
+
+    @Column(name = "user2_unread_count", nullable = false)
+    private Integer user2UnreadCount = 0;  // user2가 읽지 않은 메시지 수
+
+    @Column(name = "user1_last_read_message_id", nullable = false)
+    private Long user1LastReadMessageId = 0L;  // user1의 읽음 워터마크
+
+    @Column(name = "user2_last_read_message_id", nullable = false)
+    private Long user2LastReadMessageId = 0L;  // user2의 읽음 워터마크
+
+    @Column(name = "user1_last_delivered_message_id", nullable = false)
+    private Long user1LastDeliveredMessageId = 0L;  // user1의 수신 확인 워터마크
+
+    @Column(name = "user2_last_delivered_message_id", nullable = false)
+    private Long user2LastDeliveredMessageId = 0L;  // user2의 수신 확인 워터마크
+
     private MessageThread(Long user1Id, Long user2Id) {
         // user1Id < user2Id 보장 (정렬하여 중복 방지)
         if (user1Id.compareTo(user2Id) < 0) {
@@ -54,14 +91,57 @@ public class MessageThread extends BaseEntity {
         return new MessageThread(user1Id, user2Id);
     }
 
-    public void updateLastMessageAt() {
-        this.lastMessageAt = LocalDateTime.now();
+    /**
+     * 목록 미리보기용 메시지 내용 (앞부분만)
+     */
+    public static String preview(String content) {
+        if (content == null || content.length() <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, PREVIEW_LENGTH);
     }
 
     public boolean involvesUser(Long userId) {
         return this.user1Id.equals(userId) || this.user2Id.equals(userId);
     }
 
+    /**
+     * 특정 참여자가 읽지 않은 메시지 수
+     */
+    public int getUnreadCount(Long userId) {
+        if (!involvesUser(userId)) {
+            throw new IllegalArgumentException("해당 사용자는 이 대화에 속해있지 않습니다.");
+        }
+        return this.user1Id.equals(userId) ? this.user1UnreadCount : this.user2UnreadCount;
+    }
+
+    /**
+     * 특정 참여자가 마지막으로 읽은 메시지 ID (읽음 워터마크)
+     */
+    public long getLastReadMessageId(Long userId) {
+        if (!involvesUser(userId)) {
+            throw new IllegalArgumentException("해당 사용자는 이 대화에 속해있지 않습니다.");
+        }
+        return this.user1Id.equals(userId) ? this.user1LastReadMessageId : this.user2LastReadMessageId;
+    }
+
+    /**
+     * 특정 참여자가 마지막으로 수신 확인한 메시지 ID (수신 확인 워터마크)
+     */
+    public long getLastDeliveredMessageId(Long userId) {
+        if (!involvesUser(userId)) {
+            throw new IllegalArgumentException("해당 사용자는 이 대화에 속해있지 않습니다.");
+        }
+        return this.user1Id.equals(userId) ? this.user1LastDeliveredMessageId : this.user2LastDeliveredMessageId;
+    }
+
+    /**
+     * 참여자 기준 메시지 읽음 여부 (행의 읽음 표시 또는 워터마크 이하)
+     */
+    public boolean isReadBy(Long userId, Message message) {
+        return message.getIsRead() || message.getId() <= getLastReadMessageId(userId);
+    }
+
     public Long getOtherUserId(Long userId) {
         if (!involvesUser(userId)) {
             throw new IllegalArgumentException("해당 사용자는 이 대화에 속해있지 않습니다.");
@@ -0,0 +1,27 @@
+package com.community.platform.messaging.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 푸시용 새 메시지 DTO
+ * 수신자가 대화 목록/스레드를 다시 조회하지 않고 갱신할 수 있는 최소 정보
+ */
+@Getter
+@Builder
+public class MessagePushResponse {
+
+    private Long messageId; // 메시지 ID
+
+    private Long threadId; // 대화 스레드 ID
+
+    private Long senderId; // 발신자 ID
+
+    private String content; // 메시지 내용
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt; // 전송 시간
+}
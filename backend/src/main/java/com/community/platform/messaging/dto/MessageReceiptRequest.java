@@ -0,0 +1,26 @@
+package com.community.platform.messaging.dto;
+
+import com.community.platform.messaging.domain.MessageReceiptType;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 메시지 수신/읽음 확인 요청 DTO
+ * 해당 메시지 ID 이하의 스레드 메시지를 모두 확인한 것으로 처리
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class MessageReceiptRequest {
+
+    @NotNull(message = "스레드 ID는 필수입니다")
+    private Long threadId; // 대화 스레드 ID
+
+    @NotNull(message = "메시지 ID는 필수입니다")
+    private Long messageId; // 마지막으로 확인한 메시지 ID
+
+    @NotNull(message = "확인 유형은 필수입니다")
+    private MessageReceiptType type; // DELIVERED 또는 READ
+}
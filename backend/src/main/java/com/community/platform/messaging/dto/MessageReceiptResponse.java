@@ -0,0 +1,21 @@
+package com.community.platform.messaging.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 실시간 푸시용 수신/읽음 확인 DTO
+ * 상대방이 어느 메시지까지 받았고 읽었는지 발신자 화면에 표시하기 위한 정보
+ */
+@Getter
+@Builder
+public class MessageReceiptResponse {
+
+    private Long threadId; // 대화 스레드 ID
+
+    private Long userId; // 확인한 사용자 ID
+
+    private Long lastDeliveredMessageId; // 수신 확인한 마지막 메시지 ID
+
+    private Long lastReadMessageId; // 읽은 마지막 메시지 ID
+}
@@ -22,6 +22,12 @@ public class MessageThreadResponse {
 
     private Integer unreadCount; // 읽지 않은 메시지 수
 
+    private Long otherUserLastReadMessageId; // 상대방이 마지막으로 읽은 메시지 ID (이하 메시지는 읽음 표시)
+
+    private Long otherUserLastDeliveredMessageId; // 상대방이 마지막으로 수신 확인한 메시지 ID
+
+    private Boolean otherUserOnline; // 상대방 접속 여부
+
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime lastMessageAt; // 마지막 메시지 시간
 
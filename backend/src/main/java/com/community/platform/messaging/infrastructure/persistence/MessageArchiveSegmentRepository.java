@@ -0,0 +1,32 @@
+package com.community.platform.messaging.infrastructure.persistence;
+
+import com.community.platform.messaging.domain.MessageArchiveSegment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메시지 보관 세그먼트 리포지토리
+ */
+@Repository
+public interface MessageArchiveSegmentRepository extends JpaRepository<MessageArchiveSegment, Long> {
+
+    // 스레드의 가장 최근 세그먼트부터 조회
+    @Query("SELECT s FROM MessageArchiveSegment s WHERE s.threadId = :threadId " +
+           "ORDER BY s.lastCreatedAt DESC, s.lastMessageId DESC")
+    List<MessageArchiveSegment> findLatest(@Param("threadId") Long threadId, Pageable pageable);
+
+    // (createdAt, messageId)보다 오래된 메시지를 포함하는 세그먼트를 최근 순으로 조회
+    @Query("SELECT s FROM MessageArchiveSegment s WHERE s.threadId = :threadId AND " +
+           "(s.firstCreatedAt < :createdAt OR (s.firstCreatedAt = :createdAt AND s.firstMessageId < :messageId)) " +
+           "ORDER BY s.lastCreatedAt DESC, s.lastMessageId DESC")
+    List<MessageArchiveSegment> findBefore(@Param("threadId") Long threadId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("messageId") Long messageId,
+                                           Pageable pageable);
+}
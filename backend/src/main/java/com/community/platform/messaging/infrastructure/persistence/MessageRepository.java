@@ -5,14 +5,16 @@ import com.community.platform.messaging.domain.MessageStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface MessageRepository extends JpaRepository<Message, Long> {
+public interface MessageRepository extends JpaRepository<Message, Long>, MessageRepositoryCustom {
 
     // 특정 스레드의 메시지 목록 조회 (시간순)
     @Query("SELECT m FROM Message m WHERE m.thread.id = :threadId AND m.status = :status ORDER BY m.createdAt ASC")
@@ -37,21 +39,45 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
                                           @Param("status") MessageStatus status,
                                           Pageable pageable);
 
+    // 스레드에서 특정 사용자가 받은 메시지를 messageId까지 한 번에 읽음 처리 (처리된 행 수 반환)
+    @Modifying
+    @Query("UPDATE Message m SET m.isRead = true, m.readAt = :readAt " +
+           "WHERE m.thread.id = :threadId AND m.recipientId = :userId AND m.isRead = false " +
+           "AND m.status = :status AND m.id <= :messageId")
+    int markThreadAsRead(@Param("threadId") Long threadId,
+                         @Param("userId") Long userId,
+                         @Param("status") MessageStatus status,
+                         @Param("messageId") Long messageId,
+                         @Param("readAt") LocalDateTime readAt);
+
     // 특정 사용자의 안 읽은 메시지 수
     @Query("SELECT COUNT(m) FROM Message m WHERE m.recipientId = :userId AND m.isRead = false AND m.status = :status")
     Long countUnreadMessages(@Param("userId") Long userId, @Param("status") MessageStatus status);
 
-    // 특정 스레드의 안 읽은 메시지 수 (특정 사용자 기준)
-    @Query("SELECT COUNT(m) FROM Message m WHERE m.thread.id = :threadId AND m.recipientId = :userId AND m.isRead = false AND m.status = :status")
-    Integer countUnreadMessagesByThread(@Param("threadId") Long threadId,
-                                        @Param("userId") Long userId,
-                                        @Param("status") MessageStatus status);
-
     // 특정 스레드의 마지막 메시지 조회
     @Query("SELECT m FROM Message m WHERE m.thread.id = :threadId AND m.status = :status ORDER BY m.createdAt DESC LIMIT 1")
     Message findLastMessageByThreadId(@Param("threadId") Long threadId,
                                       @Param("status") MessageStatus status);
 
+    // 특정 시각 이전 메시지가 남아 있는 스레드 ID (보관 대상, 생성 시각 인덱스로 보관할 메시지만 읽음, ID 순 키셋 페이징)
+    @Query("SELECT DISTINCT m.thread.id FROM Message m " +
+           "WHERE m.createdAt < :before AND m.thread.id > :afterThreadId ORDER BY m.thread.id")
+    List<Long> findThreadIdsWithMessagesBefore(@Param("afterThreadId") Long afterThreadId,
+                                               @Param("before") LocalDateTime before,
+                                               Pageable pageable);
+
+    // 스레드에서 특정 시각 이전의 가장 오래된 메시지부터 조회 (보관 대상, 삭제 상태 포함)
+    @Query("SELECT m FROM Message m WHERE m.thread.id = :threadId AND m.createdAt < :before " +
+           "ORDER BY m.createdAt ASC, m.id ASC")
+    List<Message> findOldestByThreadId(@Param("threadId") Long threadId,
+                                       @Param("before") LocalDateTime before,
+                                       Pageable pageable);
+
+    // 보관 완료된 메시지 삭제
+    @Modifying
+    @Query("DELETE FROM Message m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
     // 특정 사용자와 관련된 모든 메시지 조회 (보낸 것 + 받은 것)
     @Query("SELECT m FROM Message m WHERE (m.senderId = :userId OR m.recipientId = :userId) AND m.status = :status ORDER BY m.createdAt DESC")
     Page<Message> findByUserIdAndStatus(@Param("userId") Long userId,
@@ -0,0 +1,29 @@
+package com.community.platform.messaging.infrastructure.persistence;
+
+import com.community.platform.messaging.domain.Message;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 메시지 목록 키셋 페이징용 커스텀 Repository
+ * 모든 목록은 (created_at, id) 내림차순이며, 커서는 이전 페이지 마지막 메시지의 (생성 시간, ID)
+ * 커서가 없으면(첫 페이지) 두 값 모두 null
+ */
+public interface MessageRepositoryCustom {
+
+    /**
+     * 스레드의 활성 메시지 (idx_message_thread_created 사용)
+     */
+    List<Message> findThreadMessagesByCursor(Long threadId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * 받은 활성 메시지 (idx_message_recipient_status_created 사용)
+     */
+    List<Message> findReceivedMessagesByCursor(Long recipientId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    /**
+     * 보낸 활성 메시지 (idx_message_sender_created 사용)
+     */
+    List<Message> findSentMessagesByCursor(Long senderId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+}
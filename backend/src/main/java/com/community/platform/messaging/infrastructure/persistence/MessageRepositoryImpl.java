@@ -0,0 +1,63 @@
+package com.community.platform.messaging.infrastructure.persistence;
+
+import com.community.platform.messaging.domain.Message;
+import com.community.platform.messaging.domain.MessageStatus;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.community.platform.messaging.domain.QMessage.message;
+
+/**
+ * QueryDSL을 사용한 메시지 목록 커스텀 Repository 구현체
+ * 첫 페이지와 이후 페이지 모두 인덱스 범위 스캔 + LIMIT으로 처리되어 대화가 길어져도 페이지당 비용이 일정
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessageRepositoryImpl implements MessageRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Message> findThreadMessagesByCursor(Long threadId, LocalDateTime cursorCreatedAt,
+                                                    Long cursorId, int limit) {
+        return findByCursor(message.thread.id.eq(threadId), cursorCreatedAt, cursorId, limit);
+    }
+
+    @Override
+    public List<Message> findReceivedMessagesByCursor(Long recipientId, LocalDateTime cursorCreatedAt,
+                                                      Long cursorId, int limit) {
+        return findByCursor(message.recipientId.eq(recipientId), cursorCreatedAt, cursorId, limit);
+    }
+
+    @Override
+    public List<Message> findSentMessagesByCursor(Long senderId, LocalDateTime cursorCreatedAt,
+                                                  Long cursorId, int limit) {
+        return findByCursor(message.senderId.eq(senderId), cursorCreatedAt, cursorId, limit);
+    }
+
+    private List<Message> findByCursor(BooleanExpression owner, LocalDateTime cursorCreatedAt,
+                                       Long cursorId, int limit) {
+        List<Predicate> conditions = new ArrayList<>();
+        conditions.add(owner);
+        conditions.add(message.status.eq(MessageStatus.ACTIVE));
+        if (cursorCreatedAt != null && cursorId != null) {
+            // (created_at, id) < (:cursorCreatedAt, :cursorId)
+            conditions.add(message.createdAt.lt(cursorCreatedAt)
+                    .or(message.createdAt.eq(cursorCreatedAt).and(message.id.lt(cursorId))));
+        }
+
+        return queryFactory
+                .selectFrom(message)
+                .where(conditions.toArray(Predicate[]::new))
+                .orderBy(message.createdAt.desc(), message.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+}
@@ -4,10 +4,13 @@ import com.community.platform.messaging.domain.MessageThread;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,6 +27,82 @@ public interface MessageThreadRepository extends JpaRepository<MessageThread, Lo
     @Query("SELECT t FROM MessageThread t WHERE t.user1Id = :userId OR t.user2Id = :userId ORDER BY t.lastMessageAt DESC")
     Page<MessageThread> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // 새 메시지 반영 (마지막 메시지 갱신 + 수신자 읽지 않은 수 증가)
+    // 나중에 커밋된 이전 메시지가 마지막 메시지를 덮어쓰지 않도록 ID가 더 클 때만 미리보기 교체
+    @Modifying
+    @Query("UPDATE MessageThread t SET " +
+           "t.lastMessageId = CASE WHEN t.lastMessageId IS NULL OR t.lastMessageId < :messageId THEN :messageId ELSE t.lastMessageId END, " +
+           "t.lastSenderId = CASE WHEN t.lastMessageId IS NULL OR t.lastMessageId < :messageId THEN :senderId ELSE t.lastSenderId END, " +
+           "t.lastMessagePreview = CASE WHEN t.lastMessageId IS NULL OR t.lastMessageId < :messageId THEN :preview ELSE t.lastMessagePreview END, " +
+           "t.lastMessageAt = CASE WHEN t.lastMessageId IS NULL OR t.lastMessageId < :messageId THEN :sentAt ELSE t.lastMessageAt END, " +
+           "t.user1UnreadCount = t.user1UnreadCount + CASE WHEN t.user1Id = :recipientId THEN 1 ELSE 0 END, " +
+           "t.user2UnreadCount = t.user2UnreadCount + CASE WHEN t.user2Id = :recipientId THEN 1 ELSE 0 END " +
+           "WHERE t.id = :threadId")
+    int recordMessage(@Param("threadId") Long threadId,
+                      @Param("messageId") Long messageId,
+                      @Param("senderId") Long senderId,
+                      @Param("recipientId") Long recipientId,
+                      @Param("preview") String preview,
+                      @Param("sentAt") LocalDateTime sentAt);
+
+    // 참여자의 읽지 않은 수 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE MessageThread t SET " +
+           "t.user1UnreadCount = CASE WHEN t.user1Id = :userId AND t.user1UnreadCount >= :count THEN t.user1UnreadCount - :count " +
+           "                          WHEN t.user1Id = :userId THEN 0 ELSE t.user1UnreadCount END, " +
+           "t.user2UnreadCount = CASE WHEN t.user2Id = :userId AND t.user2UnreadCount >= :count THEN t.user2UnreadCount - :count " +
+           "                          WHEN t.user2Id = :userId THEN 0 ELSE t.user2UnreadCount END " +
+           "WHERE t.id = :threadId")
+    int decreaseUnread(@Param("threadId") Long threadId,
+                       @Param("userId") Long userId,
+                       @Param("count") int count);
+
+    // 참여자의 읽음 워터마크를 messageId까지 전진하고 읽음 처리한 수만큼 읽지 않은 수 감소 (스레드 전체 읽음)
+    @Modifying
+    @Query("UPDATE MessageThread t SET " +
+           "t.user1LastReadMessageId = CASE WHEN t.user1Id = :userId AND t.user1LastReadMessageId < :messageId " +
+           "                                THEN :messageId ELSE t.user1LastReadMessageId END, " +
+           "t.user2LastReadMessageId = CASE WHEN t.user2Id = :userId AND t.user2LastReadMessageId < :messageId " +
+           "                                THEN :messageId ELSE t.user2LastReadMessageId END, " +
+           "t.user1UnreadCount = CASE WHEN t.user1Id = :userId AND t.user1UnreadCount >= :readCount THEN t.user1UnreadCount - :readCount " +
+           "                          WHEN t.user1Id = :userId THEN 0 ELSE t.user1UnreadCount END, " +
+           "t.user2UnreadCount = CASE WHEN t.user2Id = :userId AND t.user2UnreadCount >= :readCount THEN t.user2UnreadCount - :readCount " +
+           "                          WHEN t.user2Id = :userId THEN 0 ELSE t.user2UnreadCount END " +
+           "WHERE t.id = :threadId")
+    int markReadUpTo(@Param("threadId") Long threadId,
+                     @Param("userId") Long userId,
+                     @Param("messageId") Long messageId,
+                     @Param("readCount") int readCount);
+
+    // 참여자의 수신 확인 워터마크를 messageId까지 전진 (현재 값보다 클 때만)
+    @Modifying
+    @Query("UPDATE MessageThread t SET " +
+           "t.user1LastDeliveredMessageId = CASE WHEN t.user1Id = :userId AND t.user1LastDeliveredMessageId < :messageId " +
+           "                                     THEN :messageId ELSE t.user1LastDeliveredMessageId END, " +
+           "t.user2LastDeliveredMessageId = CASE WHEN t.user2Id = :userId AND t.user2LastDeliveredMessageId < :messageId " +
+           "                                     THEN :messageId ELSE t.user2LastDeliveredMessageId END " +
+           "WHERE t.id = :threadId")
+    int markDeliveredUpTo(@Param("threadId") Long threadId,
+                          @Param("userId") Long userId,
+                          @Param("messageId") Long messageId);
+
+    // 마지막 메시지 교체 (마지막 메시지가 삭제된 경우, 남은 메시지가 없으면 null이고 정렬 시각은 스레드 생성 시각)
+    @Modifying
+    @Query("UPDATE MessageThread t SET t.lastMessageId = :messageId, t.lastSenderId = :senderId, " +
+           "t.lastMessagePreview = :preview, t.lastMessageAt = COALESCE(:sentAt, t.createdAt) " +
+           "WHERE t.id = :threadId AND t.lastMessageId = :deletedMessageId")
+    int replaceLastMessage(@Param("threadId") Long threadId,
+                           @Param("deletedMessageId") Long deletedMessageId,
+                           @Param("messageId") Long messageId,
+                           @Param("senderId") Long senderId,
+                           @Param("preview") String preview,
+                           @Param("sentAt") LocalDateTime sentAt);
+
+    // 특정 사용자의 전체 읽지 않은 메시지 수 (스레드 카운터 합계)
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.user1Id = :userId THEN t.user1UnreadCount ELSE t.user2UnreadCount END), 0) " +
+           "FROM MessageThread t WHERE t.user1Id = :userId OR t.user2Id = :userId")
+    Long sumUnreadByUserId(@Param("userId") Long userId);
+
     // 특정 사용자의 대화 스레드 개수
     @Query("SELECT COUNT(t) FROM MessageThread t WHERE t.user1Id = :userId OR t.user2Id = :userId")
     Long countByUserId(@Param("userId") Long userId);
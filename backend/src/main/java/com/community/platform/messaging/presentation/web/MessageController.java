@@ -1,10 +1,13 @@
 package com.community.platform.messaging.presentation.web;
 
+import com.community.platform.messaging.application.MessageReceiptService;
 import com.community.platform.messaging.application.MessageService;
+import com.community.platform.messaging.dto.MessageReceiptRequest;
 import com.community.platform.messaging.dto.MessageResponse;
 import com.community.platform.messaging.dto.MessageSendRequest;
 import com.community.platform.messaging.dto.MessageThreadResponse;
 import com.community.platform.shared.dto.ApiResponse;
+import com.community.platform.shared.dto.CursorResponse;
 import com.community.platform.shared.dto.PageResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -25,6 +28,7 @@ import org.springframework.web.bind.annotation.*;
 public class MessageController {
 
     private final MessageService messageService;
+    private final MessageReceiptService receiptService;
 
     /**
      * 메시지 전송
@@ -74,6 +78,20 @@ public class MessageController {
         return ApiResponse.success(PageResponse.of(messages));
     }
 
+    /**
+     * 받은 메시지 목록 커서 조회 (무한 스크롤)
+     * GET /api/v1/messages/inbox/feed
+     */
+    @GetMapping("/inbox/feed")
+    public ApiResponse<CursorResponse<MessageResponse>> getInboxFeed(
+            @RequestParam Long currentUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("받은 메시지 커서 조회: userId={}, cursor={}", currentUserId, cursor);
+
+        return ApiResponse.success(messageService.getReceivedMessages(currentUserId, cursor, size));
+    }
+
     /**
      * 보낸 메시지 목록 조회
      * GET /api/v1/messages/sent
@@ -88,6 +106,20 @@ public class MessageController {
         return ApiResponse.success(PageResponse.of(messages));
     }
 
+    /**
+     * 보낸 메시지 목록 커서 조회 (무한 스크롤)
+     * GET /api/v1/messages/sent/feed
+     */
+    @GetMapping("/sent/feed")
+    public ApiResponse<CursorResponse<MessageResponse>> getSentFeed(
+            @RequestParam Long currentUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("보낸 메시지 커서 조회: userId={}, cursor={}", currentUserId, cursor);
+
+        return ApiResponse.success(messageService.getSentMessages(currentUserId, cursor, size));
+    }
+
     /**
      * 대화 스레드 목록 조회
      * GET /api/v1/messages/threads
@@ -118,6 +150,21 @@ public class MessageController {
         return ApiResponse.success(PageResponse.of(messages));
     }
 
+    /**
+     * 특정 스레드의 메시지 커서 조회 (최신순, 이전 대화 무한 스크롤)
+     * GET /api/v1/messages/threads/{threadId}/feed
+     */
+    @GetMapping("/threads/{threadId}/feed")
+    public ApiResponse<CursorResponse<MessageResponse>> getThreadFeed(
+            @PathVariable Long threadId,
+            @RequestParam Long currentUserId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        log.debug("스레드 메시지 커서 조회: threadId={}, userId={}, cursor={}", threadId, currentUserId, cursor);
+
+        return ApiResponse.success(messageService.getMessagesByThread(threadId, currentUserId, cursor, size));
+    }
+
     /**
      * 메시지 읽음 처리
      * PUT /api/v1/messages/{messageId}/read
@@ -146,6 +193,22 @@ public class MessageController {
         return ApiResponse.success(null, "대화를 읽음으로 표시했습니다");
     }
 
+    /**
+     * 메시지 수신/읽음 확인 (실시간으로 받은 메시지에 대한 확인, 모아서 반영 후 상대방에게 푸시)
+     * POST /api/v1/messages/receipts
+     */
+    @PostMapping("/receipts")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<Void> acknowledge(
+            @RequestParam Long currentUserId,
+            @Valid @RequestBody MessageReceiptRequest request) {
+        log.debug("메시지 확인: threadId={}, messageId={}, type={}, userId={}",
+                request.getThreadId(), request.getMessageId(), request.getType(), currentUserId);
+
+        receiptService.acknowledge(currentUserId, request.getThreadId(), request.getMessageId(), request.getType());
+        return ApiResponse.success(null, "메시지 확인이 접수되었습니다");
+    }
+
     /**
      * 메시지 삭제
      * DELETE /api/v1/messages/{messageId}
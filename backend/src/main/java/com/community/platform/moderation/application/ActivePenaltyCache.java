@@ -0,0 +1,301 @@
+package com.community.platform.moderation.application;
+
+import com.community.platform.moderation.domain.PenaltyType;
+import com.community.platform.moderation.domain.UserPenalty;
+import com.community.platform.moderation.domain.UserPenaltyCreatedEvent;
+import com.community.platform.moderation.domain.UserPenaltyExpiredEvent;
+import com.community.platform.moderation.infrastructure.persistence.UserPenaltyRepository;
+import com.community.platform.shared.infrastructure.redis.ClusterMessageBroker;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 활성 제재 인메모리 인덱스
+ * 글쓰기/댓글 작성 시마다 DB를 조회하지 않도록 userId → 제재 종료 시각을 메모리에 유지
+ * - 시작 시 활성 제재 전체 로딩, 이후 제재 생성/만료 이벤트로 갱신
+ * - 다른 노드의 변경은 Redis Pub/Sub 무효화 메시지로 반영 (해당 사용자만 DB 재조회)
+ * - 조회는 불변 스냅샷을 읽으므로 락과 객체 할당 없이 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivePenaltyCache {
+
+    private static final String INVALIDATION_CHANNEL = "moderation:penalty:invalidate";
+
+    private final UserPenaltyRepository penaltyRepository;
+    private final ClusterMessageBroker messageBroker;
+
+    // 사용자별 제재 종료 시각 원본 (쓰기 전용, this로 동기화)
+    private final Map<Long, BanWindow> banWindows = new HashMap<>();
+
+    // 전체 재로딩 중 이벤트로 변경된 사용자 (스냅샷 교체 시 이 사용자들은 현재 값 유지, this로 동기화)
+    private final Set<Long> changedDuringLoad = new HashSet<>();
+    private int activeLoads = 0;
+
+    // 조회용 불변 스냅샷
+    private volatile PenaltyIndex index = PenaltyIndex.EMPTY;
+    private volatile boolean loaded = false;
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        messageBroker.subscribe(INVALIDATION_CHANNEL, payload -> reloadUser(Long.parseLong(payload)));
+    }
+
+    /**
+     * 애플리케이션 시작 시 활성 제재 전체 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refresh();
+    }
+
+    /**
+     * 전체 재로딩 (Pub/Sub 메시지 유실 대비 10분마다 실행)
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000) // 10분
+    public void refresh() {
+        synchronized (this) {
+            activeLoads++;
+        }
+        try {
+            List<UserPenalty> penalties = penaltyRepository.findAllActivePenalties();
+
+            Map<Long, BanWindow> windows = new HashMap<>();
+            for (UserPenalty penalty : penalties) {
+                windows.computeIfAbsent(penalty.getUserId(), id -> new BanWindow())
+                        .apply(penalty.getPenaltyType(), penalty.getEndDate());
+            }
+
+            synchronized (this) {
+                // 조회 이후 이벤트로 반영된 사용자는 조회 결과보다 최신이므로 현재 값 유지
+                Map<Long, BanWindow> preserved = new HashMap<>();
+                changedDuringLoad.forEach(userId -> preserved.put(userId, banWindows.get(userId)));
+
+                banWindows.clear();
+                banWindows.putAll(windows);
+                preserved.forEach((userId, window) -> {
+                    if (window == null) {
+                        banWindows.remove(userId);
+                    } else {
+                        banWindows.put(userId, window);
+                    }
+                });
+                rebuildIndex();
+            }
+            loaded = true;
+
+            log.info("활성 제재 캐시 로딩 완료. 제재 사용자 수: {}", windows.size());
+        } catch (Exception e) {
+            log.error("활성 제재 캐시 로딩 실패. DB 조회로 대체합니다", e);
+        } finally {
+            synchronized (this) {
+                if (--activeLoads == 0) {
+                    changedDuringLoad.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * 제재 생성 이벤트 처리 - 캐시에 즉시 반영 후 다른 노드에 무효화 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePenaltyCreated(UserPenaltyCreatedEvent event) {
+        synchronized (this) {
+            banWindows.computeIfAbsent(event.getUserId(), id -> new BanWindow())
+                    .apply(event.getPenaltyType(), event.getEndDate());
+            markChanged(event.getUserId());
+            rebuildIndex();
+        }
+        messageBroker.publish(INVALIDATION_CHANNEL, String.valueOf(event.getUserId()));
+    }
+
+    /**
+     * 제재 만료 이벤트 처리 - 남은 제재가 있을 수 있으므로 해당 사용자만 DB 재조회
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePenaltyExpired(UserPenaltyExpiredEvent event) {
+        reloadUser(event.getUserId());
+        messageBroker.publish(INVALIDATION_CHANNEL, String.valueOf(event.getUserId()));
+    }
+
+    /**
+     * 특정 사용자의 제재 정보 DB 재조회
+     */
+    public void reloadUser(Long userId) {
+        List<UserPenalty> penalties = penaltyRepository.findActiveByUserId(userId);
+
+        synchronized (this) {
+            if (penalties.isEmpty()) {
+                banWindows.remove(userId);
+            } else {
+                BanWindow window = new BanWindow();
+                penalties.forEach(p -> window.apply(p.getPenaltyType(), p.getEndDate()));
+                banWindows.put(userId, window);
+            }
+            markChanged(userId);
+            rebuildIndex();
+        }
+        log.debug("제재 캐시 사용자 갱신. userId: {}, 활성 제재 수: {}", userId, penalties.size());
+    }
+
+    /**
+     * 캐시 로딩 완료 여부 (미완료 시 호출 측에서 DB 조회)
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 글쓰기 금지 여부
+     */
+    public boolean hasPostBan(long userId) {
+        return index.isBanned(userId, PenaltyIndex.POST_BAN, System.currentTimeMillis());
+    }
+
+    /**
+     * 댓글 금지 여부
+     */
+    public boolean hasCommentBan(long userId) {
+        return index.isBanned(userId, PenaltyIndex.COMMENT_BAN, System.currentTimeMillis());
+    }
+
+    // 전체 재로딩 중이면 변경 사용자 기록 (this 보유 상태에서 호출)
+    private void markChanged(Long userId) {
+        if (activeLoads > 0) {
+            changedDuringLoad.add(userId);
+        }
+    }
+
+    // banWindows 기준으로 조회용 스냅샷 재생성 (제재 변경은 드물어 전체 재생성)
+    private void rebuildIndex() {
+        this.index = PenaltyIndex.build(banWindows);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return Long.MAX_VALUE; // 영구 제재
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 사용자별 제재 종류별 종료 시각 (epoch millis, 0 = 제재 없음)
+     */
+    private static final class BanWindow {
+        private long postBanUntil;
+        private long commentBanUntil;
+
+        void apply(PenaltyType type, LocalDateTime endDate) {
+            long until = toEpochMillis(endDate);
+            if (type.isPostBan() || type.isFullBan()) {
+                postBanUntil = Math.max(postBanUntil, until);
+            }
+            if (type.isCommentBan() || type.isFullBan()) {
+                commentBanUntil = Math.max(commentBanUntil, until);
+            }
+        }
+    }
+
+    /**
+     * long 키 오픈 어드레싱 해시 테이블 (불변)
+     * 비트셋 필터로 제재 없는 사용자는 테이블 탐색 없이 바로 false 반환
+     */
+    private static final class PenaltyIndex {
+
+        static final int POST_BAN = 0;
+        static final int COMMENT_BAN = 1;
+
+        static final PenaltyIndex EMPTY = new PenaltyIndex(new long[0], new long[0], new long[1]);
+
+        private static final long EMPTY_KEY = 0L; // 사용자 ID는 1부터 발급됨
+
+        private final long[] keys;
+        private final long[] untilMillis; // [slot * 2 + 종류]
+        private final long[] filterBits;
+        private final int mask;
+        private final int filterMask;
+
+        private PenaltyIndex(long[] keys, long[] untilMillis, long[] filterBits) {
+            this.keys = keys;
+            this.untilMillis = untilMillis;
+            this.filterBits = filterBits;
+            this.mask = keys.length - 1;
+            this.filterMask = filterBits.length - 1;
+        }
+
+        static PenaltyIndex build(Map<Long, BanWindow> windows) {
+            if (windows.isEmpty()) {
+                return EMPTY;
+            }
+
+            // 적재율 50% 이하 유지
+            int capacity = Integer.highestOneBit(Math.max(windows.size(), 2) * 2) << 1;
+            long[] keys = new long[capacity];
+            long[] untilMillis = new long[capacity * 2];
+            long[] filterBits = new long[Math.max(capacity / 8, 1)];
+            int mask = capacity - 1;
+            int filterMask = filterBits.length - 1;
+
+            windows.forEach((userId, window) -> {
+                long hash = mix(userId);
+                filterBits[(int) (hash >>> 6) & filterMask] |= 1L << hash;
+
+                int slot = (int) hash & mask;
+                while (keys[slot] != EMPTY_KEY) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = userId;
+                untilMillis[slot * 2 + POST_BAN] = window.postBanUntil;
+                untilMillis[slot * 2 + COMMENT_BAN] = window.commentBanUntil;
+            });
+
+            return new PenaltyIndex(keys, untilMillis, filterBits);
+        }
+
+        boolean isBanned(long userId, int kind, long nowMillis) {
+            if (keys.length == 0) {
+                return false;
+            }
+
+            long hash = mix(userId);
+            if ((filterBits[(int) (hash >>> 6) & filterMask] & (1L << hash)) == 0) {
+                return false;
+            }
+
+            int slot = (int) hash & mask;
+            long key;
+            while ((key = keys[slot]) != EMPTY_KEY) {
+                if (key == userId) {
+                    return untilMillis[slot * 2 + kind] > nowMillis;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return false;
+        }
+
+        // 연속된 ID가 한쪽 슬롯에 몰리지 않도록 비트 혼합 (SplitMix64)
+        private static long mix(long value) {
+            long z = value + 0x9E3779B97F4A7C15L;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
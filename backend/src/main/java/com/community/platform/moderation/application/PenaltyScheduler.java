@@ -1,33 +1,184 @@
 package com.community.platform.moderation.application;
 
+import com.community.platform.moderation.domain.UserPenalty;
+import com.community.platform.moderation.domain.UserPenaltyCreatedEvent;
+import com.community.platform.moderation.domain.UserPenaltyExpiredEvent;
+import com.community.platform.moderation.infrastructure.persistence.UserPenaltyRepository;
+import com.community.platform.shared.application.SchedulerLeaseService;
+import com.community.platform.shared.infrastructure.TimingWheel;
+import com.community.platform.shared.infrastructure.redis.ClusterMessageBroker;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
- * 제재 자동 처리 스케줄러
- * 만료된 제재를 주기적으로 자동 해제
+ * 제재 자동 만료 스케줄러
+ * 제재별 만료 시각을 타이밍 휠에 예약하여 정확한 시각에 해제 (주기적 전체 조회 없음)
+ * - DB 리스를 보유한 한 노드만 만료 처리를 담당
+ * - 리스 획득 시 DB에서 기간제 활성 제재를 다시 읽어 휠을 복원
+ * - 다른 노드에서 생성된 제재는 Redis Pub/Sub으로 전달받아 예약
+ * - 만료 처리(DB 트랜잭션)는 휠 틱 스레드를 막지 않도록 전용 스레드에서 순서대로 실행
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PenaltyScheduler {
 
+    private static final String LEASE_NAME = "penalty-expiry";
+    private static final Duration LEASE_TTL = Duration.ofSeconds(30);
+    private static final String SCHEDULE_CHANNEL = "moderation:penalty:schedule";
+
     private final UserPenaltyService penaltyService;
+    private final UserPenaltyRepository penaltyRepository;
+    private final SchedulerLeaseService leaseService;
+    private final ClusterMessageBroker messageBroker;
+
+    private final TimingWheel<Long> expiryWheel =
+            new TimingWheel<>("penalty-expiry", 1000, 512, this::expire);
+
+    private volatile boolean owner = false;
+    private ExecutorService expiryExecutor;
+
+    @PostConstruct
+    void init() {
+        expiryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "penalty-expiry-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        expiryWheel.start();
+        messageBroker.subscribe(SCHEDULE_CHANNEL, this::handleRemoteSchedule);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        expiryWheel.stop();
+        expiryExecutor.shutdown();
+        leaseService.release(LEASE_NAME);
+    }
+
+    /**
+     * 만료 처리 리스 갱신
+     * 10초마다 실행, 리스를 새로 획득하면 휠 복원 / 잃으면 휠 비움
+     */
+    @Scheduled(fixedDelay = 10000) // 10초
+    public void renewLease() {
+        boolean held = leaseService.tryAcquire(LEASE_NAME, LEASE_TTL);
+
+        if (held && !owner) {
+            log.info("제재 만료 처리 담당 노드로 전환. ownerId: {}", leaseService.getOwnerId());
+            owner = true;
+            rehydrate();
+        } else if (!held && owner) {
+            log.info("제재 만료 처리 담당 해제. ownerId: {}", leaseService.getOwnerId());
+            owner = false;
+            expiryWheel.clear();
+        }
+    }
+
+    /**
+     * 휠 재구성
+     * Pub/Sub 메시지 유실 대비 1시간마다 실행 (담당 노드만)
+     */
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000) // 1시간
+    public void periodicRehydrate() {
+        if (owner) {
+            rehydrate();
+        }
+    }
 
     /**
-     * 만료된 제재 자동 해제
-     * 5분마다 실행
+     * 제재 생성 시 만료 시각 예약 (담당 노드가 아니면 Pub/Sub으로 전달)
      */
-    @Scheduled(fixedDelay = 300000) // 5분 = 300,000ms
-    public void expireOutdatedPenalties() {
-        log.debug("만료된 제재 자동 처리 스케줄러 실행");
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePenaltyCreated(UserPenaltyCreatedEvent event) {
+        if (event.getEndDate() == null) {
+            return; // 영구 제재
+        }
+
+        long deadline = toEpochMillis(event.getEndDate());
+        if (owner) {
+            expiryWheel.schedule(event.getPenaltyId(), deadline);
+        }
+        messageBroker.publish(SCHEDULE_CHANNEL, event.getPenaltyId() + ":" + deadline);
+    }
 
+    /**
+     * 수동 해제된 제재는 예약 취소
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePenaltyExpired(UserPenaltyExpiredEvent event) {
+        expiryWheel.cancel(event.getPenaltyId());
+    }
+
+    private void handleRemoteSchedule(String payload) {
+        if (!owner) {
+            return;
+        }
+
+        int separator = payload.indexOf(':');
+        Long penaltyId = Long.parseLong(payload.substring(0, separator));
+        long deadline = Long.parseLong(payload.substring(separator + 1));
+        expiryWheel.schedule(penaltyId, deadline);
+    }
+
+    private void rehydrate() {
         try {
+            // 조회 전에 비워야 조회 이후 도착한 예약(이 노드의 생성 이벤트, 다른 노드의 메시지)이 지워지지 않음
+            // 조회 중 비어 있는 동안 지난 만료 시각은 다시 예약될 때 다음 틱에 처리됨
+            expiryWheel.clear();
+
+            // 담당 노드 공백 동안 만료된 제재 먼저 정리
             penaltyService.checkAndAutoExpire();
+
+            List<UserPenalty> penalties = penaltyRepository.findAllActivePenalties();
+            for (UserPenalty penalty : penalties) {
+                if (!penalty.isPermanent()) {
+                    expiryWheel.schedule(penalty.getId(), toEpochMillis(penalty.getEndDate()));
+                }
+            }
+
+            log.info("제재 만료 휠 복원 완료. 예약 수: {}", expiryWheel.size());
         } catch (Exception e) {
-            log.error("제재 자동 처리 중 오류 발생", e);
+            log.error("제재 만료 휠 복원 중 오류 발생", e);
         }
     }
+
+    // 틱 스레드에서는 넘기기만 함
+    private void expire(Long penaltyId) {
+        try {
+            expiryExecutor.execute(() -> expireNow(penaltyId));
+        } catch (RejectedExecutionException e) {
+            log.warn("종료 중이므로 제재 만료 처리를 건너뜁니다. penaltyId: {}", penaltyId);
+        }
+    }
+
+    private void expireNow(Long penaltyId) {
+        if (!owner || !leaseService.isHeld(LEASE_NAME)) {
+            return;
+        }
+
+        try {
+            penaltyService.expireIfDue(penaltyId);
+        } catch (Exception e) {
+            log.error("제재 만료 처리 실패. penaltyId: {}", penaltyId, e);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
@@ -0,0 +1,387 @@
+package com.community.platform.moderation.application;
+
+import com.community.platform.content.domain.Comment;
+import com.community.platform.content.domain.Post;
+import com.community.platform.content.infrastructure.persistence.CommentRepository;
+import com.community.platform.content.infrastructure.persistence.PostRepository;
+import com.community.platform.moderation.domain.ReportApprovedEvent;
+import com.community.platform.moderation.domain.ReportCreatedEvent;
+import com.community.platform.moderation.domain.ReportReason;
+import com.community.platform.moderation.domain.ReportRejectedEvent;
+import com.community.platform.moderation.domain.ReportStatus;
+import com.community.platform.moderation.domain.ReportTargetType;
+import com.community.platform.moderation.infrastructure.persistence.ReportRepository;
+import com.community.platform.shared.infrastructure.redis.ClusterMessageBroker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 신고 누적 카운터
+ * 대상(게시글/댓글)별로 최근 window-minutes 동안의 신고 점수를 메모리에 누적하고, 임계값을 넘으면 관리자 검토 전에 자동으로 숨김
+ * - 신고 점수 = 사유 가중치(고위험 사유 2배) × 신고자 신뢰도 (신고마다 reports 테이블을 조회하지 않음)
+ * - 신고자 신뢰도는 과거 승인/반려 비율로 계산 (신규 신고자 1.0, 승인이 많을수록 2.0, 반려가 많을수록 0에 가까워짐)
+ * - 다른 노드에서 접수된 신고는 Redis Pub/Sub으로 전달받아 함께 누적 (숨김 처리는 임계값을 넘긴 신고를 접수한 노드가 수행)
+ * - 시작 시 처리되지 않은 최근 신고로 카운터 재구성, 신고 반려 시 해당 신고 점수를 빼고 남은 신고가 없으면 숨김 해제
+ */
+@Slf4j
+@Component
+public class ReportAccumulator {
+
+    private static final String ACCUMULATE_CHANNEL = "moderation:report:accumulate";
+    private static final double HIGH_SEVERITY_WEIGHT = 2.0;
+
+    private final ReportRepository reportRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ClusterMessageBroker messageBroker;
+    private final TransactionTemplate transactionTemplate;
+    private final double threshold;
+    private final long windowMillis;
+    private final Counter autoHiddenCounter;
+
+    // 대상별 최근 신고 점수
+    private final Map<TargetKey, ReportWindow> windows = new ConcurrentHashMap<>();
+
+    // 신고자별 승인/반려 수 (10분마다 DB 집계로 교체)
+    private volatile Map<Long, ReviewRecord> reviewRecords = new ConcurrentHashMap<>();
+
+    public ReportAccumulator(
+            ReportRepository reportRepository,
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            ClusterMessageBroker messageBroker,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${community.moderation.auto-hide.threshold:5.0}") double threshold,
+            @Value("${community.moderation.auto-hide.window-minutes:60}") long windowMinutes) {
+        this.reportRepository = reportRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.messageBroker = messageBroker;
+        this.threshold = threshold;
+        this.windowMillis = Math.max(windowMinutes, 1) * 60_000;
+        this.autoHiddenCounter = meterRegistry.counter("community.moderation.auto-hidden");
+
+        // AFTER_COMMIT 시점에서도 독립적으로 저장되도록 항상 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void subscribeAccumulate() {
+        messageBroker.subscribe(ACCUMULATE_CHANNEL, this::handleReplication);
+    }
+
+    /**
+     * 애플리케이션 시작 시 신고자 신뢰도와 처리되지 않은 최근 신고로 카운터 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        refreshReviewRecords();
+        try {
+            long now = System.currentTimeMillis();
+            List<Object[]> rows = reportRepository.findUnresolvedSince(
+                    LocalDateTime.now().minus(Duration.ofMillis(windowMillis)));
+            for (Object[] row : rows) {
+                ReportTargetType targetType = (ReportTargetType) row[1];
+                if (!isHideable(targetType)) {
+                    continue;
+                }
+                Long reporterId = (Long) row[0];
+                double weight = weightOf((ReportReason) row[3], reporterId);
+                windows.computeIfAbsent(new TargetKey(targetType, (Long) row[2]), key -> new ReportWindow())
+                        .add(reporterId, toEpochMillis((LocalDateTime) row[4]), weight, now - windowMillis);
+            }
+            log.info("신고 누적 카운터 재구성 완료. 신고 수: {}, 대상 수: {}", rows.size(), windows.size());
+        } catch (Exception e) {
+            log.error("신고 누적 카운터 재구성 실패. 이후 접수되는 신고부터 누적합니다", e);
+        }
+    }
+
+    /**
+     * 신고 생성 이벤트 처리 - 점수 누적 후 임계값을 넘으면 대상 숨김
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReportCreated(ReportCreatedEvent event) {
+        if (!isHideable(event.getTargetType())) {
+            return;
+        }
+
+        TargetKey key = new TargetKey(event.getTargetType(), event.getTargetId());
+        double weight = weightOf(event.getReason(), event.getReporterId());
+        long now = System.currentTimeMillis();
+        messageBroker.publish(ACCUMULATE_CHANNEL, String.format("A:%s:%d:%d:%s:%d",
+                key.targetType(), key.targetId(), event.getReporterId(), weight, now));
+
+        double score = windows.computeIfAbsent(key, k -> new ReportWindow())
+                .add(event.getReporterId(), now, weight, now - windowMillis);
+        if (score >= threshold) {
+            clear(key);
+            messageBroker.publish(ACCUMULATE_CHANNEL, String.format("C:%s:%d", key.targetType(), key.targetId()));
+            hide(key, score);
+        }
+    }
+
+    /**
+     * 신고 승인 이벤트 처리 - 신고자 신뢰도 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReportApproved(ReportApprovedEvent event) {
+        reviewRecords.merge(event.getReporterId(), new ReviewRecord(1, 0), ReviewRecord::plus);
+    }
+
+    /**
+     * 신고 반려 이벤트 처리 - 신고자 신뢰도 반영, 점수 차감, 남은 신고가 없으면 자동 숨김 해제
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReportRejected(ReportRejectedEvent event) {
+        reviewRecords.merge(event.getReporterId(), new ReviewRecord(0, 1), ReviewRecord::plus);
+        if (!isHideable(event.getTargetType())) {
+            return;
+        }
+
+        TargetKey key = new TargetKey(event.getTargetType(), event.getTargetId());
+        removeReport(key, event.getReporterId());
+        messageBroker.publish(ACCUMULATE_CHANNEL, String.format("R:%s:%d:%d",
+                key.targetType(), key.targetId(), event.getReporterId()));
+        try {
+            transactionTemplate.executeWithoutResult(status -> unhideIfCleared(key));
+        } catch (Exception e) {
+            log.error("자동 숨김 해제 실패. targetType: {}, targetId: {}", key.targetType(), key.targetId(), e);
+        }
+    }
+
+    /**
+     * 신고자 신뢰도 집계 재조회 (다른 노드의 승인/반려 반영, 10분마다 실행)
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000) // 10분
+    public void refreshReviewRecords() {
+        try {
+            Map<Long, ReviewRecord> records = new ConcurrentHashMap<>();
+            for (Object[] row : reportRepository.countReviewedByReporter()) {
+                long count = (Long) row[2];
+                ReviewRecord record = row[1] == ReportStatus.APPROVED
+                        ? new ReviewRecord(count, 0)
+                        : new ReviewRecord(0, count);
+                records.merge((Long) row[0], record, ReviewRecord::plus);
+            }
+            reviewRecords = records;
+            log.debug("신고자 신뢰도 집계 갱신. 신고자 수: {}", records.size());
+        } catch (Exception e) {
+            log.error("신고자 신뢰도 집계 실패. 기존 값을 유지합니다", e);
+        }
+    }
+
+    /**
+     * 기간이 지난 신고 점수 정리 (1분마다 실행)
+     */
+    @Scheduled(fixedDelay = 60000) // 1분
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - windowMillis;
+        for (TargetKey key : windows.keySet()) {
+            windows.computeIfPresent(key, (k, window) -> window.prune(cutoff) ? null : window);
+        }
+    }
+
+    /**
+     * 대상의 현재 신고 점수
+     */
+    public double getScore(ReportTargetType targetType, Long targetId) {
+        ReportWindow window = windows.get(new TargetKey(targetType, targetId));
+        return window != null ? window.score(System.currentTimeMillis() - windowMillis) : 0.0;
+    }
+
+    // 신고 점수 = 사유 가중치 × 신고자 신뢰도
+    private double weightOf(ReportReason reason, Long reporterId) {
+        double reasonWeight = reason != null && reason.isHighSeverity() ? HIGH_SEVERITY_WEIGHT : 1.0;
+        ReviewRecord record = reporterId != null ? reviewRecords.get(reporterId) : null;
+        return reasonWeight * (record != null ? record.trust() : 1.0);
+    }
+
+    private void clear(TargetKey key) {
+        windows.remove(key);
+    }
+
+    private void removeReport(TargetKey key, Long reporterId) {
+        ReportWindow window = windows.get(key);
+        if (window != null) {
+            window.remove(reporterId);
+        }
+    }
+
+    // 게시글/댓글 숨김 (이미 숨겨졌거나 삭제된 대상은 그대로 둠)
+    private void hide(TargetKey key, double score) {
+        try {
+            Boolean hidden = transactionTemplate.execute(status -> switch (key.targetType()) {
+                case POST -> postRepository.findById(key.targetId())
+                        .filter(Post::isPublished)
+                        .map(post -> {
+                            post.hide();
+                            return true;
+                        })
+                        .orElse(false);
+                case COMMENT -> commentRepository.findById(key.targetId())
+                        .filter(Comment::isActive)
+                        .map(comment -> {
+                            comment.markAsReported();
+                            return true;
+                        })
+                        .orElse(false);
+                default -> false;
+            });
+            if (Boolean.TRUE.equals(hidden)) {
+                autoHiddenCounter.increment();
+                log.warn("신고 누적으로 자동 숨김. targetType: {}, targetId: {}, score: {}",
+                        key.targetType(), key.targetId(), score);
+            }
+        } catch (Exception e) {
+            log.error("신고 누적 자동 숨김 실패. targetType: {}, targetId: {}", key.targetType(), key.targetId(), e);
+        }
+    }
+
+    // 처리되지 않은 신고가 남아있지 않으면 자동 숨김 해제
+    private void unhideIfCleared(TargetKey key) {
+        if (reportRepository.existsUnresolvedByTarget(key.targetType(), key.targetId())) {
+            return;
+        }
+        switch (key.targetType()) {
+            case POST -> postRepository.findById(key.targetId())
+                    .filter(Post::isHidden)
+                    .ifPresent(post -> {
+                        post.unhide();
+                        log.info("신고 반려로 게시글 숨김 해제. postId: {}", key.targetId());
+                    });
+            case COMMENT -> commentRepository.findById(key.targetId())
+                    .filter(Comment::isReported)
+                    .ifPresent(comment -> {
+                        comment.restore();
+                        log.info("신고 반려로 댓글 숨김 해제. commentId: {}", key.targetId());
+                    });
+            default -> {
+            }
+        }
+    }
+
+    // 다른 노드의 메시지 반영
+    // 누적 "A:대상유형:대상ID:신고자ID:점수:시각", 반려 "R:대상유형:대상ID:신고자ID", 숨김 후 초기화 "C:대상유형:대상ID"
+    private void handleReplication(String payload) {
+        try {
+            String[] parts = payload.split(":");
+            TargetKey key = new TargetKey(ReportTargetType.valueOf(parts[1]), Long.parseLong(parts[2]));
+            switch (parts[0]) {
+                case "A" -> windows.computeIfAbsent(key, k -> new ReportWindow())
+                        .add(Long.parseLong(parts[3]), Long.parseLong(parts[5]), Double.parseDouble(parts[4]),
+                                System.currentTimeMillis() - windowMillis);
+                case "R" -> removeReport(key, Long.parseLong(parts[3]));
+                case "C" -> clear(key);
+                default -> log.warn("알 수 없는 신고 누적 복제 메시지: {}", payload);
+            }
+        } catch (RuntimeException e) {
+            log.warn("신고 누적 복제 메시지 형식 오류: {}", payload);
+        }
+    }
+
+    private static boolean isHideable(ReportTargetType targetType) {
+        return targetType == ReportTargetType.POST || targetType == ReportTargetType.COMMENT;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 신고 대상
+     */
+    private record TargetKey(ReportTargetType targetType, Long targetId) {
+    }
+
+    /**
+     * 신고자의 승인/반려 수
+     */
+    private record ReviewRecord(long approved, long rejected) {
+
+        ReviewRecord plus(ReviewRecord other) {
+            return new ReviewRecord(approved + other.approved, rejected + other.rejected);
+        }
+
+        // 라플라스 평활한 승인 비율 × 2 (기록 없으면 1.0, 범위 0~2)
+        double trust() {
+            return 2.0 * (approved + 1) / (approved + rejected + 2);
+        }
+    }
+
+    /**
+     * 대상 하나의 최근 신고 목록과 점수 합계
+     */
+    private static final class ReportWindow {
+        private final ArrayDeque<ReportEntry> entries = new ArrayDeque<>();
+        private double sum;
+
+        // 신고 추가 후 현재 점수 반환 (복제 메시지는 순서가 섞일 수 있으므로 정리는 전체 목록 기준)
+        synchronized double add(Long reporterId, long at, double weight, long cutoff) {
+            if (at > cutoff) {
+                entries.addLast(new ReportEntry(reporterId, at, weight));
+                sum += weight;
+            }
+            return score(cutoff);
+        }
+
+        synchronized void remove(Long reporterId) {
+            Iterator<ReportEntry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                ReportEntry entry = iterator.next();
+                if (entry.reporterId().equals(reporterId)) {
+                    iterator.remove();
+                    sum -= entry.weight();
+                }
+            }
+            if (entries.isEmpty()) {
+                sum = 0;
+            }
+        }
+
+        synchronized double score(long cutoff) {
+            prune(cutoff);
+            return sum;
+        }
+
+        // 기간이 지난 신고 제거, 남은 신고가 없으면 true
+        synchronized boolean prune(long cutoff) {
+            entries.removeIf(entry -> {
+                if (entry.at() <= cutoff) {
+                    sum -= entry.weight();
+                    return true;
+                }
+                return false;
+            });
+            if (entries.isEmpty()) {
+                sum = 0;
+            }
+            return entries.isEmpty();
+        }
+    }
+
+    private record ReportEntry(Long reporterId, long at, double weight) {
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -28,6 +29,7 @@ public class UserPenaltyService {
 
     private final UserPenaltyRepository penaltyRepository;
     private final DomainEventService domainEventService;
+    private final ActivePenaltyCache activePenaltyCache;
 
     /**
      * 제재 부여
@@ -74,8 +76,13 @@ public class UserPenaltyService {
 
     /**
      * 글쓰기 금지 제재 여부 확인
+     * 제재 캐시 로딩 후에는 DB 조회 없이 메모리에서 판단
      */
     public boolean hasPostBan(Long userId) {
+        if (activePenaltyCache.isLoaded()) {
+            return activePenaltyCache.hasPostBan(userId);
+        }
+
         List<PenaltyType> postBanTypes = Arrays.asList(
                 PenaltyType.POST_BAN_24H,
                 PenaltyType.POST_BAN_7D,
@@ -88,8 +95,13 @@ public class UserPenaltyService {
 
     /**
      * 댓글 금지 제재 여부 확인
+     * 제재 캐시 로딩 후에는 DB 조회 없이 메모리에서 판단
      */
     public boolean hasCommentBan(Long userId) {
+        if (activePenaltyCache.isLoaded()) {
+            return activePenaltyCache.hasCommentBan(userId);
+        }
+
         List<PenaltyType> commentBanTypes = Arrays.asList(
                 PenaltyType.COMMENT_BAN_24H,
                 PenaltyType.COMMENT_BAN_7D,
@@ -137,8 +149,26 @@ public class UserPenaltyService {
     }
 
     /**
-     * 만료된 제재 자동 처리
-     * 스케줄러에서 주기적으로 호출
+     * 만료 시각이 지난 제재 해제
+     * 타이밍 휠에서 만료 시각에 호출되며, 이미 해제되었거나 아직 기간이 남은 경우 무시
+     */
+    @Transactional
+    public void expireIfDue(Long penaltyId) {
+        UserPenalty penalty = penaltyRepository.findById(penaltyId).orElse(null);
+        if (penalty == null || !penalty.getIsActive() || penalty.isPermanent()
+                || penalty.getEndDate().isAfter(LocalDateTime.now())) {
+            return;
+        }
+
+        log.info("제재 만료 처리. penaltyId: {}, userId: {}", penaltyId, penalty.getUserId());
+
+        penalty.expire();
+        domainEventService.publishEvents(penalty);
+    }
+
+    /**
+     * 만료된 제재 일괄 처리
+     * 만료 스케줄 담당 노드가 변경될 때 누락분 정리용으로 호출
      */
     @Transactional
     public void checkAndAutoExpire() {
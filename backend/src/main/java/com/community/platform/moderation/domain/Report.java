@@ -149,7 +149,9 @@ public class Report extends AggregateRoot {
         this.reviewComment = reviewComment;
         this.reviewedAt = LocalDateTime.now();
 
-        addDomainEvent(new ReportRejectedEvent(this.getId(), this.reporterId, reviewerId, reviewComment));
+        addDomainEvent(new ReportRejectedEvent(
+            this.getId(), this.reporterId, reviewerId, this.targetType, this.targetId, reviewComment
+        ));
     }
 
     /**
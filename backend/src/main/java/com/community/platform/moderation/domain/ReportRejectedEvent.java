@@ -13,13 +13,18 @@ public class ReportRejectedEvent implements DomainEvent {
     private final Long reportId;
     private final Long reporterId;  // 신고자 ID
     private final Long reviewerId;
+    private final ReportTargetType targetType;
+    private final Long targetId;
     private final String reviewComment;
     private final LocalDateTime occurredOn;
 
-    public ReportRejectedEvent(Long reportId, Long reporterId, Long reviewerId, String reviewComment) {
+    public ReportRejectedEvent(Long reportId, Long reporterId, Long reviewerId,
+                               ReportTargetType targetType, Long targetId, String reviewComment) {
         this.reportId = reportId;
         this.reporterId = reporterId;
         this.reviewerId = reviewerId;
+        this.targetType = targetType;
+        this.targetId = targetId;
         this.reviewComment = reviewComment;
         this.occurredOn = LocalDateTime.now();
     }
@@ -110,4 +110,28 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
            "AND r.status = 'APPROVED' AND r.reviewedAt > :since")
     Long countApprovedReportsByUser(@Param("userId") Long userId,
                                     @Param("since") LocalDateTime since);
+
+    /**
+     * 기간 내 처리되지 않은 신고 조회 (신고 누적 카운터 재구성용)
+     * @return [reporterId, targetType, targetId, reason, createdAt] 목록
+     */
+    @Query("SELECT r.reporterId, r.targetType, r.targetId, r.reason, r.createdAt FROM Report r " +
+           "WHERE r.status IN ('PENDING', 'IN_REVIEW') AND r.createdAt > :since")
+    List<Object[]> findUnresolvedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 신고자별 승인/반려 신고 수 집계 (신고자 신뢰도 계산용)
+     * @return [reporterId, status, count] 목록
+     */
+    @Query("SELECT r.reporterId, r.status, COUNT(r) FROM Report r " +
+           "WHERE r.status IN ('APPROVED', 'REJECTED') GROUP BY r.reporterId, r.status")
+    List<Object[]> countReviewedByReporter();
+
+    /**
+     * 대상에 처리되지 않은 신고가 남아있는지 확인
+     */
+    @Query("SELECT COUNT(r) > 0 FROM Report r WHERE r.targetType = :targetType " +
+           "AND r.targetId = :targetId AND r.status IN ('PENDING', 'IN_REVIEW')")
+    boolean existsUnresolvedByTarget(@Param("targetType") ReportTargetType targetType,
+                                     @Param("targetId") Long targetId);
 }
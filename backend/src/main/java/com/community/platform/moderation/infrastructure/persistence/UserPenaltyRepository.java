@@ -56,6 +56,13 @@ public interface UserPenaltyRepository extends JpaRepository<UserPenalty, Long>
            "ORDER BY p.createdAt DESC")
     Page<UserPenalty> findActivePenalties(Pageable pageable);
 
+    /**
+     * 활성화된 모든 제재 조회 (제재 캐시 로딩용)
+     */
+    @Query("SELECT p FROM UserPenalty p WHERE p.isActive = true " +
+           "AND (p.endDate IS NULL OR p.endDate > CURRENT_TIMESTAMP)")
+    List<UserPenalty> findAllActivePenalties();
+
     /**
      * 특정 타입의 활성 제재 수 조회
      */
@@ -0,0 +1,201 @@
+package com.community.platform.notification.application;
+
+import com.community.platform.content.domain.PostMarkedAsNoticeEvent;
+import com.community.platform.notification.domain.BroadcastNotification;
+import com.community.platform.notification.domain.BroadcastReadMark;
+import com.community.platform.notification.domain.NotificationType;
+import com.community.platform.notification.domain.RelatedEntityType;
+import com.community.platform.notification.dto.NotificationResponse;
+import com.community.platform.notification.infrastructure.persistence.BroadcastNotificationRepository;
+import com.community.platform.notification.infrastructure.persistence.BroadcastReadMarkRepository;
+import com.community.platform.shared.infrastructure.redis.ClusterMessageBroker;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 알림 서비스
+ * 공지사항처럼 모든 사용자에게 보내는 알림을 한 행으로 저장하고, 조회 시 사용자별 알림과 합쳐서 반환
+ * - 발송 비용은 사용자 수와 무관하게 INSERT 한 번 + 연결된 사용자에게 실시간 푸시
+ * - 사용자별 읽음 여부는 마지막 확인 ID(워터마크) 하나로 판단 (이 ID 이하의 전체 알림은 읽음)
+ * - 노출 기간(visible-days) 이내의 최근 전체 알림은 메모리 스냅샷으로 보관하여 조회 시 DB를 읽지 않음
+ * - 다른 노드에는 Redis Pub/Sub으로 스냅샷 갱신 요청 전파
+ */
+@Slf4j
+@Service
+public class BroadcastNotificationService {
+
+    private static final String REFRESH_CHANNEL = "notification:broadcast:refresh";
+
+    private final BroadcastNotificationRepository broadcastRepository;
+    private final BroadcastReadMarkRepository readMarkRepository;
+    private final RealtimePushService pushService;
+    private final ClusterMessageBroker messageBroker;
+    private final TransactionTemplate transactionTemplate;
+    private final int visibleDays;
+    private final int maxActive;
+
+    // 노출 기간 이내의 전체 알림 (최신순)
+    private volatile List<BroadcastNotification> activeBroadcasts = List.of();
+
+    public BroadcastNotificationService(
+            BroadcastNotificationRepository broadcastRepository,
+            BroadcastReadMarkRepository readMarkRepository,
+            RealtimePushService pushService,
+            ClusterMessageBroker messageBroker,
+            PlatformTransactionManager transactionManager,
+            @Value("${community.notification.broadcast.visible-days:30}") int visibleDays,
+            @Value("${community.notification.broadcast.max-active:50}") int maxActive) {
+        this.broadcastRepository = broadcastRepository;
+        this.readMarkRepository = readMarkRepository;
+        this.pushService = pushService;
+        this.messageBroker = messageBroker;
+        this.visibleDays = visibleDays;
+        this.maxActive = Math.max(maxActive, 1);
+
+        // AFTER_COMMIT 시점이나 다른 트랜잭션 안에서도 독립적으로 저장되도록 항상 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void init() {
+        messageBroker.subscribe(REFRESH_CHANNEL, payload -> refresh());
+        refresh();
+    }
+
+    /**
+     * 공지사항 설정 이벤트 처리 - 전체 알림 발송
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostMarkedAsNotice(PostMarkedAsNoticeEvent event) {
+        broadcast(NotificationType.SYSTEM_NOTICE, "새 공지사항", "새 공지사항이 등록되었습니다",
+                event.getPostId(), RelatedEntityType.POST);
+    }
+
+    /**
+     * 전체 알림 발송 (같은 관련 엔티티로 이미 발송했다면 무시)
+     */
+    public void broadcast(NotificationType type, String title, String content,
+                          Long relatedId, RelatedEntityType relatedType) {
+        BroadcastNotification saved = transactionTemplate.execute(status -> {
+            if (relatedId != null && broadcastRepository.existsByRelatedTypeAndRelatedId(relatedType, relatedId)) {
+                return null;
+            }
+            return broadcastRepository.save(BroadcastNotification.create(type, title, content, relatedId, relatedType));
+        });
+        if (saved == null) {
+            log.debug("이미 발송된 전체 알림. relatedType: {}, relatedId: {}", relatedType, relatedId);
+            return;
+        }
+
+        refresh();
+        messageBroker.publish(REFRESH_CHANNEL, String.valueOf(saved.getId()));
+        pushService.publishToAll(RealtimePushService.NOTIFICATION_EVENT, toResponse(saved, null, false));
+        log.info("전체 알림 발송. broadcastId: {}, type: {}", saved.getId(), type);
+    }
+
+    /**
+     * 노출 기간 이내의 전체 알림 (최신순)
+     */
+    public List<BroadcastNotification> getActiveBroadcasts() {
+        return activeBroadcasts;
+    }
+
+    /**
+     * 사용자가 마지막으로 확인한 전체 알림 ID (확인한 적이 없으면 0)
+     */
+    public long getLastSeenBroadcastId(Long userId) {
+        Long lastSeen = readMarkRepository.findLastSeenBroadcastId(userId);
+        return lastSeen != null ? lastSeen : 0L;
+    }
+
+    /**
+     * 읽지 않은 전체 알림 수 (노출 중인 전체 알림이 없으면 DB 조회 없음)
+     */
+    public long countUnseen(Long userId) {
+        List<BroadcastNotification> active = activeBroadcasts;
+        if (active.isEmpty() || userId == null) {
+            return 0;
+        }
+        long lastSeen = getLastSeenBroadcastId(userId);
+        return active.stream().filter(broadcast -> broadcast.getId() > lastSeen).count();
+    }
+
+    /**
+     * 전체 알림 읽음 처리 (워터마크를 해당 ID까지 전진, 그 이전 전체 알림도 함께 읽음)
+     */
+    public void markSeen(Long userId, Long broadcastId) {
+        if (userId == null || broadcastId == null) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                if (readMarkRepository.advance(userId, broadcastId, now) == 0
+                        && !readMarkRepository.existsById(userId)) {
+                    readMarkRepository.saveAndFlush(BroadcastReadMark.create(userId, broadcastId));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 먼저 생성함 → 한 번 더 전진 시도
+            transactionTemplate.executeWithoutResult(status ->
+                    readMarkRepository.advance(userId, broadcastId, LocalDateTime.now()));
+        }
+    }
+
+    /**
+     * 노출 중인 전체 알림 모두 읽음 처리
+     */
+    public void markAllSeen(Long userId) {
+        List<BroadcastNotification> active = activeBroadcasts;
+        if (!active.isEmpty()) {
+            markSeen(userId, active.get(0).getId());
+        }
+    }
+
+    /**
+     * 전체 알림 스냅샷 갱신 (기본 1분마다, 노출 기간이 지난 알림 제외)
+     */
+    @Scheduled(fixedDelayString = "${community.notification.broadcast.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            activeBroadcasts = List.copyOf(broadcastRepository.findRecent(
+                    LocalDateTime.now().minusDays(visibleDays), PageRequest.of(0, maxActive)));
+        } catch (Exception e) {
+            log.warn("전체 알림 스냅샷 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자에게 보여줄 응답으로 변환
+     */
+    public static NotificationResponse toResponse(BroadcastNotification broadcast, Long userId, boolean read) {
+        return NotificationResponse.builder()
+                .id(broadcast.getId())
+                .userId(userId)
+                .type(broadcast.getType())
+                .title(broadcast.getTitle())
+                .content(broadcast.getContent())
+                .relatedId(broadcast.getRelatedId())
+                .relatedType(broadcast.getRelatedType())
+                .actorCount(1)
+                .actorIds(List.of())
+                .isRead(read)
+                .broadcast(true)
+                .createdAt(broadcast.getCreatedAt())
+                .build();
+    }
+}
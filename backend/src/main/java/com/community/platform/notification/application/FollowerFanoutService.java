@@ -0,0 +1,254 @@
+package com.community.platform.notification.application;
+
+import com.community.platform.content.domain.PostPublishedEvent;
+import com.community.platform.notification.domain.NotificationFanoutJob;
+import com.community.platform.notification.domain.NotificationType;
+import com.community.platform.notification.domain.RelatedEntityType;
+import com.community.platform.notification.infrastructure.persistence.NotificationBatchWriter;
+import com.community.platform.notification.infrastructure.persistence.NotificationFanoutJobRepository;
+import com.community.platform.shared.application.SchedulerLeaseService;
+import com.community.platform.user.application.UserFollowService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 팔로워 알림 팬아웃 서비스
+ * 게시글 발행 시 작성자의 모든 팔로워에게 새 글 알림을 요청 스레드 밖에서 나누어 저장
+ * - 발행 커밋 후 팬아웃 작업 행만 만들고, 전용 스레드가 팔로워 ID를 키셋 페이지(page-size)로 읽어 처리
+ * - 페이지마다 알림 설정 캐시로 수신자를 거르고 JDBC 배치 INSERT와 체크포인트 전진을 한 트랜잭션으로 커밋
+ * - 작업은 노드가 점유 시간 동안만 소유하며, 노드가 죽으면 다른 노드가 체크포인트 다음 팔로워부터 이어서 처리
+ * - 메모리에는 한 페이지만 올리므로 팔로워 수와 관계없이 사용량이 일정
+ * - 대량 발송이므로 실시간 푸시는 하지 않고 읽지 않은 알림 수만 갱신
+ */
+@Slf4j
+@Service
+public class FollowerFanoutService {
+
+    private static final String TITLE = "팔로잉 새 글";
+
+    private final NotificationFanoutJobRepository jobRepository;
+    private final UserFollowService userFollowService;
+    private final NotificationPreferenceCache preferenceCache;
+    private final NotificationBatchWriter batchWriter;
+    private final UnreadNotificationCounter unreadCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final String ownerId;
+    private final int pageSize;
+    private final long claimTtlMillis;
+    private final long pageIntervalMillis;
+    private final int workers;
+
+    private final Counter deliveredCounter;
+
+    // 이 노드에서 실행 중이거나 대기 중인 작업 (같은 작업 중복 제출 방지)
+    private final Set<Long> scheduledJobs = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService executor;
+
+    public FollowerFanoutService(
+            NotificationFanoutJobRepository jobRepository,
+            UserFollowService userFollowService,
+            NotificationPreferenceCache preferenceCache,
+            NotificationBatchWriter batchWriter,
+            UnreadNotificationCounter unreadCounter,
+            SchedulerLeaseService leaseService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${community.notification.fanout.workers:1}") int workers,
+            @Value("${community.notification.fanout.page-size:1000}") int pageSize,
+            @Value("${community.notification.fanout.claim-ttl-ms:60000}") long claimTtlMillis,
+            @Value("${community.notification.fanout.page-interval-ms:50}") long pageIntervalMillis) {
+        this.jobRepository = jobRepository;
+        this.userFollowService = userFollowService;
+        this.preferenceCache = preferenceCache;
+        this.batchWriter = batchWriter;
+        this.unreadCounter = unreadCounter;
+        this.ownerId = leaseService.getOwnerId();
+        this.workers = Math.max(workers, 1);
+        this.pageSize = Math.max(pageSize, 1);
+        this.claimTtlMillis = claimTtlMillis;
+        this.pageIntervalMillis = pageIntervalMillis;
+
+        // AFTER_COMMIT 시점에도 저장되도록 항상 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.deliveredCounter = meterRegistry.counter("community.notification.fanout.delivered");
+    }
+
+    @PostConstruct
+    void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "notification-fanout-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 진행 중인 작업은 체크포인트까지 커밋되어 있으므로 점유 만료 후 다른 노드가 이어서 처리
+        executor.shutdownNow();
+    }
+
+    /**
+     * 게시글 발행 이벤트 처리 - 팬아웃 작업 등록 후 바로 실행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostPublished(PostPublishedEvent event) {
+        Long jobId;
+        try {
+            jobId = transactionTemplate.execute(status -> jobRepository.existsByPostId(event.getPostId())
+                    ? null
+                    : jobRepository.save(NotificationFanoutJob.create(
+                            event.getPostId(), event.getAuthorId(), truncate(event.getTitle(), 200))).getId());
+        } catch (DataIntegrityViolationException e) {
+            jobId = null;  // 같은 게시글의 작업이 이미 등록됨
+        }
+        if (jobId != null) {
+            log.info("팔로워 알림 팬아웃 등록. postId: {}, authorId: {}", event.getPostId(), event.getAuthorId());
+            submit(jobId);
+        }
+    }
+
+    /**
+     * 미완료 작업 재개 (점유가 없거나 만료된 작업, 기본 30초마다)
+     * 처리 중 노드가 종료된 작업을 체크포인트부터 이어서 처리
+     */
+    @Scheduled(fixedDelayString = "${community.notification.fanout.resume-interval-ms:30000}")
+    public void resumePending() {
+        jobRepository.findClaimableIds(LocalDateTime.now(), PageRequest.of(0, workers * 4))
+                .forEach(this::submit);
+    }
+
+    private void submit(Long jobId) {
+        if (!scheduledJobs.add(jobId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    run(jobId);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    log.error("팔로워 알림 팬아웃 실패. jobId: {}", jobId, e);
+                } finally {
+                    scheduledJobs.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            scheduledJobs.remove(jobId);
+        }
+    }
+
+    private void run(Long jobId) throws InterruptedException {
+        Integer claimed = transactionTemplate.execute(status ->
+                jobRepository.claim(jobId, ownerId, claimDeadline(), LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        NotificationFanoutJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        long checkpoint = job.getLastFollowerId();
+        long delivered = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> followerIds = userFollowService.getFollowerIdsAfter(job.getAuthorId(), checkpoint, pageSize);
+            if (followerIds.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        jobRepository.complete(jobId, ownerId, LocalDateTime.now()));
+                log.info("팔로워 알림 팬아웃 완료. postId: {}, 이번 실행 저장 수: {}", job.getPostId(), delivered);
+                return;
+            }
+
+            PageResult result = deliverPage(job, followerIds);
+            if (result == null) {
+                log.warn("팔로워 알림 팬아웃 점유 상실. 다른 노드가 이어서 처리합니다. jobId: {}", jobId);
+                return;
+            }
+            checkpoint = followerIds.get(followerIds.size() - 1);
+            delivered += result.userIds().size();
+
+            result.userIds().forEach(userId -> unreadCounter.add(userId, 1));
+            deliveredCounter.increment(result.userIds().size());
+
+            if (pageIntervalMillis > 0) {
+                Thread.sleep(pageIntervalMillis);
+            }
+        }
+    }
+
+    // 한 페이지 저장과 체크포인트 전진을 한 트랜잭션으로 처리 (점유를 잃었으면 롤백 후 null)
+    private PageResult deliverPage(NotificationFanoutJob job, List<Long> followerIds) {
+        Map<Long, Integer> masks = preferenceCache.getEnabledTypeMasks(followerIds);
+        int mask = NotificationType.FOLLOWING_POST.mask();
+        String content = truncate("팔로우한 사용자가 새 글을 발행했습니다: " + job.getPostTitle(), 500);
+
+        List<NotificationAggregator.Insert> inserts = new ArrayList<>();
+        for (Long followerId : followerIds) {
+            if ((masks.get(followerId) & mask) != 0) {
+                NotificationCommand command = NotificationCommand.of(followerId, NotificationType.FOLLOWING_POST,
+                        TITLE, content, job.getPostId(), RelatedEntityType.POST, job.getAuthorId());
+                inserts.add(new NotificationAggregator.Insert(List.of(command), 1,
+                        String.valueOf(job.getAuthorId()), content));
+            }
+        }
+
+        Long lastFollowerId = followerIds.get(followerIds.size() - 1);
+        return transactionTemplate.execute(status -> {
+            if (jobRepository.advance(job.getId(), ownerId, lastFollowerId, inserts.size(), claimDeadline()) == 0) {
+                status.setRollbackOnly();
+                return null;
+            }
+            batchWriter.insertIfAbsent(inserts);
+            return new PageResult(inserts.stream().map(insert -> insert.command().userId()).toList());
+        });
+    }
+
+    private LocalDateTime claimDeadline() {
+        return LocalDateTime.now().plusNanos(claimTtlMillis * 1_000_000);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    /**
+     * 페이지 처리 결과
+     * @param userIds 알림이 저장된 팔로워 ID
+     */
+    private record PageResult(List<Long> userIds) {
+    }
+}
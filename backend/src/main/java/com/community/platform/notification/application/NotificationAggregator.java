@@ -0,0 +1,269 @@
+package com.community.platform.notification.application;
+
+import com.community.platform.notification.domain.NotificationType;
+import com.community.platform.notification.dto.NotificationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 집계기
+ * 같은 사용자/타입/관련 엔티티의 알림을 마지막 활동 후 집계 기간 이내라면 기존 행에 합침
+ * - 합쳐지는 중인 행은 aggregation_key를 가지며 사용자당 키 하나에 한 행만 존재 (유니크 인덱스)
+ * - 집계 기간이 지난 행은 키를 비우고(닫고) 새 행을 만듦
+ * - 좋아요/스크랩은 서로 다른 행위자 수, 댓글은 댓글 수를 actorCount로 누적
+ * - 최근 행위자 ID는 최대 maxActorIds개만 보관 (같은 행위자의 반복 좋아요는 이 범위 안에서만 걸러짐)
+ * - 합쳐진 알림은 다시 읽지 않음 상태가 되고 생성 시간이 마지막 활동 시각으로 갱신되어 목록 상단에 노출
+ */
+@Component
+public class NotificationAggregator {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final long windowMinutes;
+    private final int maxActorIds;
+
+    public NotificationAggregator(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${community.notification.aggregation.window-minutes:1440}") long windowMinutes,
+            @Value("${community.notification.aggregation.max-actor-ids:5}") int maxActorIds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.windowMinutes = windowMinutes;
+        this.maxActorIds = maxActorIds;
+    }
+
+    /**
+     * 발송 요청을 새 알림, 기존 알림 갱신, 닫을 알림으로 분류
+     * 호출 측 트랜잭션 안에서 실행되어야 함
+     */
+    public Plan aggregate(List<NotificationCommand> commands) {
+        Plan plan = new Plan(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        Map<String, List<NotificationCommand>> groups = new LinkedHashMap<>();
+        for (NotificationCommand command : commands) {
+            if (command.aggregationKey() != null) {
+                groups.computeIfAbsent(groupKey(command.userId(), command.aggregationKey()), key -> new ArrayList<>())
+                        .add(command);
+            } else {
+                plan.inserts().add(new Insert(List.of(command), 1,
+                        joinActorIds(actorList(command.actorId())), command.content()));
+            }
+        }
+        if (groups.isEmpty()) {
+            return plan;
+        }
+
+        Map<String, OpenNotification> openNotifications = findOpenNotifications(groups);
+        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(windowMinutes);
+
+        groups.forEach((key, group) -> {
+            NotificationCommand latest = group.get(group.size() - 1);
+            NotificationType type = latest.type();
+            OpenNotification open = openNotifications.get(key);
+
+            // 집계 기간이 지난 행은 닫고 새로 시작
+            if (open != null && open.createdAt().isBefore(windowStart)) {
+                plan.expiredIds().add(open.id());
+                open = null;
+            }
+
+            LinkedList<Long> actors = open != null ? new LinkedList<>(open.actorIds()) : new LinkedList<>();
+            int added = 0;
+            for (NotificationCommand command : group) {
+                added += mergeActor(actors, command);
+            }
+            while (actors.size() > maxActorIds) {
+                actors.removeLast();
+            }
+
+            if (open == null) {
+                String content = added == 1 ? group.get(0).content() : type.aggregatedMessage(added);
+                plan.inserts().add(new Insert(group, added, joinActorIds(actors), content));
+            } else if (added > 0) {
+                int actorCount = open.actorCount() + added;
+                plan.updates().add(new Update(open.id(), latest, added, actorCount, joinActorIds(actors),
+                        type.aggregatedMessage(actorCount), open.read()));
+            }
+        });
+        return plan;
+    }
+
+    /**
+     * 집계 중인 알림에 이미 기록된 행위자의 요청인지 확인 ((user_id, aggregation_key) 유니크 인덱스 조회)
+     * 집계 기간이 지난 알림은 새 행이 만들어지므로 기록되지 않은 것으로 봄
+     */
+    public boolean isKnownActor(NotificationCommand command) {
+        if (command.aggregationKey() == null || command.actorId() == null) {
+            return false;
+        }
+
+        LocalDateTime windowStart = LocalDateTime.now().minusMinutes(windowMinutes);
+        boolean[] known = new boolean[1];
+        jdbcTemplate.query(
+                "SELECT actor_ids, created_at FROM notifications " +
+                "WHERE user_id = :userId AND aggregation_key = :aggregationKey",
+                new MapSqlParameterSource()
+                        .addValue("userId", command.userId())
+                        .addValue("aggregationKey", command.aggregationKey()),
+                rs -> {
+                    known[0] = !rs.getTimestamp(2).toLocalDateTime().isBefore(windowStart)
+                            && parseActorIds(rs.getString(1)).contains(command.actorId());
+                });
+        return known[0];
+    }
+
+    // 행위자 추가 (추가된 수 반환), 최근 행위자가 앞에 오도록 유지
+    private int mergeActor(LinkedList<Long> actors, NotificationCommand command) {
+        Long actorId = command.actorId();
+        if (actorId == null) {
+            return 1;
+        }
+        boolean known = actors.remove(actorId);
+        actors.addFirst(actorId);
+        return known && command.type().countsDistinctActors() ? 0 : 1;
+    }
+
+    // 키별 집계 중인 알림 조회 ((user_id, aggregation_key) 유니크 인덱스)
+    private Map<String, OpenNotification> findOpenNotifications(Map<String, List<NotificationCommand>> groups) {
+        List<NotificationCommand> heads = groups.values().stream().map(group -> group.get(0)).toList();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userIds", heads.stream().map(NotificationCommand::userId).distinct().toList())
+                .addValue("keys", heads.stream().map(NotificationCommand::aggregationKey).distinct().toList());
+
+        Map<String, OpenNotification> result = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, user_id, aggregation_key, actor_count, actor_ids, is_read, created_at FROM notifications " +
+                "WHERE user_id IN (:userIds) AND aggregation_key IN (:keys)",
+                params,
+                rs -> {
+                    String key = groupKey(rs.getLong(2), rs.getString(3));
+                    if (groups.containsKey(key)) {
+                        result.put(key, new OpenNotification(rs.getLong(1), rs.getInt(4),
+                                parseActorIds(rs.getString(5)), rs.getBoolean(6),
+                                rs.getTimestamp(7).toLocalDateTime()));
+                    }
+                });
+        return result;
+    }
+
+    private static String groupKey(Long userId, String aggregationKey) {
+        return userId + "|" + aggregationKey;
+    }
+
+    private static List<Long> actorList(Long actorId) {
+        return actorId != null ? List.of(actorId) : List.of();
+    }
+
+    static List<Long> parseActorIds(String actorIds) {
+        if (actorIds == null || actorIds.isBlank()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        for (String id : actorIds.split(",")) {
+            ids.add(Long.valueOf(id));
+        }
+        return ids;
+    }
+
+    private static String joinActorIds(List<Long> actorIds) {
+        return actorIds.isEmpty()
+                ? null
+                : actorIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private record OpenNotification(long id, int actorCount, List<Long> actorIds, boolean read,
+                                    LocalDateTime createdAt) {
+    }
+
+    /**
+     * 집계 결과
+     * @param expiredIds 집계 기간이 지나 aggregation_key를 비울 알림 ID
+     */
+    public record Plan(List<Insert> inserts, List<Update> updates, List<Long> expiredIds) {
+    }
+
+    /**
+     * 새로 저장할 알림
+     * @param sources 이 행으로 합쳐진 요청 (동시 생성과 충돌하면 다시 집계)
+     */
+    public record Insert(List<NotificationCommand> sources, int actorCount, String actorIds, String content) {
+
+        NotificationCommand command() {
+            return sources.get(sources.size() - 1);
+        }
+
+        public MapSqlParameterSource toParams() {
+            NotificationCommand command = command();
+            return new MapSqlParameterSource()
+                    .addValue("userId", command.userId())
+                    .addValue("type", command.type().name())
+                    .addValue("title", command.title())
+                    .addValue("content", content)
+                    .addValue("relatedId", command.relatedId())
+                    .addValue("relatedType", command.relatedType() != null ? command.relatedType().name() : null)
+                    .addValue("aggregationKey", command.aggregationKey())
+                    .addValue("actorCount", actorCount)
+                    .addValue("actorIds", actorIds)
+                    .addValue("createdAt", Timestamp.valueOf(command.requestedAt()));
+        }
+
+        NotificationResponse toResponse(Long id) {
+            return NotificationAggregator.toResponse(id, command(), actorCount, actorIds, content);
+        }
+    }
+
+    /**
+     * 기존 알림에 합칠 내용
+     * @param command 합쳐지는 요청 중 가장 최근 요청
+     * @param actorCount 합친 후 전체 행위자 수
+     * @param wasRead 합치기 전 읽음 상태 (다시 읽지 않음이 되므로 읽지 않은 알림 수 증가 대상)
+     */
+    public record Update(long id, NotificationCommand command, int addedActors, int actorCount,
+                         String actorIds, String content, boolean wasRead) {
+
+        Long userId() {
+            return command.userId();
+        }
+
+        NotificationResponse toResponse() {
+            return NotificationAggregator.toResponse(id, command, actorCount, actorIds, content);
+        }
+
+        public MapSqlParameterSource toParams() {
+            return new MapSqlParameterSource()
+                    .addValue("id", id)
+                    .addValue("addedActors", addedActors)
+                    .addValue("actorIds", actorIds)
+                    .addValue("content", content)
+                    .addValue("createdAt", Timestamp.valueOf(command.requestedAt()));
+        }
+    }
+
+    // 실시간 푸시용 응답 (저장된 행과 같은 내용)
+    private static NotificationResponse toResponse(Long id, NotificationCommand command, int actorCount,
+                                                   String actorIds, String content) {
+        return NotificationResponse.builder()
+                .id(id)
+                .userId(command.userId())
+                .type(command.type())
+                .title(command.title())
+                .content(content)
+                .relatedId(command.relatedId())
+                .relatedType(command.relatedType())
+                .actorCount(actorCount)
+                .actorIds(parseActorIds(actorIds))
+                .isRead(false)
+                .broadcast(false)
+                .createdAt(command.requestedAt())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.community.platform.notification.application;
+
+import com.community.platform.notification.domain.NotificationType;
+import com.community.platform.notification.domain.RelatedEntityType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 요청
+ * 발송 큐에 쌓였다가 배치로 저장됨
+ * @param actorId 알림을 발생시킨 사용자 ID (시스템 알림이면 null)
+ * @param requestedAt 요청 시각 (알림 생성 시간으로 저장)
+ * @param enqueuedAtNanos 큐 등록 시점 (발송 지연 측정용)
+ */
+public record NotificationCommand(Long userId,
+                                  NotificationType type,
+                                  String title,
+                                  String content,
+                                  Long relatedId,
+                                  RelatedEntityType relatedType,
+                                  Long actorId,
+                                  LocalDateTime requestedAt,
+                                  long enqueuedAtNanos,
+                                  int attempts) {
+
+    public static NotificationCommand of(Long userId, NotificationType type, String title, String content,
+                                         Long relatedId, RelatedEntityType relatedType, Long actorId) {
+        return new NotificationCommand(userId, type, title, content, relatedId, relatedType, actorId,
+                LocalDateTime.now(), System.nanoTime(), 0);
+    }
+
+    NotificationCommand retried() {
+        return new NotificationCommand(userId, type, title, content, relatedId, relatedType, actorId,
+                requestedAt, enqueuedAtNanos, attempts + 1);
+    }
+
+    /**
+     * 집계 키 (notifications.aggregation_key 값, 집계 대상이 아니면 null)
+     * 같은 사용자 안에서 타입과 관련 엔티티가 같으면 같은 키
+     */
+    String aggregationKey() {
+        return type.isAggregated() && relatedId != null ? type.name() + ":" + relatedId : null;
+    }
+}
@@ -0,0 +1,399 @@
+package com.community.platform.notification.application;
+
+import com.community.platform.notification.domain.NotificationType;
+import com.community.platform.notification.domain.RelatedEntityType;
+import com.community.platform.notification.dto.NotificationResponse;
+import com.community.platform.notification.infrastructure.persistence.NotificationBatchWriter;
+import com.community.platform.shared.infrastructure.RotatingBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 비동기 알림 발송기
+ * 이벤트 처리 스레드(HTTP 요청 스레드)는 큐에 등록만 하고, 전용 워커가 모아서 배치로 저장
+ * - 배치 단위로 알림 설정 확인(NotificationPreferenceCache 비트마스크), 집계(NotificationAggregator), JDBC 배치 INSERT/UPDATE를 한 트랜잭션에서 처리
+ * - 집계 키 충돌로 INSERT가 건너뛰어진 요청(다른 노드가 먼저 만든 행)은 같은 트랜잭션에서 다시 집계하여 기존 행에 합침
+ * - 좋아요/스크랩 폭주 시 같은 행위자의 반복 요청은 큐 등록 전에 걸러냄
+ *   (블룸 필터에 없으면 바로 등록하고, 있으면 거짓 양성일 수 있으므로 집계 중인 알림의 행위자 목록을 조회하여 확인)
+ * - 수신자 ID 기준으로 워커별 큐를 나누어 같은 사용자의 알림은 한 워커가 순서대로 처리 (집계 경합 방지)
+ * - 큐가 가득 차면 잠시 대기 후 호출 스레드에서 직접 저장 (메모리 상한, 유실 없음)
+ * - 연결/잠금 같은 일시적 오류는 배치 전체를 다시 큐에 넣고, 데이터 오류는 배치를 절반씩 나누어 다시 저장하여 원인 요청만 제외
+ * - 저장 커밋 후 새 알림과 다시 읽지 않음이 된 집계 알림 수만큼 읽지 않은 알림 수 증가, 저장된 알림은 실시간 푸시
+ * - 큐 길이, 발송 지연, 처리 건수를 Micrometer 지표로 노출 (community.notification.dispatch.*)
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final int MAX_RETRY = 3;
+    private static final int MAX_CONFLICT_ROUNDS = 2;
+
+    private final NotificationBatchWriter batchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationPreferenceCache preferenceCache;
+    private final NotificationAggregator aggregator;
+    private final UnreadNotificationCounter unreadCounter;
+    private final RealtimePushService pushService;
+    private final RotatingBloomFilter recentActors;
+    private final List<BlockingQueue<NotificationCommand>> queues;
+    private final int workers;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long offerTimeoutMillis;
+
+    private final Timer latencyTimer;
+    private final Counter dispatchedCounter;
+    private final Counter skippedCounter;
+    private final Counter callerRunsCounter;
+    private final Counter failedCounter;
+
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public NotificationDispatcher(
+            NotificationBatchWriter batchWriter,
+            PlatformTransactionManager transactionManager,
+            NotificationPreferenceCache preferenceCache,
+            NotificationAggregator aggregator,
+            UnreadNotificationCounter unreadCounter,
+            RealtimePushService pushService,
+            MeterRegistry meterRegistry,
+            @Value("${community.notification.dispatch.workers:2}") int workers,
+            @Value("${community.notification.dispatch.capacity:10000}") int capacity,
+            @Value("${community.notification.dispatch.batch-size:200}") int batchSize,
+            @Value("${community.notification.dispatch.linger-ms:20}") long lingerMillis,
+            @Value("${community.notification.dispatch.offer-timeout-ms:50}") long offerTimeoutMillis,
+            @Value("${community.notification.dedup.bloom-expected-insertions:100000}") int bloomExpectedInsertions,
+            @Value("${community.notification.dedup.bloom-fpp:0.01}") double bloomFpp,
+            @Value("${community.notification.dedup.bloom-period-ms:600000}") long bloomPeriodMillis) {
+        this.batchWriter = batchWriter;
+        this.preferenceCache = preferenceCache;
+        this.aggregator = aggregator;
+        this.unreadCounter = unreadCounter;
+        this.pushService = pushService;
+        this.recentActors = new RotatingBloomFilter(bloomExpectedInsertions, bloomFpp, bloomPeriodMillis);
+        this.workers = Math.max(workers, 1);
+        this.queues = new ArrayList<>(this.workers);
+        for (int i = 0; i < this.workers; i++) {
+            queues.add(new LinkedBlockingQueue<>(Math.max(capacity / this.workers, 1)));
+        }
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+
+        // AFTER_COMMIT 시점의 호출 스레드에서도 저장되도록 항상 새 트랜잭션 사용
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("community.notification.dispatch.queue.depth", this, NotificationDispatcher::getPendingCount)
+                .description("발송 대기 중인 알림 수")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("community.notification.dispatch.latency")
+                .description("알림 요청부터 저장까지 걸린 시간")
+                .register(meterRegistry);
+        this.dispatchedCounter = meterRegistry.counter("community.notification.dispatch.saved");
+        this.skippedCounter = meterRegistry.counter("community.notification.dispatch.skipped");
+        this.callerRunsCounter = meterRegistry.counter("community.notification.dispatch.caller.runs");
+        this.failedCounter = meterRegistry.counter("community.notification.dispatch.failed");
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "notification-dispatch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (BlockingQueue<NotificationCommand> queue : queues) {
+            executor.execute(() -> runWorker(queue));
+        }
+    }
+
+    /**
+     * 알림 발송 요청 (즉시 반환)
+     * @param actorId 알림을 발생시킨 사용자 ID (시스템 알림이면 null)
+     */
+    public void dispatch(Long userId, NotificationType type, String title, String content,
+                         Long relatedId, RelatedEntityType relatedType, Long actorId) {
+        if (userId == null) {
+            log.debug("userId가 null이므로 알림을 발송하지 않습니다");
+            return;
+        }
+        NotificationCommand command = NotificationCommand.of(userId, type, title, content, relatedId, relatedType, actorId);
+        if (isRepeatedActor(command)) {
+            skippedCounter.increment();
+            log.debug("최근 같은 행위자의 알림이므로 건너뜁니다. userId: {}, type: {}, relatedId: {}", userId, type, relatedId);
+            return;
+        }
+        enqueue(command);
+    }
+
+    /**
+     * 발송 요청 등록, 큐가 가득 차면 호출 스레드에서 저장
+     */
+    public void enqueue(NotificationCommand command) {
+        try {
+            if (running && queueOf(command).offer(command, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        callerRunsCounter.increment();
+        log.warn("알림 발송 큐 포화. 호출 스레드에서 즉시 저장합니다. 대기 건수: {}", getPendingCount());
+        persist(List.of(command));
+    }
+
+    // 행위자 수만 세는 타입에서 같은 행위자가 같은 대상에 보낸 요청이 이미 집계되었는지
+    // 블룸 필터 적중은 거짓 양성일 수 있으므로 DB 확인 경로로만 사용하고 적중만으로 버리지 않음
+    private boolean isRepeatedActor(NotificationCommand command) {
+        if (!command.type().countsDistinctActors() || command.actorId() == null || command.relatedId() == null) {
+            return false;
+        }
+        if (recentActors.putIfAbsent(command.userId() + ":" + command.type().name() + ":"
+                + command.relatedId() + ":" + command.actorId())) {
+            return false;
+        }
+
+        try {
+            return aggregator.isKnownActor(command);
+        } catch (Exception e) {
+            // 확인하지 못하면 등록하고 집계에서 같은 행위자를 다시 걸러냄
+            log.warn("반복 행위자 확인 실패. userId: {}, error: {}", command.userId(), e.getMessage());
+            return false;
+        }
+    }
+
+    public int getPendingCount() {
+        return queues.stream().mapToInt(Collection::size).sum();
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+
+        // 남은 요청 저장
+        List<NotificationCommand> remaining = new ArrayList<>();
+        for (BlockingQueue<NotificationCommand> queue : queues) {
+            while (queue.drainTo(remaining, batchSize) > 0) {
+                persist(remaining);
+                remaining.clear();
+            }
+        }
+    }
+
+    // 같은 수신자의 요청은 항상 같은 큐(워커)로
+    private BlockingQueue<NotificationCommand> queueOf(NotificationCommand command) {
+        return queues.get(Math.floorMod(command.userId().hashCode(), workers));
+    }
+
+    private void runWorker(BlockingQueue<NotificationCommand> queue) {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<NotificationCommand> batch = nextBatch(queue);
+                if (!batch.isEmpty()) {
+                    persist(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("알림 발송 워커 오류", e);
+            }
+        }
+    }
+
+    // 첫 요청을 기다린 뒤 lingerNanos 동안 batchSize까지 모음
+    private List<NotificationCommand> nextBatch(BlockingQueue<NotificationCommand> queue) throws InterruptedException {
+        NotificationCommand first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return List.of();
+        }
+
+        List<NotificationCommand> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                continue;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            NotificationCommand next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void persist(List<NotificationCommand> commands) {
+        PersistResult result;
+        try {
+            result = transactionTemplate.execute(status -> persistInTransaction(commands));
+        } catch (Exception e) {
+            handleFailure(commands, e);
+            return;
+        }
+
+        int saved = result.saved();
+        dispatchedCounter.increment(saved);
+        skippedCounter.increment(commands.size() - saved);
+        long now = System.nanoTime();
+        commands.forEach(command -> latencyTimer.record(now - command.enqueuedAtNanos(), TimeUnit.NANOSECONDS));
+        log.debug("알림 배치 저장 완료. 요청 수: {}, 저장 수: {}", commands.size(), saved);
+
+        // 커밋 이후 처리 (실패해도 다시 저장하지 않음)
+        try {
+            result.unreadIncrements().forEach(unreadCounter::add);
+            result.pushes().forEach(response ->
+                    pushService.publish(response.getUserId(), RealtimePushService.NOTIFICATION_EVENT, response));
+        } catch (Exception e) {
+            log.warn("알림 저장 후 처리 실패. 요청 수: {}", commands.size(), e);
+        }
+    }
+
+    // 한 요청의 데이터 오류로 배치 전체가 재시도되다 함께 버려지지 않도록 나누어 저장
+    private void handleFailure(List<NotificationCommand> commands, Exception e) {
+        if (isTransient(e)) {
+            log.error("알림 배치 저장 실패. 요청 수: {}", commands.size(), e);
+            requeue(commands);
+            return;
+        }
+
+        if (commands.size() == 1) {
+            // 같은 요청은 다시 저장해도 실패하므로 재시도하지 않음
+            NotificationCommand command = commands.get(0);
+            failedCounter.increment();
+            log.error("알림 저장 실패로 건너뜁니다. userId: {}, type: {}, relatedId: {}",
+                    command.userId(), command.type(), command.relatedId(), e);
+            return;
+        }
+
+        log.warn("알림 배치 저장 실패. 나누어 다시 저장합니다. 요청 수: {}, error: {}", commands.size(), e.getMessage());
+        int middle = commands.size() / 2;
+        persist(commands.subList(0, middle));
+        persist(commands.subList(middle, commands.size()));
+    }
+
+    private boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException;
+    }
+
+    private PersistResult persistInTransaction(List<NotificationCommand> commands) {
+        List<NotificationCommand> pending = filterByPreference(commands);
+        if (pending.isEmpty()) {
+            return PersistResult.EMPTY;
+        }
+
+        int saved = 0;
+        Map<Long, Long> unreadIncrements = new HashMap<>();
+        List<NotificationResponse> pushes = new ArrayList<>();
+        for (int round = 0; round < MAX_CONFLICT_ROUNDS && !pending.isEmpty(); round++) {
+            NotificationAggregator.Plan plan = aggregator.aggregate(pending);
+            batchWriter.closeAggregation(plan.expiredIds());
+
+            batchWriter.merge(plan.updates());
+            for (NotificationAggregator.Update update : plan.updates()) {
+                pushes.add(update.toResponse());
+                if (update.wasRead()) {
+                    unreadIncrements.merge(update.userId(), 1L, Long::sum);
+                }
+            }
+            saved += plan.updates().size();
+
+            List<Long> ids = batchWriter.insertIfAbsent(plan.inserts());
+            List<NotificationCommand> conflicted = new ArrayList<>();
+            for (int i = 0; i < plan.inserts().size(); i++) {
+                NotificationAggregator.Insert insert = plan.inserts().get(i);
+                Long id = ids.get(i);
+                if (id == null) {
+                    // 같은 집계 키의 행이 먼저 생성됨 → 다음 라운드에서 그 행에 합침
+                    conflicted.addAll(insert.sources());
+                    continue;
+                }
+                pushes.add(insert.toResponse(id));
+                unreadIncrements.merge(insert.command().userId(), 1L, Long::sum);
+                saved++;
+            }
+            pending = conflicted;
+        }
+        if (!pending.isEmpty()) {
+            log.warn("집계 키 충돌이 반복되어 알림을 건너뜁니다. 건수: {}", pending.size());
+        }
+        return new PersistResult(saved, unreadIncrements, pushes);
+    }
+
+    // 알림 설정 확인 (캐시에 없는 사용자만 한 번에 조회, 설정이 없으면 전체 수신)
+    private List<NotificationCommand> filterByPreference(List<NotificationCommand> commands) {
+        Set<Long> userIds = commands.stream().map(NotificationCommand::userId).collect(Collectors.toSet());
+        Map<Long, Integer> masks = preferenceCache.getEnabledTypeMasks(userIds);
+
+        return commands.stream()
+                .filter(command -> (masks.get(command.userId()) & command.type().mask()) != 0)
+                .toList();
+    }
+
+    private void requeue(List<NotificationCommand> commands) {
+        int dropped = 0;
+        for (NotificationCommand command : commands) {
+            if (command.attempts() + 1 >= MAX_RETRY || !queueOf(command).offer(command.retried())) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            failedCounter.increment(dropped);
+            log.error("알림 저장 포기. 건수: {}", dropped);
+        }
+    }
+
+    /**
+     * 배치 저장 결과
+     * @param unreadIncrements 사용자별 읽지 않은 알림 증가 수
+     * @param pushes 커밋 후 실시간 푸시할 알림
+     */
+    private record PersistResult(int saved, Map<Long, Long> unreadIncrements, List<NotificationResponse> pushes) {
+        static final PersistResult EMPTY = new PersistResult(0, Map.of(), List.of());
+    }
+}
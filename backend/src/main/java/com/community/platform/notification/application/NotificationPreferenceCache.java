@@ -0,0 +1,143 @@
+package com.community.platform.notification.application;
+
+import com.community.platform.notification.domain.NotificationPreference;
+import com.community.platform.notification.domain.NotificationPreferenceChangedEvent;
+import com.community.platform.notification.domain.NotificationType;
+import com.community.platform.notification.infrastructure.persistence.NotificationPreferenceRepository;
+import com.community.platform.shared.infrastructure.redis.ClusterMessageBroker;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 설정 캐시
+ * 사용자별 알림 설정을 수신 타입 비트마스크(int)로 보관하여 발송 시 설정 확인을 비트 연산 한 번으로 처리
+ * - 최근 사용 순으로 최대 사용자 수를 넘으면 오래된 사용자부터 제거, 적재 후 일정 시간이 지나면 재조회
+ * - 미적재 사용자는 배치 단위로 모아 IN 조회 한 번으로 적재 (설정이 없으면 전체 수신)
+ * - 설정 변경 이벤트로 즉시 갱신하고 다른 노드에는 Redis Pub/Sub 무효화 메시지 전파
+ * - 무효화 세대 번호로 변경 전에 시작된 조회 결과가 변경 후 값을 덮어쓰지 않도록 함
+ */
+@Slf4j
+@Component
+public class NotificationPreferenceCache {
+
+    private static final String INVALIDATION_CHANNEL = "notification:preference:invalidate";
+
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final ClusterMessageBroker messageBroker;
+    private final int maxUsers;
+    private final long ttlMillis;
+
+    // userId → 캐시 항목 (접근 순서 LRU, this로 동기화)
+    private final Map<Long, CachedMask> masks;
+
+    // 무효화가 일어날 때마다 증가
+    private final AtomicLong invalidationGeneration = new AtomicLong();
+
+    public NotificationPreferenceCache(
+            NotificationPreferenceRepository preferenceRepository,
+            ClusterMessageBroker messageBroker,
+            @Value("${community.notification.preference-cache.max-users:100000}") int maxUsers,
+            @Value("${community.notification.preference-cache.ttl-ms:600000}") long ttlMillis) {
+        this.preferenceRepository = preferenceRepository;
+        this.messageBroker = messageBroker;
+        this.maxUsers = maxUsers;
+        this.ttlMillis = ttlMillis;
+        this.masks = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedMask> eldest) {
+                return size() > NotificationPreferenceCache.this.maxUsers;
+            }
+        };
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        messageBroker.subscribe(INVALIDATION_CHANNEL, payload -> evict(Long.parseLong(payload)));
+    }
+
+    /**
+     * 알림 수신 여부 확인
+     */
+    public boolean isEnabled(Long userId, NotificationType type) {
+        return (getEnabledTypeMasks(List.of(userId)).get(userId) & type.mask()) != 0;
+    }
+
+    /**
+     * 여러 사용자의 수신 타입 비트마스크 (캐시에 없는 사용자는 한 번에 조회하여 적재)
+     */
+    public Map<Long, Integer> getEnabledTypeMasks(Collection<Long> userIds) {
+        Map<Long, Integer> result = new HashMap<>(userIds.size() * 2);
+        List<Long> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            for (Long userId : userIds) {
+                CachedMask cached = masks.get(userId);
+                if (cached != null && now - cached.loadedAtMillis() < ttlMillis) {
+                    result.put(userId, cached.mask());
+                } else {
+                    misses.add(userId);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long generation = invalidationGeneration.get();
+        Map<Long, Integer> loaded = new HashMap<>(misses.size() * 2);
+        misses.forEach(userId -> loaded.put(userId, NotificationPreference.ALL_TYPES_MASK));
+        preferenceRepository.findByUserIdIn(misses)
+                .forEach(preference -> loaded.put(preference.getUserId(), preference.getEnabledTypeMask()));
+
+        synchronized (this) {
+            // 조회 중 무효화가 있었다면 이번 결과는 캐시하지 않음 (다음 조회에서 다시 적재)
+            if (invalidationGeneration.get() == generation) {
+                loaded.forEach((userId, mask) -> masks.put(userId, new CachedMask(mask, now)));
+            }
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * 설정 변경 이벤트 처리 - 캐시에 즉시 반영 후 다른 노드에 무효화 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePreferenceChanged(NotificationPreferenceChangedEvent event) {
+        synchronized (this) {
+            invalidationGeneration.incrementAndGet();
+            masks.put(event.getUserId(), new CachedMask(event.getEnabledTypeMask(), System.currentTimeMillis()));
+        }
+        messageBroker.publish(INVALIDATION_CHANNEL, String.valueOf(event.getUserId()));
+        log.debug("알림 설정 캐시 갱신. userId: {}", event.getUserId());
+    }
+
+    /**
+     * 사용자 캐시 제거 (다음 조회 시 DB에서 재적재)
+     */
+    public void evict(Long userId) {
+        synchronized (this) {
+            invalidationGeneration.incrementAndGet();
+            masks.remove(userId);
+        }
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private record CachedMask(int mask, long loadedAtMillis) {
+    }
+}
@@ -2,6 +2,7 @@ package com.community.platform.notification.application;
 
 import com.community.platform.notification.domain.NotificationPreference;
 import com.community.platform.notification.infrastructure.persistence.NotificationPreferenceRepository;
+import com.community.platform.shared.application.DomainEventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationPreferenceService {
 
     private final NotificationPreferenceRepository preferenceRepository;
+    private final DomainEventService domainEventService;
 
     /**
      * 기본 알림 설정 생성 (회원가입 시)
@@ -58,7 +60,8 @@ public class NotificationPreferenceService {
             Boolean notifyScrap,
             Boolean notifyReportResult,
             Boolean notifyLevelUp,
-            Boolean notifyPenalty
+            Boolean notifyPenalty,
+            Boolean notifyFollowingPost
     ) {
         log.info("알림 설정 업데이트. userId: {}", userId);
 
@@ -70,9 +73,13 @@ public class NotificationPreferenceService {
                 notifyScrap,
                 notifyReportResult,
                 notifyLevelUp,
-                notifyPenalty
+                notifyPenalty,
+                notifyFollowingPost
         );
 
+        // 알림 설정 캐시 갱신 (커밋 후)
+        domainEventService.publishEvents(preference);
+
         return preference;
     }
 }
@@ -0,0 +1,144 @@
+package com.community.platform.notification.application;
+
+import com.community.platform.notification.infrastructure.persistence.NotificationRepository;
+import com.community.platform.shared.application.LoadBudgetThrottle;
+import com.community.platform.shared.application.SchedulerLeaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 보관 기간 정리 서비스
+ * 보관 기간이 지난 알림을 한 번의 대량 DELETE 대신 id 범위 단위의 짧은 트랜잭션으로 나누어 삭제
+ * - 청크는 실제 존재하는 다음 id부터 chunk-size개로 구성하여 이미 비어 있는 id 구간을 건너뜀
+ * - 읽은 알림은 read-days, 읽지 않은 알림은 unread-days가 지나면 삭제
+ * - 청크마다 커밋하여 잠금 시간과 undo/WAL 양을 제한하고, 처리 시간 대비 휴식으로 DB 부하를 설정 비율 이내로 제한
+ * - 삭제된 읽지 않은 알림 수만큼 커밋 후 읽지 않은 알림 카운터 차감
+ */
+@Slf4j
+@Service
+public class NotificationRetentionService {
+
+    private static final String LEASE_NAME = "notification-retention";
+    private static final Duration LEASE_TTL = Duration.ofHours(1);
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadCounter;
+    private final SchedulerLeaseService leaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final int readRetentionDays;
+    private final int unreadRetentionDays;
+    private final int chunkSize;
+    private final LoadBudgetThrottle throttle;
+
+    private final Counter deletedCounter;
+
+    public NotificationRetentionService(
+            NotificationRepository notificationRepository,
+            UnreadNotificationCounter unreadCounter,
+            SchedulerLeaseService leaseService,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${community.notification.retention.read-days:30}") int readRetentionDays,
+            @Value("${community.notification.retention.unread-days:180}") int unreadRetentionDays,
+            @Value("${community.notification.retention.chunk-size:1000}") int chunkSize,
+            @Value("${community.notification.retention.load-budget:0.2}") double loadBudget) {
+        this.notificationRepository = notificationRepository;
+        this.unreadCounter = unreadCounter;
+        this.leaseService = leaseService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readRetentionDays = readRetentionDays;
+        this.unreadRetentionDays = Math.max(unreadRetentionDays, readRetentionDays);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.throttle = new LoadBudgetThrottle(loadBudget);
+        this.deletedCounter = meterRegistry.counter("community.notification.retention.deleted");
+    }
+
+    /**
+     * 정기 정리 실행 (기본 매일 새벽 3시, 리스를 획득한 한 노드만 실행)
+     */
+    @Scheduled(cron = "${community.notification.retention.cron:0 0 3 * * *}")
+    public void purgeScheduled() {
+        if (!leaseService.tryAcquire(LEASE_NAME, LEASE_TTL)) {
+            log.debug("알림 정리 건너뜀. 다른 노드에서 실행 중");
+            return;
+        }
+
+        try {
+            purgeExpired();
+        } catch (Exception e) {
+            log.error("알림 정리 중 오류 발생", e);
+        } finally {
+            leaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 알림 삭제 (리스를 보유한 상태에서 호출, 청크마다 리스를 연장하며 잃으면 중단)
+     * @return 삭제된 알림 수
+     */
+    public long purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime readBefore = now.minusDays(readRetentionDays);
+        LocalDateTime unreadBefore = now.minusDays(unreadRetentionDays);
+
+        Long maxId = notificationRepository.findMaxIdCreatedBefore(readBefore);
+        if (maxId == null) {
+            return 0;
+        }
+
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long deleted = 0;
+        long cursor = 0;
+        while (cursor <= maxId && !Thread.currentThread().isInterrupted()) {
+            if (!leaseService.renew(LEASE_NAME, LEASE_TTL)) {
+                log.warn("알림 정리 중단. 리스를 유지하지 못함. 다음 id: {}", cursor);
+                break;
+            }
+            long chunkStart = System.nanoTime();
+            List<Long> ids = notificationRepository.findIdsFrom(cursor, maxId, chunk);
+            if (ids.isEmpty()) {
+                break;
+            }
+            long from = ids.get(0);
+            long to = ids.get(ids.size() - 1) + 1;
+
+            deleted += purgeChunk(from, to, readBefore, unreadBefore);
+            cursor = to;
+
+            throttle.pause(System.nanoTime() - chunkStart);
+        }
+
+        deletedCounter.increment(deleted);
+        log.info("알림 정리 완료. 삭제 수: {}, 마지막 id: {}", deleted, maxId);
+        return deleted;
+    }
+
+    // 청크 하나를 별도 트랜잭션으로 삭제하고, 커밋 후 읽지 않은 알림 수 차감
+    private int purgeChunk(long from, long to, LocalDateTime readBefore, LocalDateTime unreadBefore) {
+        Map<Long, Long> unreadDeleted = new HashMap<>();
+        Integer deleted = transactionTemplate.execute(status -> {
+            for (Object[] row : notificationRepository.countExpiredUnreadByUserInRange(from, to, unreadBefore)) {
+                unreadDeleted.put((Long) row[0], (Long) row[1]);
+            }
+            return notificationRepository.deleteExpiredInRange(from, to, readBefore, unreadBefore);
+        });
+
+        // 조회와 삭제 사이에 읽음 처리된 알림은 카운터 보정 작업에서 바로잡힘
+        unreadDeleted.forEach((userId, count) -> unreadCounter.add(userId, -count));
+        return deleted != null ? deleted : 0;
+    }
+}
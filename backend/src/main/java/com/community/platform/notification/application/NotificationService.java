@@ -1,18 +1,26 @@
 package com.community.platform.notification.application;
 
 import com.community.platform.notification.domain.*;
+import com.community.platform.notification.dto.NotificationResponse;
 import com.community.platform.notification.infrastructure.persistence.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 알림 관리 서비스
+ * 사용자별 알림과 전체 알림(BroadcastNotificationService)을 조회 시점에 합쳐서 반환
  */
 @Slf4j
 @Service
@@ -21,13 +29,14 @@ import java.time.LocalDateTime;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
-    private final NotificationPreferenceService preferenceService;
+    private final NotificationDispatcher notificationDispatcher;
+    private final UnreadNotificationCounter unreadCounter;
+    private final BroadcastNotificationService broadcastService;
 
     /**
      * 알림 발송
-     * 사용자의 알림 설정을 확인하고 활성화된 경우에만 알림 생성
+     * 알림 설정 확인, 집계, 저장은 NotificationDispatcher가 배치로 처리
      */
-    @Transactional
     public void sendNotification(
             Long userId,
             NotificationType type,
@@ -36,52 +45,22 @@ public class NotificationService {
             Long relatedId,
             RelatedEntityType relatedType
     ) {
-        // 자기 자신에게는 알림 발송 안 함
-        if (userId == null) {
-            log.debug("userId가 null이므로 알림을 발송하지 않습니다");
-            return;
-        }
-
-        // 사용자의 알림 설정 확인
-        if (!shouldSendNotification(userId, type)) {
-            log.debug("사용자 알림 설정으로 인해 알림을 발송하지 않습니다. userId: {}, type: {}", userId, type);
-            return;
-        }
-
-        // 중복 알림 체크 (좋아요, 스크랩만 체크 - 댓글은 여러 개 받을 수 있음)
-        if (type == NotificationType.LIKE_ON_POST || type == NotificationType.SCRAP_ON_POST) {
-            if (notificationRepository.existsByUserIdAndTypeAndRelatedId(userId, type, relatedId)) {
-                log.debug("이미 발송된 알림이므로 중복 발송하지 않습니다. userId: {}, type: {}, relatedId: {}", userId, type, relatedId);
-                return;
-            }
-        }
-
-        // 알림 생성
-        Notification notification = Notification.create(
-                userId,
-                type,
-                title,
-                content,
-                relatedId,
-                relatedType
-        );
-
-        notificationRepository.save(notification);
-        log.info("알림 발송 완료. userId: {}, type: {}, title: {}", userId, type, title);
+        notificationDispatcher.dispatch(userId, type, title, content, relatedId, relatedType, null);
     }
 
     /**
-     * 사용자의 알림 목록 조회
+     * 사용자의 알림 목록 조회 (전체 알림 포함)
+     * 사용자별 알림과 노출 중인 전체 알림을 생성 시간 순으로 합친 목록에서 페이지 구간을 잘라 반환
      */
-    public Page<Notification> getMyNotifications(Long userId, Pageable pageable) {
-        return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+    public Page<NotificationResponse> getMyNotifications(Long userId, Pageable pageable) {
+        return getMergedNotifications(userId, pageable, false);
     }
 
     /**
-     * 읽지 않은 알림 개수 조회
+     * 읽지 않은 알림 개수 조회 (카운터 키 조회, 미적재 시에만 DB COUNT) + 읽지 않은 전체 알림 수
      */
     public Long getUnreadCount(Long userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadCounter.get(userId) + broadcastService.countUnseen(userId);
     }
 
     /**
@@ -97,7 +76,11 @@ public class NotificationService {
             throw new IllegalArgumentException("본인의 알림만 읽음 처리할 수 있습니다");
         }
 
-        notification.markAsRead();
+        // 동시 요청에도 한 번만 감소하도록 조건부 UPDATE
+        if (notification.isUnread()
+                && notificationRepository.markAsReadIfUnread(notificationId, userId, LocalDateTime.now()) > 0) {
+            unreadCounter.addAfterCommit(userId, -1);
+        }
         log.info("알림 읽음 처리. notificationId: {}, userId: {}", notificationId, userId);
     }
 
@@ -107,6 +90,8 @@ public class NotificationService {
     @Transactional
     public void markAllAsRead(Long userId) {
         notificationRepository.markAllAsReadByUserId(userId, LocalDateTime.now());
+        unreadCounter.resetAfterCommit(userId);
+        broadcastService.markAllSeen(userId);
         log.info("모든 알림 읽음 처리. userId: {}", userId);
     }
 
@@ -115,28 +100,87 @@ public class NotificationService {
      */
     @Transactional
     public void deleteNotification(Long notificationId, Long userId) {
-        notificationRepository.deleteByIdAndUserId(notificationId, userId);
+        notificationRepository.findById(notificationId)
+                .filter(notification -> notification.getUserId().equals(userId))
+                .ifPresent(notification -> {
+                    int deleted = notificationRepository.deleteByIdAndUserId(notificationId, userId);
+                    if (deleted > 0 && notification.isUnread()) {
+                        unreadCounter.addAfterCommit(userId, -1);
+                    }
+                });
         log.info("알림 삭제. notificationId: {}, userId: {}", notificationId, userId);
     }
 
     /**
-     * 알림 발송 여부 확인
-     * 사용자의 알림 설정을 기반으로 판단
+     * 전체 알림 읽음 처리 (이 알림 이전의 전체 알림도 함께 읽음)
      */
-    private boolean shouldSendNotification(Long userId, NotificationType type) {
-        try {
-            NotificationPreference preference = preferenceService.getPreference(userId);
-            return preference.isEnabled(type);
-        } catch (Exception e) {
-            log.error("알림 설정 조회 실패. 기본값으로 발송. userId: {}, type: {}", userId, type, e);
-            return true;  // 설정 조회 실패 시 기본적으로 발송
-        }
+    public void markBroadcastAsRead(Long broadcastId, Long userId) {
+        broadcastService.markSeen(userId, broadcastId);
+        log.info("전체 알림 읽음 처리. broadcastId: {}, userId: {}", broadcastId, userId);
+    }
+
+    /**
+     * 읽지 않은 알림 조회 (읽지 않은 전체 알림 포함)
+     */
+    public Page<NotificationResponse> getUnreadNotifications(Long userId, Pageable pageable) {
+        return getMergedNotifications(userId, pageable, true);
     }
 
     /**
-     * 읽지 않은 알림 조회
+     * 사용자별 알림과 전체 알림을 합친 목록의 페이지 구간 조회
+     * 전체 알림은 최대 k(max-active)건이므로 페이지 앞쪽 k건까지 함께 조회하면 구간에 들어갈 사용자 알림을 모두 포함
+     * - 사용자 알림의 위치 = 사용자 알림 순번 + 그보다 최신인(같은 시각 포함) 전체 알림 수
+     * - 전체 알림의 위치 = 그보다 최신인 사용자 알림 수 + 앞선 전체 알림 수
+     *   (조회 구간 첫 알림보다 최신이면 페이지 앞쪽, 꽉 찬 조회 구간의 마지막 알림보다 오래되면 페이지 뒤쪽)
      */
-    public Page<Notification> getUnreadNotifications(Long userId, Pageable pageable) {
-        return notificationRepository.findUnreadByUserId(userId, pageable);
+    private Page<NotificationResponse> getMergedNotifications(Long userId, Pageable pageable, boolean unreadOnly) {
+        List<BroadcastNotification> active = broadcastService.getActiveBroadcasts();
+        long lastSeen = active.isEmpty() ? 0 : broadcastService.getLastSeenBroadcastId(userId);
+        List<BroadcastNotification> broadcasts = active.stream()
+                .filter(broadcast -> !unreadOnly || broadcast.getId() > lastSeen)
+                .sorted(Comparator.comparing(BroadcastNotification::getCreatedAt).reversed())
+                .toList();
+        if (broadcasts.isEmpty()) {
+            Page<Notification> notifications = unreadOnly
+                    ? notificationRepository.findUnreadByUserId(userId, pageable)
+                    : notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+            return notifications.map(NotificationResponse::from);
+        }
+
+        long offset = pageable.getOffset();
+        int size = pageable.getPageSize();
+        long start = Math.max(offset - broadcasts.size(), 0);
+        int limit = (int) (offset - start) + size;
+        List<Notification> rows = notificationRepository.findWindowByUserId(userId, unreadOnly, start, limit);
+        long total = unreadOnly
+                ? notificationRepository.countUnreadByUserId(userId)
+                : notificationRepository.countByUserId(userId);
+
+        Map<Long, NotificationResponse> page = new TreeMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Notification row = rows.get(i);
+            long position = start + i + broadcasts.stream()
+                    .filter(broadcast -> !broadcast.getCreatedAt().isBefore(row.getCreatedAt()))
+                    .count();
+            if (position >= offset && position < offset + size) {
+                page.put(position, NotificationResponse.from(row));
+            }
+        }
+        for (int i = 0; i < broadcasts.size(); i++) {
+            BroadcastNotification broadcast = broadcasts.get(i);
+            if (start > 0 && (rows.isEmpty() || !rows.get(0).getCreatedAt().isAfter(broadcast.getCreatedAt()))) {
+                continue;
+            }
+            long newerRows = rows.stream().filter(row -> row.getCreatedAt().isAfter(broadcast.getCreatedAt())).count();
+            if (newerRows == rows.size() && rows.size() == limit) {
+                continue;
+            }
+            long position = start + newerRows + i;
+            if (position >= offset && position < offset + size) {
+                page.put(position, BroadcastNotificationService.toResponse(
+                        broadcast, userId, broadcast.getId() <= lastSeen));
+            }
+        }
+        return new PageImpl<>(new ArrayList<>(page.values()), pageable, total + broadcasts.size());
     }
 }
@@ -0,0 +1,457 @@
+package com.community.platform.notification.application;
+
+import com.community.platform.shared.infrastructure.redis.ClusterMessageBroker;
+import com.community.platform.user.application.PresenceService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 푸시 서비스 (Server-Sent Events)
+ * 알림/메시지를 폴링 대신 사용자별 SSE 연결로 전달
+ * - 사용자별 구독 목록과 최근 이벤트 링 버퍼를 메모리에 유지 (Last-Event-ID 재연결 시 놓친 이벤트 재전송)
+ *   링 버퍼는 연결이 있던 노드에만 있으므로 재전송은 같은 노드로 재연결한 경우만 보장 (다른 노드면 클라이언트가 목록 재조회)
+ * - 다른 노드에 연결된 사용자에게는 Redis Pub/Sub으로 이벤트 전달
+ * - 전체 알림은 사용자 ID 없이 한 번 발행하고 각 노드가 자신에게 연결된 모든 사용자에게 전달
+ * - 서블릿 비동기 처리로 유휴 연결은 요청 스레드를 점유하지 않으며, 주기적인 하트비트로 끊긴 연결 정리
+ *   (하트비트 전송도 전송 전용 스레드에서 수행하여 공용 스케줄러 스레드가 느린 연결에 막히지 않음)
+ * - 발행은 사용자별 제한된 메일박스에 넣기만 하고 전송은 전용 스레드가 수행 (느린 연결이 발행 스레드를 막지 않음)
+ *   메일박스가 가득 찬 사용자는 연결을 종료하여 Last-Event-ID 재연결로 따라잡게 함
+ * - 이벤트 ID는 (발행 시각 << 16 | 순번)으로 노드 간에도 대략적인 시간 순서를 유지
+ * - 연결 유지가 곧 접속 상태: 연결/하트비트 시 PresenceService 갱신, 어느 노드에도 접속하지 않은 사용자에게는 발행 생략
+ */
+@Slf4j
+@Component
+public class RealtimePushService {
+
+    public static final String NOTIFICATION_EVENT = "notification";
+    public static final String MESSAGE_EVENT = "message";
+    public static final String MESSAGE_RECEIPT_EVENT = "message-receipt";
+
+    private static final String PUSH_CHANNEL = "notification:push";
+    private static final int HEARTBEAT_BATCH_SIZE = 200;
+
+    private final ClusterMessageBroker messageBroker;
+    private final PresenceService presenceService;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+    private final int replaySize;
+    private final long replayWindowMillis;
+    private final int maxConnectionsPerUser;
+    private final int mailboxSize;
+    private final int deliveryThreads;
+    private final Timer deliveryLatencyTimer;
+    private final Counter overflowCounter;
+    private final Counter offlineSkipCounter;
+
+    private final Map<Long, UserChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicLong lastEventId = new AtomicLong();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private ExecutorService deliveryExecutor;
+
+    public RealtimePushService(
+            ClusterMessageBroker messageBroker,
+            PresenceService presenceService,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${community.push.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${community.push.replay-size:50}") int replaySize,
+            @Value("${community.push.replay-window-ms:120000}") long replayWindowMillis,
+            @Value("${community.push.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${community.push.mailbox-size:256}") int mailboxSize,
+            @Value("${community.push.delivery-threads:4}") int deliveryThreads) {
+        this.messageBroker = messageBroker;
+        this.presenceService = presenceService;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.replaySize = Math.max(replaySize, 1);
+        this.replayWindowMillis = replayWindowMillis;
+        this.maxConnectionsPerUser = Math.max(maxConnectionsPerUser, 1);
+        this.mailboxSize = Math.max(mailboxSize, 1);
+        this.deliveryThreads = Math.max(deliveryThreads, 1);
+
+        Gauge.builder("community.push.connections", connectionCount, AtomicInteger::get)
+                .description("현재 노드의 SSE 연결 수")
+                .register(meterRegistry);
+        this.deliveryLatencyTimer = Timer.builder("community.push.delivery.latency")
+                .description("이벤트 발행부터 SSE 전송까지 걸린 시간")
+                .register(meterRegistry);
+        this.overflowCounter = meterRegistry.counter("community.push.mailbox.overflow");
+        this.offlineSkipCounter = meterRegistry.counter("community.push.skipped.offline");
+    }
+
+    @PostConstruct
+    void subscribePush() {
+        AtomicInteger sequence = new AtomicInteger();
+        deliveryExecutor = Executors.newFixedThreadPool(deliveryThreads, runnable -> {
+            Thread thread = new Thread(runnable, "push-delivery-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        messageBroker.subscribe(PUSH_CHANNEL, payload -> {
+            try {
+                deliver(objectMapper.readValue(payload, PushEvent.class));
+            } catch (JsonProcessingException e) {
+                log.warn("푸시 이벤트 역직렬화 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        deliveryExecutor.shutdown();
+        if (!deliveryExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+            deliveryExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * SSE 연결 등록
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 이벤트 ID (없으면 null)
+     */
+    public SseEmitter connect(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        emitter.onCompletion(() -> disconnect(userId, emitter));
+        emitter.onTimeout(() -> disconnect(userId, emitter));
+        emitter.onError(e -> disconnect(userId, emitter));
+
+        // 등록 중 하트비트가 채널을 정리하지 않도록 유휴 시각을 갱신해 두고,
+        // 등록과 재전송은 채널 안에서 함께 수행 (재전송과 메일박스 전송 사이에 이벤트가 빠지거나 중복되지 않도록)
+        UserChannel channel = channels.compute(userId, (id, existing) -> {
+            UserChannel target = existing != null ? existing : new UserChannel();
+            target.touch();
+            return target;
+        });
+        channel.attach(emitter, parseEventId(lastEventId));
+        presenceService.heartbeat(userId);
+        log.debug("SSE 연결. userId: {}, lastEventId: {}", userId, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * 사용자에게 이벤트 발행 (이 노드에 연결되어 있으면 즉시 전송, 다른 노드에는 Redis로 전달)
+     * 오프라인 사용자는 발행하지 않음 (알림/메시지는 이미 저장되어 있으므로 다음 접속 시 조회로 확인)
+     */
+    public void publish(Long userId, String eventName, Object data) {
+        if (userId == null) {
+            return;
+        }
+        if (!channels.containsKey(userId) && !presenceService.isOnline(userId)) {
+            offlineSkipCounter.increment();
+            return;
+        }
+        try {
+            PushEvent event = new PushEvent(nextEventId(), userId, eventName, objectMapper.writeValueAsString(data));
+            deliver(event);
+            messageBroker.publish(PUSH_CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("푸시 이벤트 직렬화 실패. userId: {}, event: {}", userId, eventName, e);
+        }
+    }
+
+    /**
+     * 현재 연결된 모든 사용자에게 이벤트 발행 (전체 알림, 노드마다 한 번씩 전달)
+     */
+    public void publishToAll(String eventName, Object data) {
+        try {
+            PushEvent event = new PushEvent(nextEventId(), null, eventName, objectMapper.writeValueAsString(data));
+            deliver(event);
+            messageBroker.publish(PUSH_CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("전체 푸시 이벤트 직렬화 실패. event: {}", eventName, e);
+        }
+    }
+
+    /**
+     * 하트비트 전송 및 오래된 채널 정리 (기본 25초마다)
+     * 프록시/로드밸런서의 유휴 연결 종료를 막고, 전송 실패한 연결을 제거
+     * 연결이 살아있는 사용자는 접속 상태도 함께 갱신
+     * 스케줄러 스레드는 만료 채널 정리와 작업 분배만 하고 전송은 전송 전용 스레드에 묶음 단위로 맡김
+     */
+    @Scheduled(fixedDelayString = "${community.push.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        Map<Long, UserChannel> batch = new HashMap<>();
+        for (Long userId : channels.keySet()) {
+            UserChannel channel = channels.computeIfPresent(userId,
+                    (id, existing) -> existing.isExpired(now) ? null : existing);
+            if (channel != null && channel.hasEmitters()) {
+                batch.put(userId, channel);
+                if (batch.size() == HEARTBEAT_BATCH_SIZE) {
+                    submitHeartbeat(batch);
+                    batch = new HashMap<>();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            submitHeartbeat(batch);
+        }
+    }
+
+    /**
+     * 현재 노드의 연결 수
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    private void deliver(PushEvent event) {
+        if (event.userId() == null) {
+            channels.values().forEach(channel -> channel.deliver(event));
+            return;
+        }
+        UserChannel channel = channels.get(event.userId());
+        if (channel != null) {
+            channel.deliver(event);
+        }
+    }
+
+    private void submitHeartbeat(Map<Long, UserChannel> batch) {
+        try {
+            deliveryExecutor.execute(() -> {
+                List<Long> connectedUserIds = new ArrayList<>(batch.size());
+                batch.forEach((userId, channel) -> {
+                    if (channel.heartbeat()) {
+                        connectedUserIds.add(userId);
+                    }
+                });
+                presenceService.heartbeat(connectedUserIds);
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private void disconnect(Long userId, SseEmitter emitter) {
+        UserChannel channel = channels.get(userId);
+        if (channel != null && channel.remove(emitter)) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    private long nextEventId() {
+        long candidate = System.currentTimeMillis() << 16;
+        return lastEventId.accumulateAndGet(candidate, (previous, next) -> Math.max(previous + 1, next));
+    }
+
+    private static long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static boolean send(SseEmitter emitter, PushEvent event) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(event.id()))
+                    .name(event.name())
+                    .data(event.data(), MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    /**
+     * 노드 간 전달되는 푸시 이벤트
+     * @param userId 수신자 ID (전체 알림이면 null)
+     * @param data JSON 직렬화된 이벤트 본문
+     */
+    record PushEvent(long id, Long userId, String name, String data) {
+    }
+
+    /**
+     * 사용자 한 명의 SSE 연결 목록, 최근 이벤트, 전송 대기 메일박스
+     * - 이벤트 기록/메일박스 조작은 this로, 실제 전송과 연결 등록/재전송은 sendLock으로 동기화 (잠금 순서: sendLock → this)
+     * - 채널당 전송 작업은 하나만 실행되어 이벤트 순서를 유지
+     * - lastSentId: 기존 연결에 전송을 마친(또는 연결이 없어 기록만 한) 마지막 이벤트, 새 연결은 여기까지 재전송받음
+     */
+    private final class UserChannel {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final PushEvent[] recent = new PushEvent[replaySize];
+        private final ArrayDeque<PushEvent> mailbox = new ArrayDeque<>();
+        private final Object sendLock = new Object();
+        private int head;
+        private int size;
+        private boolean draining;
+        private long lastSentId = -1;
+        private volatile long idleSince = System.currentTimeMillis();
+
+        void attach(SseEmitter emitter, long lastEventId) {
+            synchronized (sendLock) {
+                try {
+                    // 첫 전송 전까지 응답 헤더가 나가지 않으므로 연결 직후 주석 한 줄 전송
+                    emitter.send(SseEmitter.event().comment("connected"));
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                    return;
+                }
+                // 이미 전송된 이벤트까지만 재전송하고, 메일박스에 남은 이벤트는 등록 후 전송 작업이 보냄
+                List<PushEvent> missed = new ArrayList<>();
+                List<SseEmitter> evicted = new ArrayList<>();
+                synchronized (this) {
+                    if (lastEventId >= 0) {
+                        for (int i = 0; i < size; i++) {
+                            PushEvent event = recent[(head + i) % recent.length];
+                            if (event.id() > lastEventId && event.id() <= lastSentId) {
+                                missed.add(event);
+                            }
+                        }
+                    }
+                    emitters.add(emitter);
+                    connectionCount.incrementAndGet();
+                    // 탭/기기가 많으면 가장 오래된 연결부터 종료
+                    while (emitters.size() > maxConnectionsPerUser) {
+                        evicted.add(emitters.remove(0));
+                        connectionCount.decrementAndGet();
+                    }
+                }
+                evicted.forEach(SseEmitter::complete);
+                for (PushEvent event : missed) {
+                    if (!send(emitter, event)) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        void touch() {
+            idleSince = System.currentTimeMillis();
+        }
+
+        boolean remove(SseEmitter emitter) {
+            boolean removed = emitters.remove(emitter);
+            if (emitters.isEmpty()) {
+                idleSince = System.currentTimeMillis();
+            }
+            return removed;
+        }
+
+        boolean hasEmitters() {
+            return !emitters.isEmpty();
+        }
+
+        // 연결이 없고 재연결 대기 시간이 지난 채널
+        boolean isExpired(long now) {
+            return emitters.isEmpty() && now - idleSince > replayWindowMillis;
+        }
+
+        void deliver(PushEvent event) {
+            boolean overflow;
+            synchronized (this) {
+                recent[(head + size) % recent.length] = event;
+                if (size < recent.length) {
+                    size++;
+                } else {
+                    head = (head + 1) % recent.length;
+                }
+                if (emitters.isEmpty()) {
+                    // 연결이 없으면 재연결 시 재전송용 기록만 남김
+                    lastSentId = Math.max(lastSentId, event.id());
+                    return;
+                }
+                overflow = mailbox.size() >= mailboxSize;
+                if (overflow) {
+                    mailbox.clear();
+                    lastSentId = Math.max(lastSentId, event.id());
+                } else {
+                    mailbox.add(event);
+                    if (draining) {
+                        return;
+                    }
+                    draining = true;
+                }
+            }
+            if (overflow) {
+                // 따라오지 못하는 연결은 종료 (클라이언트가 Last-Event-ID로 재연결하여 최근 이벤트를 다시 받음)
+                overflowCounter.increment();
+                emitters.forEach(SseEmitter::complete);
+                return;
+            }
+            try {
+                deliveryExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                synchronized (this) {
+                    mailbox.clear();
+                    draining = false;
+                    lastSentId = Math.max(lastSentId, event.id());
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                PushEvent event;
+                synchronized (this) {
+                    event = mailbox.poll();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                synchronized (sendLock) {
+                    for (SseEmitter emitter : emitters) {
+                        send(emitter, event);
+                    }
+                    // 이벤트 ID의 상위 비트가 발행 시각이므로 다른 노드에서 발행된 이벤트도 발행 시점부터 측정
+                    deliveryLatencyTimer.record(Math.max(System.currentTimeMillis() - (event.id() >>> 16), 0),
+                            TimeUnit.MILLISECONDS);
+                    synchronized (this) {
+                        lastSentId = Math.max(lastSentId, event.id());
+                    }
+                }
+            }
+        }
+
+        // 하트비트 전송 (이벤트 전송과 섞이지 않도록 sendLock 안에서), 전송에 성공한 연결이 하나라도 있으면 true
+        boolean heartbeat() {
+            List<SseEmitter> failed = new ArrayList<>();
+            boolean alive = false;
+            synchronized (sendLock) {
+                for (SseEmitter emitter : emitters) {
+                    try {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                        alive = true;
+                    } catch (IOException | IllegalStateException e) {
+                        failed.add(emitter);
+                    }
+                }
+            }
+            failed.forEach(emitter -> emitter.completeWithError(new IOException("heartbeat failed")));
+            return alive;
+        }
+    }
+}
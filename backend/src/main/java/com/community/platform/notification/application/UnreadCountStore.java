@@ -0,0 +1,48 @@
+package com.community.platform.notification.application;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 수 저장소
+ * DB(notifications.is_read)가 원본이며, 저장소는 사용자 단위로 DB에서 적재(load)된 이후에만 응답
+ * 미적재 사용자는 null을 반환하고 증감도 무시 (다음 조회 시 DB에서 다시 적재)
+ */
+public interface UnreadCountStore {
+
+    /**
+     * 읽지 않은 알림 수 조회 (미적재 시 null)
+     */
+    Long get(Long userId);
+
+    /**
+     * 여러 사용자 조회 (적재된 사용자만 포함)
+     */
+    Map<Long, Long> getAll(Collection<Long> userIds);
+
+    /**
+     * DB에서 센 값으로 적재 (이미 적재된 경우 무시)
+     */
+    void load(Long userId, long count);
+
+    /**
+     * 증감 반영 (미적재 시 무시, 0 미만으로 내려가지 않음)
+     */
+    void add(Long userId, long delta);
+
+    /**
+     * 값 지정 (미적재여도 적재)
+     */
+    void set(Long userId, long count);
+
+    /**
+     * 현재 값이 expected일 때만 변경 (보정용)
+     * @return 변경 여부
+     */
+    boolean compareAndSet(Long userId, long expected, long count);
+
+    /**
+     * 사용자 적재 상태 제거 (다음 조회 시 재적재)
+     */
+    void evict(Long userId);
+}
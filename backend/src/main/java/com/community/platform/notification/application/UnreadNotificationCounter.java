@@ -0,0 +1,207 @@
+package com.community.platform.notification.application;
+
+import com.community.platform.notification.infrastructure.persistence.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 읽지 않은 알림 수 카운터
+ * 배지 조회를 COUNT 쿼리 대신 UnreadCountStore 키 조회 한 번으로 처리
+ * - 미적재 사용자는 DB에서 한 번 세어 적재, 이후 알림 생성/읽음/전체 읽음/삭제 시 커밋 후 증감
+ * - 변경된 사용자를 기록해 두고 주기적으로 DB와 비교, 조회 이후 값이 바뀌지 않은 경우에만 보정
+ * - 저장소 오류 시 DB COUNT로 대체
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final UnreadCountStore store;
+    private final NotificationRepository notificationRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int maxTrackedUsers;
+
+    // 마지막 보정 이후 카운터가 변경된 사용자
+    private final Set<Long> changedUsers = ConcurrentHashMap.newKeySet();
+
+    public UnreadNotificationCounter(
+            UnreadCountStore store,
+            NotificationRepository notificationRepository,
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${community.notification.unread.max-tracked-users:50000}") int maxTrackedUsers) {
+        this.store = store;
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxTrackedUsers = maxTrackedUsers;
+    }
+
+    /**
+     * 읽지 않은 알림 수 조회
+     */
+    public long get(Long userId) {
+        try {
+            Long count = store.get(userId);
+            if (count != null) {
+                return count;
+            }
+        } catch (Exception e) {
+            log.error("읽지 않은 알림 수 조회 실패. DB 조회로 대체합니다. userId: {}", userId, e);
+            return notificationRepository.countUnreadByUserId(userId);
+        }
+
+        long count = notificationRepository.countUnreadByUserId(userId);
+        try {
+            store.load(userId, count);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 적재 실패. userId: {}", userId, e);
+        }
+        return count;
+    }
+
+    /**
+     * 증감 반영 (이미 커밋된 변경에 대해 호출)
+     */
+    public void add(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        try {
+            store.add(userId, delta);
+            markChanged(userId);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 갱신 실패. userId: {}, delta: {}", userId, delta, e);
+            evictQuietly(userId);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 증감 반영
+     */
+    public void addAfterCommit(Long userId, long delta) {
+        afterCommit(() -> add(userId, delta));
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 0으로 초기화 (전체 읽음 처리)
+     */
+    public void resetAfterCommit(Long userId) {
+        afterCommit(() -> {
+            try {
+                store.set(userId, 0);
+                markChanged(userId);
+            } catch (Exception e) {
+                log.warn("읽지 않은 알림 수 초기화 실패. userId: {}", userId, e);
+                evictQuietly(userId);
+            }
+        });
+    }
+
+    /**
+     * 변경된 사용자의 카운터를 DB와 비교하여 보정 (기본 5분마다)
+     * 저장소 값 조회 → DB COUNT → 조회한 값 그대로일 때만 교체
+     * 그 사이 증감된 사용자는 다시 변경 대상으로 기록되어 다음 실행에서 보정
+     */
+    @Scheduled(fixedDelayString = "${community.notification.unread.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        List<Long> userIds = drainChangedUsers();
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        int corrected = 0;
+        for (int from = 0; from < userIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, userIds.size()));
+            try {
+                corrected += reconcileChunk(chunk);
+            } catch (Exception e) {
+                log.error("읽지 않은 알림 수 보정 실패. 사용자 수: {}", chunk.size(), e);
+            }
+        }
+
+        if (corrected > 0) {
+            log.warn("읽지 않은 알림 수 불일치 보정. 대상 사용자: {}, 보정: {}", userIds.size(), corrected);
+        } else {
+            log.debug("읽지 않은 알림 수 보정 완료. 대상 사용자: {}, 불일치 없음", userIds.size());
+        }
+    }
+
+    private int reconcileChunk(List<Long> userIds) {
+        Map<Long, Long> cached = store.getAll(userIds);
+        if (cached.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> actual = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT user_id, COUNT(*) FROM notifications " +
+                "WHERE user_id IN (:userIds) AND is_read = FALSE GROUP BY user_id",
+                new MapSqlParameterSource("userIds", cached.keySet()),
+                rs -> {
+                    actual.put(rs.getLong(1), rs.getLong(2));
+                });
+
+        int corrected = 0;
+        for (Map.Entry<Long, Long> entry : cached.entrySet()) {
+            long count = actual.getOrDefault(entry.getKey(), 0L);
+            if (entry.getValue() != count && store.compareAndSet(entry.getKey(), entry.getValue(), count)) {
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+
+    // 추적 사용자 수가 상한을 넘으면 기록 대신 적재 상태를 제거 (다음 조회 시 DB 기준으로 재적재)
+    private void markChanged(Long userId) {
+        if (changedUsers.size() >= maxTrackedUsers && !changedUsers.contains(userId)) {
+            evictQuietly(userId);
+            return;
+        }
+        changedUsers.add(userId);
+    }
+
+    private List<Long> drainChangedUsers() {
+        List<Long> userIds = new ArrayList<>();
+        Iterator<Long> iterator = changedUsers.iterator();
+        while (iterator.hasNext()) {
+            userIds.add(iterator.next());
+            iterator.remove();
+        }
+        return userIds;
+    }
+
+    private void evictQuietly(Long userId) {
+        try {
+            store.evict(userId);
+        } catch (Exception e) {
+            log.warn("읽지 않은 알림 수 제거 실패. userId: {}", userId, e);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,57 @@
+package com.community.platform.notification.domain;
+
+import com.community.platform.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전체 알림 엔티티
+ * 공지사항 등 모든 사용자에게 보내는 알림을 사용자별 행 대신 한 행으로 저장
+ * 사용자별 읽음 여부는 BroadcastReadMark의 마지막 확인 ID(워터마크)와 비교하여 결정
+ */
+@Entity
+@Table(name = "broadcast_notifications",
+       indexes = {
+           @Index(name = "idx_broadcast_created_at", columnList = "created_at"),
+           @Index(name = "idx_broadcast_related", columnList = "related_type, related_id")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BroadcastNotification extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "notification_type", nullable = false, length = 30)
+    private NotificationType type;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 500)
+    private String content;
+
+    @Column(name = "related_id")
+    private Long relatedId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "related_type", length = 20)
+    private RelatedEntityType relatedType;
+
+    private BroadcastNotification(NotificationType type, String title, String content,
+                                  Long relatedId, RelatedEntityType relatedType) {
+        this.type = type;
+        this.title = title;
+        this.content = content;
+        this.relatedId = relatedId;
+        this.relatedType = relatedType;
+    }
+
+    /**
+     * 전체 알림 생성
+     */
+    public static BroadcastNotification create(NotificationType type, String title, String content,
+                                               Long relatedId, RelatedEntityType relatedType) {
+        return new BroadcastNotification(type, title, content, relatedId, relatedType);
+    }
+}
@@ -0,0 +1,43 @@
+package com.community.platform.notification.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 알림 읽음 워터마크 엔티티
+ * 사용자가 마지막으로 확인한 전체 알림 ID를 저장 (이 ID 이하의 전체 알림은 읽음)
+ * 행이 없는 사용자는 아직 아무 전체 알림도 확인하지 않은 것으로 봄
+ */
+@Entity
+@Table(name = "broadcast_read_marks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BroadcastReadMark {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "last_seen_broadcast_id", nullable = false)
+    private Long lastSeenBroadcastId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    private BroadcastReadMark(Long userId, Long lastSeenBroadcastId) {
+        this.userId = userId;
+        this.lastSeenBroadcastId = lastSeenBroadcastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 워터마크 최초 생성
+     */
+    public static BroadcastReadMark create(Long userId, Long lastSeenBroadcastId) {
+        return new BroadcastReadMark(userId, lastSeenBroadcastId);
+    }
+}
@@ -7,16 +7,22 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * 알림 엔티티
  * 사용자에게 발송되는 각종 알림을 저장
+ * 좋아요/스크랩/댓글 알림은 같은 대상에 대해 집계 기간 내 한 행으로 합쳐짐 (actorCount, actorIds)
+ * 합쳐지는 중인 행만 aggregationKey를 가지며, (user_id, aggregation_key) 유니크 인덱스로 동시 생성을 막음
  */
 @Entity
 @Table(name = "notifications",
        indexes = {
            @Index(name = "idx_notification_user_read_created", columnList = "user_id, is_read, created_at"),
-           @Index(name = "idx_notification_created_at", columnList = "created_at")
+           @Index(name = "idx_notification_user_created", columnList = "user_id, created_at"),
+           @Index(name = "idx_notification_created_at", columnList = "created_at"),
+           @Index(name = "uk_notification_user_aggregation", columnList = "user_id, aggregation_key", unique = true)
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -42,6 +48,15 @@ public class Notification extends BaseEntity {
     @Column(name = "related_type", length = 20)
     private RelatedEntityType relatedType;  // 관련 엔티티 타입
 
+    @Column(name = "actor_count", nullable = false)
+    private Integer actorCount = 1;  // 알림을 발생시킨 사용자 수 (집계 알림)
+
+    @Column(name = "actor_ids", length = 200)
+    private String actorIds;  // 최근 행위자 ID 목록 (쉼표 구분, 최신순)
+
+    @Column(name = "aggregation_key", length = 60)
+    private String aggregationKey;  // 집계 중인 행의 키 (타입:관련 ID), 집계 기간이 지나면 null
+
     @Column(name = "is_read", nullable = false)
     private Boolean isRead = false;
 
@@ -84,6 +99,18 @@ public class Notification extends BaseEntity {
         this.readAt = LocalDateTime.now();
     }
 
+    /**
+     * 최근 행위자 ID 목록 (최신순)
+     */
+    public List<Long> getActorIdList() {
+        if (actorIds == null || actorIds.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(actorIds.split(","))
+                .map(Long::valueOf)
+                .toList();
+    }
+
     /**
      * 읽지 않은 알림인지 확인
      */
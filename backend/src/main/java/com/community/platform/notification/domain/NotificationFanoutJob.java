@@ -0,0 +1,62 @@
+package com.community.platform.notification.domain;
+
+import com.community.platform.shared.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로워 알림 팬아웃 작업 엔티티
+ * 게시글 발행 시 작성자의 팔로워에게 보낼 알림 작업과 진행 위치(마지막으로 처리한 팔로워 ID)를 저장
+ * 처리 노드는 claimedUntil까지 작업을 점유하며, 점유가 끊기면 다른 노드가 체크포인트부터 이어서 처리
+ */
+@Entity
+@Table(name = "notification_fanout_jobs",
+       indexes = {
+           @Index(name = "uk_fanout_job_post", columnList = "post_id", unique = true),
+           @Index(name = "idx_fanout_job_completed", columnList = "completed_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationFanoutJob extends BaseEntity {
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "post_title", nullable = false, length = 200)
+    private String postTitle;
+
+    @Column(name = "last_follower_id", nullable = false)
+    private Long lastFollowerId = 0L;  // 체크포인트 (이 ID까지 처리 완료)
+
+    @Column(name = "delivered_count", nullable = false)
+    private Long deliveredCount = 0L;  // 저장된 알림 수
+
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;  // 처리 중인 노드
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    private NotificationFanoutJob(Long postId, Long authorId, String postTitle) {
+        this.postId = postId;
+        this.authorId = authorId;
+        this.postTitle = postTitle;
+    }
+
+    /**
+     * 팬아웃 작업 생성
+     */
+    public static NotificationFanoutJob create(Long postId, Long authorId, String postTitle) {
+        return new NotificationFanoutJob(postId, authorId, postTitle);
+    }
+}
@@ -1,6 +1,6 @@
 package com.community.platform.notification.domain;
 
-import com.community.platform.shared.domain.BaseEntity;
+import com.community.platform.shared.domain.AggregateRoot;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -17,7 +17,12 @@ import lombok.NoArgsConstructor;
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class NotificationPreference extends BaseEntity {
+public class NotificationPreference extends AggregateRoot {
+
+    /**
+     * 모든 알림 타입 수신 비트마스크 (설정이 없는 사용자의 기본값)
+     */
+    public static final int ALL_TYPES_MASK = (1 << NotificationType.values().length) - 1;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -47,6 +52,9 @@ public class NotificationPreference extends BaseEntity {
     @Column(name = "notify_penalty", nullable = false)
     private Boolean notifyPenalty = true;  // 제재 통보
 
+    @Column(name = "notify_following_post", nullable = false)
+    private Boolean notifyFollowingPost = true;  // 팔로우한 사용자의 새 글
+
     private NotificationPreference(Long userId) {
         this.userId = userId;
         // 모든 알림 기본값 true (위 필드 초기화)
@@ -69,7 +77,8 @@ public class NotificationPreference extends BaseEntity {
             Boolean notifyScrap,
             Boolean notifyReportResult,
             Boolean notifyLevelUp,
-            Boolean notifyPenalty
+            Boolean notifyPenalty,
+            Boolean notifyFollowingPost
     ) {
         if (notifyComment != null) this.notifyComment = notifyComment;
         if (notifyReply != null) this.notifyReply = notifyReply;
@@ -78,6 +87,22 @@ public class NotificationPreference extends BaseEntity {
         if (notifyReportResult != null) this.notifyReportResult = notifyReportResult;
         if (notifyLevelUp != null) this.notifyLevelUp = notifyLevelUp;
         if (notifyPenalty != null) this.notifyPenalty = notifyPenalty;
+        if (notifyFollowingPost != null) this.notifyFollowingPost = notifyFollowingPost;
+
+        addDomainEvent(new NotificationPreferenceChangedEvent(userId, getEnabledTypeMask()));
+    }
+
+    /**
+     * 수신하는 알림 타입 비트마스크 (NotificationType.mask() 조합)
+     */
+    public int getEnabledTypeMask() {
+        int mask = 0;
+        for (NotificationType type : NotificationType.values()) {
+            if (isEnabled(type)) {
+                mask |= type.mask();
+            }
+        }
+        return mask;
     }
 
     /**
@@ -93,6 +118,7 @@ public class NotificationPreference extends BaseEntity {
             case REPORT_APPROVED, REPORT_REJECTED -> notifyReportResult;
             case LEVEL_UP -> notifyLevelUp;
             case PENALTY_APPLIED, PENALTY_EXPIRED -> notifyPenalty;
+            case FOLLOWING_POST -> notifyFollowingPost;
             case SYSTEM_NOTICE -> true;  // 시스템 공지는 항상 수신
         };
     }
@@ -0,0 +1,24 @@
+package com.community.platform.notification.domain;
+
+import com.community.platform.shared.domain.DomainEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 설정 변경 이벤트
+ * 알림 설정 캐시 갱신 및 다른 노드 무효화에 사용
+ */
+@Getter
+public class NotificationPreferenceChangedEvent implements DomainEvent {
+
+    private final Long userId;
+    private final int enabledTypeMask;  // 수신하는 알림 타입 비트마스크
+    private final LocalDateTime occurredOn;
+
+    public NotificationPreferenceChangedEvent(Long userId, int enabledTypeMask) {
+        this.userId = userId;
+        this.enabledTypeMask = enabledTypeMask;
+        this.occurredOn = LocalDateTime.now();
+    }
+}
@@ -21,11 +21,19 @@ public enum NotificationType {
     PENALTY_APPLIED("제재 통보", "커뮤니티 규칙 위반으로 제재되었습니다"),
     PENALTY_EXPIRED("제재 해제", "제재가 해제되었습니다"),
     LEVEL_UP("레벨 업", "축하합니다! 레벨이 상승했습니다"),
+    FOLLOWING_POST("팔로잉 새 글", "팔로우한 사용자가 새 글을 발행했습니다"),
     SYSTEM_NOTICE("시스템 공지", "시스템 공지사항입니다");
 
     private final String displayName;
     private final String defaultMessage;
 
+    /**
+     * 알림 설정 비트마스크에서 이 타입의 비트
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
     /**
      * 알림 설정에서 ON/OFF 가능한 타입인지 확인
      */
@@ -33,4 +41,30 @@ public enum NotificationType {
         // SYSTEM_NOTICE는 항상 발송되므로 설정 불가
         return this != SYSTEM_NOTICE;
     }
+
+    /**
+     * 같은 게시글에 대한 알림을 한 행으로 합치는 타입인지 확인 (좋아요, 스크랩, 댓글)
+     */
+    public boolean isAggregated() {
+        return this == LIKE_ON_POST || this == SCRAP_ON_POST || this == COMMENT_ON_POST;
+    }
+
+    /**
+     * 집계 시 서로 다른 행위자 수를 세는 타입인지 확인 (좋아요, 스크랩 - 댓글은 댓글마다 셈)
+     */
+    public boolean countsDistinctActors() {
+        return this == LIKE_ON_POST || this == SCRAP_ON_POST;
+    }
+
+    /**
+     * 집계 알림 내용 (행위자가 여러 명일 때)
+     */
+    public String aggregatedMessage(int actorCount) {
+        return switch (this) {
+            case LIKE_ON_POST -> actorCount + "명이 회원님의 게시글을 좋아합니다";
+            case SCRAP_ON_POST -> actorCount + "명이 회원님의 게시글을 스크랩했습니다";
+            case COMMENT_ON_POST -> "회원님의 게시글에 댓글이 " + actorCount + "개 달렸습니다";
+            default -> defaultMessage;
+        };
+    }
 }
@@ -24,6 +24,7 @@ public class NotificationPreferenceResponse {
     private Boolean notifyReportResult;
     private Boolean notifyLevelUp;
     private Boolean notifyPenalty;
+    private Boolean notifyFollowingPost;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -41,6 +42,7 @@ public class NotificationPreferenceResponse {
                 .notifyReportResult(preference.getNotifyReportResult())
                 .notifyLevelUp(preference.getNotifyLevelUp())
                 .notifyPenalty(preference.getNotifyPenalty())
+                .notifyFollowingPost(preference.getNotifyFollowingPost())
                 .createdAt(preference.getCreatedAt())
                 .updatedAt(preference.getUpdatedAt())
                 .build();
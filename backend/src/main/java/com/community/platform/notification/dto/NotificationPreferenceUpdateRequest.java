@@ -19,4 +19,5 @@ public class NotificationPreferenceUpdateRequest {
     private Boolean notifyReportResult;
     private Boolean notifyLevelUp;
     private Boolean notifyPenalty;
+    private Boolean notifyFollowingPost;
 }
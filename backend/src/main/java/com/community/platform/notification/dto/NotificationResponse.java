@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 알림 응답 DTO
@@ -24,8 +25,11 @@ public class NotificationResponse {
     private String content;
     private Long relatedId;
     private RelatedEntityType relatedType;
+    private Integer actorCount;  // 알림을 발생시킨 사용자 수 (집계 알림)
+    private List<Long> actorIds;  // 최근 행위자 ID 목록 (최신순)
     private Boolean isRead;
     private LocalDateTime readAt;
+    private Boolean broadcast;  // 전체 알림 여부 (id는 전체 알림 ID)
     private LocalDateTime createdAt;
 
     /**
@@ -40,8 +44,11 @@ public class NotificationResponse {
                 .content(notification.getContent())
                 .relatedId(notification.getRelatedId())
                 .relatedType(notification.getRelatedType())
+                .actorCount(notification.getActorCount())
+                .actorIds(notification.getActorIdList())
                 .isRead(notification.getIsRead())
                 .readAt(notification.getReadAt())
+                .broadcast(false)
                 .createdAt(notification.getCreatedAt())
                 .build();
     }
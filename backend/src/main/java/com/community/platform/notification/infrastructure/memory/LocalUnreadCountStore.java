@@ -0,0 +1,111 @@
+package com.community.platform.notification.infrastructure.memory;
+
+import com.community.platform.notification.application.UnreadCountStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 단일 노드용 인메모리 읽지 않은 알림 수 저장소
+ * 사용자 ID로 나눈 스트라이프별 LRU 맵에 보관하여 배지 조회가 서로 다른 락을 잡도록 함
+ * 스트라이프마다 최대 사용자 수를 넘으면 오래된 사용자부터 제거 (다음 조회 시 재적재)
+ * 노드 간 개수를 공유하지 않으므로 community.notification.unread.store=local로 명시한 단일 노드 환경에서만 사용
+ */
+@Component
+@ConditionalOnProperty(name = "community.notification.unread.store", havingValue = "local")
+public class LocalUnreadCountStore implements UnreadCountStore {
+
+    private static final int STRIPES = 16;
+    private static final int MAX_USERS_PER_STRIPE = 8192;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public LocalUnreadCountStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    @Override
+    public Long get(Long userId) {
+        Stripe stripe = stripe(userId);
+        synchronized (stripe) {
+            return stripe.get(userId);
+        }
+    }
+
+    @Override
+    public Map<Long, Long> getAll(Collection<Long> userIds) {
+        Map<Long, Long> result = new HashMap<>();
+        for (Long userId : userIds) {
+            Long count = get(userId);
+            if (count != null) {
+                result.put(userId, count);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void load(Long userId, long count) {
+        Stripe stripe = stripe(userId);
+        synchronized (stripe) {
+            stripe.putIfAbsent(userId, count);
+        }
+    }
+
+    @Override
+    public void add(Long userId, long delta) {
+        Stripe stripe = stripe(userId);
+        synchronized (stripe) {
+            stripe.computeIfPresent(userId, (id, count) -> Math.max(count + delta, 0));
+        }
+    }
+
+    @Override
+    public void set(Long userId, long count) {
+        Stripe stripe = stripe(userId);
+        synchronized (stripe) {
+            stripe.put(userId, count);
+        }
+    }
+
+    @Override
+    public boolean compareAndSet(Long userId, long expected, long count) {
+        Stripe stripe = stripe(userId);
+        synchronized (stripe) {
+            return stripe.replace(userId, expected, count);
+        }
+    }
+
+    @Override
+    public void evict(Long userId) {
+        Stripe stripe = stripe(userId);
+        synchronized (stripe) {
+            stripe.remove(userId);
+        }
+    }
+
+    private Stripe stripe(Long userId) {
+        return stripes[(int) Math.floorMod(userId, (long) STRIPES)];
+    }
+
+    /**
+     * 접근 순서 기준 LRU 맵 (스트라이프 단위로 동기화)
+     */
+    private static final class Stripe extends LinkedHashMap<Long, Long> {
+
+        Stripe() {
+            super(256, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > MAX_USERS_PER_STRIPE;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.community.platform.notification.infrastructure.persistence;
+
+import com.community.platform.notification.domain.BroadcastNotification;
+import com.community.platform.notification.domain.RelatedEntityType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 알림 리포지토리
+ */
+@Repository
+public interface BroadcastNotificationRepository extends JpaRepository<BroadcastNotification, Long> {
+
+    boolean existsByRelatedTypeAndRelatedId(RelatedEntityType relatedType, Long relatedId);
+
+    /**
+     * 특정 시각 이후의 전체 알림 (최신순)
+     */
+    @Query("SELECT b FROM BroadcastNotification b WHERE b.createdAt >= :since ORDER BY b.id DESC")
+    List<BroadcastNotification> findRecent(@Param("since") LocalDateTime since, Pageable pageable);
+}
@@ -0,0 +1,34 @@
+package com.community.platform.notification.infrastructure.persistence;
+
+import com.community.platform.notification.domain.BroadcastReadMark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 전체 알림 읽음 워터마크 리포지토리
+ */
+@Repository
+public interface BroadcastReadMarkRepository extends JpaRepository<BroadcastReadMark, Long> {
+
+    /**
+     * 사용자가 마지막으로 확인한 전체 알림 ID (없으면 null)
+     */
+    @Query("SELECT m.lastSeenBroadcastId FROM BroadcastReadMark m WHERE m.userId = :userId")
+    Long findLastSeenBroadcastId(@Param("userId") Long userId);
+
+    /**
+     * 워터마크 전진 (현재 값보다 클 때만)
+     * @return 갱신된 행 수 (행이 없거나 이미 더 큰 값이면 0)
+     */
+    @Modifying
+    @Query("UPDATE BroadcastReadMark m SET m.lastSeenBroadcastId = :broadcastId, m.updatedAt = :now " +
+           "WHERE m.userId = :userId AND m.lastSeenBroadcastId < :broadcastId")
+    int advance(@Param("userId") Long userId,
+                @Param("broadcastId") Long broadcastId,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,153 @@
+package com.community.platform.notification.infrastructure.persistence;
+
+import com.community.platform.notification.application.NotificationAggregator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 JDBC 배치 저장소
+ * 집계 중인 행은 (user_id, aggregation_key) 유니크 인덱스로 사용자당 하나만 존재하므로
+ * 새 알림 INSERT는 충돌 시 건너뛰는 문장으로 실행하고, 건너뛴 행은 호출 측에서 기존 행에 다시 합침
+ * - PostgreSQL: INSERT ... ON CONFLICT DO NOTHING
+ * - MySQL/MariaDB, H2 MySQL 모드: INSERT ... ON DUPLICATE KEY UPDATE id = id
+ *   (INSERT IGNORE는 NOT NULL/길이/FK 오류까지 경고로 바꿔 충돌로 오인하므로 사용하지 않음)
+ * - 그 외: INSERT ... SELECT ... WHERE NOT EXISTS (동시 생성은 유니크 인덱스 위반으로 배치 재시도)
+ */
+@Slf4j
+@Repository
+public class NotificationBatchWriter {
+
+    private static final String COLUMNS =
+            "user_id, notification_type, title, content, related_id, related_type, " +
+            "aggregation_key, actor_count, actor_ids, is_read, created_at, updated_at";
+
+    private static final String VALUES =
+            ":userId, :type, :title, :content, :relatedId, :relatedType, " +
+            ":aggregationKey, :actorCount, :actorIds, FALSE, :createdAt, :createdAt";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String insertSql;
+
+    public NotificationBatchWriter(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertSql = resolveInsertSql(jdbcTemplate);
+    }
+
+    /**
+     * 새 알림 일괄 저장 (집계 키가 이미 있는 행은 건너뜀)
+     * @return 입력 순서대로 생성된 ID, 건너뛴 행은 null
+     */
+    public List<Long> insertIfAbsent(List<NotificationAggregator.Insert> inserts) {
+        if (inserts.isEmpty()) {
+            return List.of();
+        }
+
+        MapSqlParameterSource[] params = inserts.stream()
+                .map(NotificationAggregator.Insert::toParams)
+                .toArray(MapSqlParameterSource[]::new);
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(insertSql, params, keyHolder, new String[]{"id"});
+
+        // 생성 키는 실제로 저장된 행에 대해서만 순서대로 반환됨
+        List<Long> keys = keyHolder.getKeyList().stream()
+                .map(key -> ((Number) key.values().iterator().next()).longValue())
+                .toList();
+        if (keys.size() == inserts.size()) {
+            return new ArrayList<>(keys);
+        }
+        return alignSkipped(params, keys);
+    }
+
+    /**
+     * 건너뛴 행이 있을 때 생성 키를 입력 순서에 맞춤
+     * MySQL은 건너뛴 행도 영향 행 수를 1로 보고할 수 있으므로(CLIENT_FOUND_ROWS) 행 수 대신
+     * 생성된 행의 사용자/집계 키를 조회하여 비교 (한 배치 안에서 같은 집계 키의 INSERT는 하나뿐)
+     */
+    private List<Long> alignSkipped(MapSqlParameterSource[] params, List<Long> keys) {
+        Map<Long, String> identities = new HashMap<>();
+        if (!keys.isEmpty()) {
+            jdbcTemplate.query("SELECT id, user_id, aggregation_key FROM notifications WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", keys),
+                    rs -> {
+                        identities.put(rs.getLong(1), rs.getLong(2) + ":" + rs.getString(3));
+                    });
+        }
+
+        Iterator<Long> generated = keys.iterator();
+        Long next = generated.hasNext() ? generated.next() : null;
+        List<Long> ids = new ArrayList<>(params.length);
+        for (MapSqlParameterSource param : params) {
+            String identity = param.getValue("userId") + ":" + param.getValue("aggregationKey");
+            if (next != null && identity.equals(identities.get(next))) {
+                ids.add(next);
+                next = generated.hasNext() ? generated.next() : null;
+            } else {
+                ids.add(null);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 기존 알림에 합치기 (행위자 수 증가, 다시 읽지 않음으로 변경)
+     */
+    public void merge(List<NotificationAggregator.Update> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE notifications SET actor_count = actor_count + :addedActors, actor_ids = :actorIds, " +
+                "       content = :content, is_read = FALSE, read_at = NULL, " +
+                "       created_at = :createdAt, updated_at = :createdAt " +
+                "WHERE id = :id",
+                updates.stream().map(NotificationAggregator.Update::toParams).toArray(MapSqlParameterSource[]::new));
+    }
+
+    /**
+     * 집계 기간이 지난 알림 닫기 (같은 키로 새 행을 만들 수 있도록 aggregation_key 제거)
+     */
+    public void closeAggregation(List<Long> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+                "UPDATE notifications SET aggregation_key = NULL WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", notificationIds));
+    }
+
+    private static String resolveInsertSql(NamedParameterJdbcTemplate jdbcTemplate) {
+        String[] database = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<String[]>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            return new String[]{metaData.getDatabaseProductName(), metaData.getURL()};
+        });
+        String product = database != null ? database[0].toLowerCase() : "";
+        String url = database != null && database[1] != null ? database[1].toLowerCase() : "";
+
+        if (product.contains("postgresql") || (product.contains("h2") && url.contains("mode=postgresql"))) {
+            log.info("알림 INSERT 방식: ON CONFLICT DO NOTHING ({})", product);
+            return "INSERT INTO notifications (" + COLUMNS + ") VALUES (" + VALUES + ") " +
+                   "ON CONFLICT (user_id, aggregation_key) DO NOTHING";
+        }
+        if (product.contains("mysql") || product.contains("mariadb")
+                || (product.contains("h2") && (url.contains("mode=mysql") || url.contains("mode=mariadb")))) {
+            log.info("알림 INSERT 방식: ON DUPLICATE KEY UPDATE ({})", product);
+            return "INSERT INTO notifications (" + COLUMNS + ") VALUES (" + VALUES + ") " +
+                   "ON DUPLICATE KEY UPDATE id = id";
+        }
+        log.info("알림 INSERT 방식: NOT EXISTS ({})", product);
+        return "INSERT INTO notifications (" + COLUMNS + ") SELECT " + VALUES + " " +
+               "WHERE NOT EXISTS (SELECT 1 FROM notifications " +
+               "                  WHERE user_id = :userId AND aggregation_key = :aggregationKey)";
+    }
+}
@@ -0,0 +1,64 @@
+package com.community.platform.notification.infrastructure.persistence;
+
+import com.community.platform.notification.domain.NotificationFanoutJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 팔로워 알림 팬아웃 작업 리포지토리
+ */
+@Repository
+public interface NotificationFanoutJobRepository extends JpaRepository<NotificationFanoutJob, Long> {
+
+    boolean existsByPostId(Long postId);
+
+    /**
+     * 처리할 수 있는 미완료 작업 ID (점유되지 않았거나 점유가 만료된 작업, 오래된 순)
+     */
+    @Query("SELECT j.id FROM NotificationFanoutJob j " +
+           "WHERE j.completedAt IS NULL AND (j.claimedUntil IS NULL OR j.claimedUntil < :now) ORDER BY j.id")
+    List<Long> findClaimableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 작업 점유 (본인 점유이거나 점유가 없거나 만료된 경우에만 성공)
+     * @return 1이면 점유 성공
+     */
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob j SET j.claimedBy = :ownerId, j.claimedUntil = :claimedUntil " +
+           "WHERE j.id = :jobId AND j.completedAt IS NULL " +
+           "AND (j.claimedBy = :ownerId OR j.claimedUntil IS NULL OR j.claimedUntil < :now)")
+    int claim(@Param("jobId") Long jobId,
+              @Param("ownerId") String ownerId,
+              @Param("claimedUntil") LocalDateTime claimedUntil,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 체크포인트 전진 및 점유 연장 (점유를 잃었으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob j SET j.lastFollowerId = :lastFollowerId, " +
+           "j.deliveredCount = j.deliveredCount + :delivered, j.claimedUntil = :claimedUntil " +
+           "WHERE j.id = :jobId AND j.claimedBy = :ownerId AND j.lastFollowerId < :lastFollowerId")
+    int advance(@Param("jobId") Long jobId,
+                @Param("ownerId") String ownerId,
+                @Param("lastFollowerId") Long lastFollowerId,
+                @Param("delivered") long delivered,
+                @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * 작업 완료 처리
+     */
+    @Modifying
+    @Query("UPDATE NotificationFanoutJob j SET j.completedAt = :now, j.claimedUntil = NULL " +
+           "WHERE j.id = :jobId AND j.claimedBy = :ownerId")
+    int complete(@Param("jobId") Long jobId,
+                 @Param("ownerId") String ownerId,
+                 @Param("now") LocalDateTime now);
+}
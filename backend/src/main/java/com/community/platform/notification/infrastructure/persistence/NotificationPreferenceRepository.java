@@ -4,6 +4,8 @@ import com.community.platform.notification.domain.NotificationPreference;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -21,4 +23,9 @@ public interface NotificationPreferenceRepository extends JpaRepository<Notifica
      * 사용자의 알림 설정 존재 여부 확인
      */
     boolean existsByUserId(Long userId);
+
+    /**
+     * 여러 사용자의 알림 설정 일괄 조회 (배치 발송용)
+     */
+    List<NotificationPreference> findByUserIdIn(Collection<Long> userIds);
 }
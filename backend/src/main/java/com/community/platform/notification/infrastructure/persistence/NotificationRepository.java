@@ -10,12 +10,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 알림 리포지토리
  */
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
 
     /**
      * 사용자의 알림 목록 조회 (최신순)
@@ -23,12 +24,28 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId ORDER BY n.createdAt DESC")
     Page<Notification> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
 
+    /**
+     * 사용자의 알림 수 (전체 알림과 합친 목록의 전체 건수 계산용)
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId")
+    long countByUserId(@Param("userId") Long userId);
+
     /**
      * 사용자의 읽지 않은 알림 개수 조회
      */
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.isRead = false")
     Long countUnreadByUserId(@Param("userId") Long userId);
 
+    /**
+     * 읽지 않은 알림 하나를 읽음 처리 (이미 읽은 경우 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :readAt " +
+           "WHERE n.id = :notificationId AND n.userId = :userId AND n.isRead = false")
+    int markAsReadIfUnread(@Param("notificationId") Long notificationId,
+                           @Param("userId") Long userId,
+                           @Param("readAt") LocalDateTime readAt);
+
     /**
      * 사용자의 모든 알림 읽음 처리
      */
@@ -38,30 +55,50 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     void markAllAsReadByUserId(@Param("userId") Long userId, @Param("readAt") LocalDateTime readAt);
 
     /**
-     * 특정 기간보다 오래된 읽은 알림 삭제 (정리 작업용)
+     * 커서 이후 존재하는 알림 ID (보관 기간 정리 청크 구성용, 기본 키 인덱스만 읽어 빈 id 구간을 건너뜀)
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.id >= :cursor AND n.id <= :maxId ORDER BY n.id")
+    List<Long> findIdsFrom(@Param("cursor") Long cursor, @Param("maxId") Long maxId, Pageable pageable);
+
+    /**
+     * 특정 시각 이전에 생성된 알림 중 가장 큰 ID (보관 기간 정리 끝점)
+     * 집계로 생성 시간이 갱신된 행은 더 최근 시각을 가지므로 이 범위 밖의 행은 정리 대상이 아님
+     */
+    @Query("SELECT MAX(n.id) FROM Notification n WHERE n.createdAt < :before")
+    Long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * ID 범위 안에서 삭제될 읽지 않은 알림 수 (사용자별, [userId, count])
+     */
+    @Query("SELECT n.userId, COUNT(n) FROM Notification n " +
+           "WHERE n.id >= :fromId AND n.id < :toId AND n.isRead = false AND n.createdAt < :unreadBefore " +
+           "GROUP BY n.userId")
+    List<Object[]> countExpiredUnreadByUserInRange(@Param("fromId") Long fromId,
+                                                   @Param("toId") Long toId,
+                                                   @Param("unreadBefore") LocalDateTime unreadBefore);
+
+    /**
+     * ID 범위 안의 보관 기간이 지난 알림 삭제 (정리 작업용)
+     * 읽은 알림은 readBefore, 읽지 않은 알림은 unreadBefore 이전에 생성된 것만 삭제
      */
     @Modifying
-    @Query("DELETE FROM Notification n WHERE n.isRead = true AND n.createdAt < :beforeDate")
-    void deleteReadNotificationsOlderThan(@Param("beforeDate") LocalDateTime beforeDate);
+    @Query("DELETE FROM Notification n WHERE n.id >= :fromId AND n.id < :toId " +
+           "AND ((n.isRead = true AND n.createdAt < :readBefore) OR n.createdAt < :unreadBefore)")
+    int deleteExpiredInRange(@Param("fromId") Long fromId,
+                             @Param("toId") Long toId,
+                             @Param("readBefore") LocalDateTime readBefore,
+                             @Param("unreadBefore") LocalDateTime unreadBefore);
 
     /**
      * 사용자의 특정 알림 삭제
      */
     @Modifying
     @Query("DELETE FROM Notification n WHERE n.id = :notificationId AND n.userId = :userId")
-    void deleteByIdAndUserId(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
+    int deleteByIdAndUserId(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
 
     /**
      * 사용자의 읽지 않은 알림 조회 (최신순)
      */
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.isRead = false ORDER BY n.createdAt DESC")
     Page<Notification> findUnreadByUserId(@Param("userId") Long userId, Pageable pageable);
-
-    /**
-     * 중복 알림 체크 (같은 사용자, 같은 타입, 같은 관련 엔티티)
-     */
-    @Query("SELECT COUNT(n) > 0 FROM Notification n WHERE n.userId = :userId AND n.type = :type AND n.relatedId = :relatedId")
-    boolean existsByUserIdAndTypeAndRelatedId(@Param("userId") Long userId,
-                                               @Param("type") com.community.platform.notification.domain.NotificationType type,
-                                               @Param("relatedId") Long relatedId);
 }
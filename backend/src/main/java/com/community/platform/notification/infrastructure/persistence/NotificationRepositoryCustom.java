@@ -0,0 +1,18 @@
+package com.community.platform.notification.infrastructure.persistence;
+
+import com.community.platform.notification.domain.Notification;
+
+import java.util.List;
+
+/**
+ * 알림 목록 구간 조회용 커스텀 Repository
+ * 전체 알림과 합친 페이지를 구성할 때 페이지 경계와 맞지 않는 offset부터 조회
+ */
+public interface NotificationRepositoryCustom {
+
+    /**
+     * 사용자의 알림을 (created_at, id) 내림차순으로 offset부터 limit개 조회
+     * @param unreadOnly 읽지 않은 알림만 조회할지 여부
+     */
+    List<Notification> findWindowByUserId(Long userId, boolean unreadOnly, long offset, int limit);
+}
@@ -0,0 +1,41 @@
+package com.community.platform.notification.infrastructure.persistence;
+
+import com.community.platform.notification.domain.Notification;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.community.platform.notification.domain.QNotification.notification;
+
+/**
+ * QueryDSL을 사용한 알림 목록 구간 조회 구현체
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<Notification> findWindowByUserId(Long userId, boolean unreadOnly, long offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        BooleanBuilder condition = new BooleanBuilder(notification.userId.eq(userId));
+        if (unreadOnly) {
+            condition.and(notification.isRead.isFalse());
+        }
+
+        return queryFactory
+                .selectFrom(notification)
+                .where(condition)
+                .orderBy(notification.createdAt.desc(), notification.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+}
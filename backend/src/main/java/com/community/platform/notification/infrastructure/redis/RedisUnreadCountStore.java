@@ -0,0 +1,101 @@
+package com.community.platform.notification.infrastructure.redis;
+
+import com.community.platform.notification.application.UnreadCountStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 문자열 키 기반 읽지 않은 알림 수 저장소
+ * 사용자별 키 하나에 개수를 보관하고, 증감은 키가 있을 때만 Lua 스크립트로 원자적으로 처리
+ * 마지막 변경 후 TTL이 지나면 만료되어 다음 조회 시 DB에서 재적재
+ * 모든 노드가 같은 개수를 보므로 설정이 없으면 이 저장소를 사용
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "community.notification.unread.store", havingValue = "redis", matchIfMissing = true)
+public class RedisUnreadCountStore implements UnreadCountStore {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "if count < 0 then redis.call('SET', KEYS[1], 0) count = 0 end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return count",
+            Long.class);
+
+    private static final RedisScript<Long> COMPARE_AND_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    public Long get(Long userId) {
+        String value = redisTemplate.opsForValue().get(key(userId));
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    @Override
+    public Map<Long, Long> getAll(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        List<String> values = redisTemplate.opsForValue().multiGet(ids.stream().map(this::key).toList());
+
+        Map<Long, Long> result = new HashMap<>();
+        if (values == null) {
+            return result;
+        }
+        for (int i = 0; i < ids.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(ids.get(i), Long.valueOf(values.get(i)));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void load(Long userId, long count) {
+        redisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count), TTL);
+    }
+
+    @Override
+    public void add(Long userId, long delta) {
+        redisTemplate.execute(ADD_SCRIPT, List.of(key(userId)),
+                String.valueOf(delta), String.valueOf(TTL.getSeconds()));
+    }
+
+    @Override
+    public void set(Long userId, long count) {
+        redisTemplate.opsForValue().set(key(userId), String.valueOf(count), TTL);
+    }
+
+    @Override
+    public boolean compareAndSet(Long userId, long expected, long count) {
+        Long result = redisTemplate.execute(COMPARE_AND_SET_SCRIPT, List.of(key(userId)),
+                String.valueOf(expected), String.valueOf(count), String.valueOf(TTL.getSeconds()));
+        return result != null && result == 1;
+    }
+
+    @Override
+    public void evict(Long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -2,22 +2,26 @@ package com.community.platform.notification.presentation.web;
 
 import com.community.platform.notification.application.NotificationPreferenceService;
 import com.community.platform.notification.application.NotificationService;
-import com.community.platform.notification.domain.Notification;
+import com.community.platform.notification.application.RealtimePushService;
 import com.community.platform.notification.domain.NotificationPreference;
 import com.community.platform.notification.dto.NotificationPreferenceResponse;
 import com.community.platform.notification.dto.NotificationPreferenceUpdateRequest;
 import com.community.platform.notification.dto.NotificationResponse;
 import com.community.platform.shared.dto.ApiResponse;
+import com.community.platform.shared.security.SecurityUtils;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 알림 관리 API 컨트롤러
@@ -30,6 +34,28 @@ public class NotificationController {
 
     private final NotificationService notificationService;
     private final NotificationPreferenceService preferenceService;
+    private final RealtimePushService pushService;
+
+    /**
+     * 알림/메시지 실시간 구독 (Server-Sent Events)
+     * GET /api/v1/notifications/stream
+     * 이벤트: notification (NotificationResponse), message (MessagePushResponse),
+     *        message-receipt (MessageReceiptResponse, 상대방의 수신/읽음 확인)
+     * 재연결 시 Last-Event-ID 이후 이벤트를 재전송 (짧은 시간 내 같은 노드로 재연결한 경우만 보장, 그 외에는 목록 재조회)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletResponse response) {
+        Long currentUserId = SecurityUtils.requireCurrentUserId();
+
+        log.debug("실시간 알림 구독. userId: {}, lastEventId: {}", currentUserId, lastEventId);
+
+        // 프록시(nginx) 응답 버퍼링 비활성화
+        response.setHeader("X-Accel-Buffering", "no");
+        return pushService.connect(currentUserId, lastEventId);
+    }
 
     /**
      * 내 알림 목록 조회
@@ -46,9 +72,7 @@ public class NotificationController {
         // TODO: Spring Security 적용 후 @AuthenticationPrincipal 사용
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Notification> notifications = notificationService.getMyNotifications(currentUserId, pageable);
-
-        Page<NotificationResponse> responses = notifications.map(NotificationResponse::from);
+        Page<NotificationResponse> responses = notificationService.getMyNotifications(currentUserId, pageable);
 
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
@@ -61,7 +85,7 @@ public class NotificationController {
     public ResponseEntity<ApiResponse<Long>> getUnreadCount(
             @RequestParam(required = false) Long currentUserId) {
 
-        log.info("읽지 않은 알림 개수 조회. userId: {}", currentUserId);
+        log.debug("읽지 않은 알림 개수 조회. userId: {}", currentUserId);
 
         Long count = notificationService.getUnreadCount(currentUserId);
 
@@ -81,11 +105,8 @@ public class NotificationController {
         log.info("읽지 않은 알림 목록 조회. userId: {}", currentUserId);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Notification> notifications = notificationService.getUnreadNotifications(currentUserId, pageable);
-
-        List<NotificationResponse> responses = notifications.getContent().stream()
-                .map(NotificationResponse::from)
-                .collect(Collectors.toList());
+        List<NotificationResponse> responses = notificationService.getUnreadNotifications(currentUserId, pageable)
+                .getContent();
 
         return ResponseEntity.ok(ApiResponse.success(responses));
     }
@@ -106,6 +127,22 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(null, "알림이 읽음 처리되었습니다"));
     }
 
+    /**
+     * 전체 알림(공지) 읽음 처리
+     * PUT /api/v1/notifications/broadcasts/{broadcastId}/read
+     */
+    @PutMapping("/broadcasts/{broadcastId}/read")
+    public ResponseEntity<ApiResponse<Void>> markBroadcastAsRead(
+            @PathVariable Long broadcastId,
+            @RequestParam(required = false) Long currentUserId) {
+
+        log.info("전체 알림 읽음 처리. broadcastId: {}, userId: {}", broadcastId, currentUserId);
+
+        notificationService.markBroadcastAsRead(broadcastId, currentUserId);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "알림이 읽음 처리되었습니다"));
+    }
+
     /**
      * 모든 알림 읽음 처리
      * PUT /api/v1/notifications/read-all
@@ -172,7 +209,8 @@ public class NotificationController {
                 request.getNotifyScrap(),
                 request.getNotifyReportResult(),
                 request.getNotifyLevelUp(),
-                request.getNotifyPenalty()
+                request.getNotifyPenalty(),
+                request.getNotifyFollowingPost()
         );
 
         NotificationPreferenceResponse response = NotificationPreferenceResponse.from(preference);
@@ -0,0 +1,256 @@
+package com.community.platform.shared.application;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비정규화 카운터 정합성 보정 서비스
+ * 증감 UPDATE 누락이나 트랜잭션 실패로 어긋난 카운터를 원본 테이블 기준으로 재계산하여 보정
+ * - id 범위 단위로 나누어 집계 쿼리 한 번으로 어긋난 행만 조회
+ * - 보정은 배치 UPDATE, 조회 이후 값이 바뀐 행은 건너뛰고 다음 실행에서 처리
+ * - 청크 처리 시간 대비 휴식 시간을 두어 DB 부하를 설정 비율 이내로 제한
+ */
+@Slf4j
+@Service
+public class CounterReconciliationService {
+
+    private static final String LEASE_NAME = "counter-reconciliation";
+    private static final Duration LEASE_TTL = Duration.ofHours(1);
+
+    /**
+     * 보정 대상 카운터 목록
+     */
+    private static final List<CounterDefinition> COUNTERS = List.of(
+            new CounterDefinition("post.like_count", "posts", "like_count",
+                    "post_likes", "post_id", null,
+                    "post_like_count_shards", "post_id", "delta"),
+            new CounterDefinition("post.comment_count", "posts", "comment_count",
+                    "comments", "post_id", "status <> 'DELETED'",
+                    null, null, null),
+            new CounterDefinition("post.scrap_count", "posts", "scrap_count",
+                    "post_scraps", "post_id", null,
+                    null, null, null),
+            new CounterDefinition("scrap_folder.scrap_count", "scrap_folders", "scrap_count",
+                    "post_scraps", "scrap_folder_id", null,
+                    null, null, null),
+            // 스레드 참여자별 읽지 않은 메시지 수 (비정규화 이전에 생성된 스레드도 첫 실행에서 채워짐)
+            new CounterDefinition("message_thread.user1_unread_count", "message_threads", "user1_unread_count",
+                    "messages", "thread_id",
+                    "is_read = false AND status = 'ACTIVE' AND recipient_id = " +
+                    "(SELECT mt.user1_id FROM message_threads mt WHERE mt.id = messages.thread_id)",
+                    null, null, null),
+            new CounterDefinition("message_thread.user2_unread_count", "message_threads", "user2_unread_count",
+                    "messages", "thread_id",
+                    "is_read = false AND status = 'ACTIVE' AND recipient_id = " +
+                    "(SELECT mt.user2_id FROM message_threads mt WHERE mt.id = messages.thread_id)",
+                    null, null, null)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SchedulerLeaseService leaseService;
+    private final int chunkSize;
+    private final LoadBudgetThrottle throttle;
+
+    // 카운터별 마지막 실행 결과
+    private final Map<String, DriftReport> lastReports = new ConcurrentHashMap<>();
+    private final AtomicLong totalCorrectedRows = new AtomicLong();
+
+    public CounterReconciliationService(
+            JdbcTemplate jdbcTemplate,
+            SchedulerLeaseService leaseService,
+            @Value("${community.reconciliation.chunk-size:1000}") int chunkSize,
+            @Value("${community.reconciliation.load-budget:0.2}") double loadBudget) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.leaseService = leaseService;
+        this.chunkSize = chunkSize;
+        this.throttle = new LoadBudgetThrottle(loadBudget);
+    }
+
+    /**
+     * 정기 보정 실행 (기본 매일 새벽 4시, 리스를 획득한 한 노드만 실행)
+     */
+    @Scheduled(cron = "${community.reconciliation.cron:0 0 4 * * *}")
+    public void reconcileScheduled() {
+        if (!leaseService.tryAcquire(LEASE_NAME, LEASE_TTL)) {
+            log.debug("카운터 보정 건너뜀. 다른 노드에서 실행 중");
+            return;
+        }
+
+        try {
+            reconcileAll();
+        } finally {
+            leaseService.release(LEASE_NAME);
+        }
+    }
+
+    /**
+     * 전체 카운터 보정 (리스를 보유한 상태에서 호출, 청크마다 리스를 연장하며 잃으면 중단)
+     */
+    public void reconcileAll() {
+        for (CounterDefinition counter : COUNTERS) {
+            try {
+                if (!reconcile(counter)) {
+                    log.warn("카운터 보정 중단. 리스를 유지하지 못함. counter: {}", counter.name());
+                    return;
+                }
+            } catch (Exception e) {
+                log.error("카운터 보정 중 오류 발생. counter: {}", counter.name(), e);
+            }
+        }
+    }
+
+    /**
+     * 카운터별 마지막 보정 결과 (actuator 노출용)
+     */
+    public Map<String, Object> getDriftStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("totalCorrectedRows", totalCorrectedRows.get());
+        statistics.put("counters", new LinkedHashMap<>(lastReports));
+        return statistics;
+    }
+
+    // 카운터 하나 보정, 리스를 잃어 중단했으면 false
+    private boolean reconcile(CounterDefinition counter) {
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + counter.table(), Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + counter.table(), Long.class);
+        if (minId == null || maxId == null) {
+            return true;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        long scannedRange = 0;
+        long driftedRows = 0;
+        long correctedRows = 0;
+        long absoluteDrift = 0;
+
+        for (long from = minId; from <= maxId; from += chunkSize) {
+            if (!leaseService.renew(LEASE_NAME, LEASE_TTL)) {
+                return false;
+            }
+            long chunkStart = System.nanoTime();
+            long to = from + chunkSize;
+
+            List<long[]> drifts = findDrifts(counter, from, to);
+            if (!drifts.isEmpty()) {
+                driftedRows += drifts.size();
+                for (long[] drift : drifts) {
+                    absoluteDrift += Math.abs(drift[2] - drift[1] - drift[3]);
+                }
+                correctedRows += applyCorrections(counter, drifts);
+            }
+            scannedRange += Math.min(to, maxId + 1) - from;
+
+            throttle.pause(System.nanoTime() - chunkStart);
+        }
+
+        DriftReport report = new DriftReport(startedAt, LocalDateTime.now(),
+                scannedRange, driftedRows, correctedRows, absoluteDrift);
+        lastReports.put(counter.name(), report);
+        totalCorrectedRows.addAndGet(correctedRows);
+
+        if (driftedRows > 0) {
+            log.warn("카운터 불일치 보정. counter: {}, 불일치 행: {}, 보정 행: {}, 누적 오차: {}",
+                    counter.name(), driftedRows, correctedRows, absoluteDrift);
+        } else {
+            log.info("카운터 보정 완료. counter: {}, 불일치 없음", counter.name());
+        }
+        return true;
+    }
+
+    // [id, 저장된 값, 실제 값, 미반영 증감] 목록 (불일치 행만)
+    private List<long[]> findDrifts(CounterDefinition counter, long from, long to) {
+        String sourceCondition = counter.sourceCondition() != null
+                ? " AND " + counter.sourceCondition()
+                : "";
+        boolean hasPending = counter.pendingTable() != null;
+        String pending = hasPending ? "COALESCE(pd.pending, 0)" : "0";
+
+        String sql = "SELECT t.id, t." + counter.column() + ", COALESCE(s.cnt, 0), " + pending + " " +
+                "FROM " + counter.table() + " t " +
+                "LEFT JOIN (SELECT " + counter.sourceKey() + " AS target_id, COUNT(*) AS cnt " +
+                "           FROM " + counter.sourceTable() +
+                "           WHERE " + counter.sourceKey() + " >= ? AND " + counter.sourceKey() + " < ?" +
+                sourceCondition +
+                "           GROUP BY " + counter.sourceKey() + ") s ON s.target_id = t.id " +
+                (hasPending
+                        ? "LEFT JOIN (SELECT " + counter.pendingKey() + " AS target_id, " +
+                          "                  SUM(" + counter.pendingColumn() + ") AS pending " +
+                          "           FROM " + counter.pendingTable() +
+                          "           WHERE " + counter.pendingKey() + " >= ? AND " + counter.pendingKey() + " < ?" +
+                          "           GROUP BY " + counter.pendingKey() + ") pd ON pd.target_id = t.id "
+                        : "") +
+                "WHERE t.id >= ? AND t.id < ? AND t." + counter.column() + " + " + pending + " <> COALESCE(s.cnt, 0)";
+
+        Object[] args = hasPending
+                ? new Object[]{from, to, from, to, from, to}
+                : new Object[]{from, to, from, to};
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)},
+                args);
+    }
+
+    // 조회 시점 값과 같을 때만 갱신 (그 사이 증감된 행은 다음 실행에서 보정)
+    private int applyCorrections(CounterDefinition counter, List<long[]> drifts) {
+        String sql = "UPDATE " + counter.table() + " SET " + counter.column() + " = ? " +
+                "WHERE id = ? AND " + counter.column() + " = ?";
+
+        List<Object[]> batchArgs = new ArrayList<>(drifts.size());
+        for (long[] drift : drifts) {
+            batchArgs.add(new Object[]{drift[2] - drift[3], drift[0], drift[1]});
+        }
+
+        int corrected = 0;
+        for (int updated : jdbcTemplate.batchUpdate(sql, batchArgs)) {
+            if (updated > 0) {
+                corrected += updated;
+            }
+        }
+        return corrected;
+    }
+
+    /**
+     * 보정 대상 카운터 정의
+     * @param sourceCondition 원본 테이블 집계 조건 (없으면 null)
+     * @param pendingTable 카운터에 아직 합산되지 않은 증감을 보관하는 테이블 (없으면 null)
+     */
+    private record CounterDefinition(String name, String table, String column,
+                                     String sourceTable, String sourceKey, String sourceCondition,
+                                     String pendingTable, String pendingKey, String pendingColumn) {
+    }
+
+    /**
+     * 카운터별 보정 결과
+     */
+    @Getter
+    public static class DriftReport {
+        private final LocalDateTime startedAt;
+        private final LocalDateTime finishedAt;
+        private final long scannedIdRange;
+        private final long driftedRows;
+        private final long correctedRows;
+        private final long absoluteDrift;
+
+        DriftReport(LocalDateTime startedAt, LocalDateTime finishedAt, long scannedIdRange,
+                    long driftedRows, long correctedRows, long absoluteDrift) {
+            this.startedAt = startedAt;
+            this.finishedAt = finishedAt;
+            this.scannedIdRange = scannedIdRange;
+            this.driftedRows = driftedRows;
+            this.correctedRows = correctedRows;
+            this.absoluteDrift = absoluteDrift;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.community.platform.shared.application;
+
+/**
+ * 배치 작업 부하 제한기
+ * 청크 처리 시간에 비례해 쉬어서 전체 실행 시간 중 DB 작업 비율이 loadBudget을 넘지 않도록 함
+ * (예: 0.2면 청크 처리 시간의 4배만큼 대기)
+ */
+public class LoadBudgetThrottle {
+
+    private final double loadBudget;
+
+    public LoadBudgetThrottle(double loadBudget) {
+        this.loadBudget = Math.min(Math.max(loadBudget, 0.01), 1.0);
+    }
+
+    /**
+     * 청크 하나를 처리한 뒤 호출, 인터럽트되면 인터럽트 상태만 복원하고 반환
+     * @param elapsedNanos 방금 처리한 청크의 소요 시간
+     */
+    public void pause(long elapsedNanos) {
+        if (loadBudget >= 1.0) {
+            return;
+        }
+
+        long pauseMillis = (long) (elapsedNanos / 1_000_000 * (1 - loadBudget) / loadBudget);
+        if (pauseMillis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
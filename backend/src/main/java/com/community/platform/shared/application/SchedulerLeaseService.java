@@ -0,0 +1,135 @@
+package com.community.platform.shared.application;
+
+import com.community.platform.shared.infrastructure.persistence.SchedulerLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스케줄러 리스 서비스
+ * DB 행 단위 조건부 UPDATE로 클러스터 내 단일 소유 노드를 결정
+ * 소유 노드는 TTL 이내에 주기적으로 갱신해야 하며, 갱신이 끊기면 다른 노드가 인계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository leaseRepository;
+
+    private final String ownerId = resolveOwnerId();
+
+    // 이 노드가 보유 중인 리스와 만료 시각
+    private final Map<String, LocalDateTime> heldLeases = new ConcurrentHashMap<>();
+
+    /**
+     * 리스 획득 또는 갱신 시도
+     * @return 이 노드가 리스를 보유하게 되면 true
+     */
+    public boolean tryAcquire(String leaseName, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+
+        try {
+            boolean acquired = leaseRepository.tryAcquire(leaseName, ownerId, expiresAt, now) > 0;
+
+            if (!acquired && !leaseRepository.existsById(leaseName)) {
+                acquired = createLease(leaseName, expiresAt);
+            }
+
+            if (acquired) {
+                heldLeases.put(leaseName, expiresAt);
+            } else {
+                heldLeases.remove(leaseName);
+            }
+            return acquired;
+        } catch (Exception e) {
+            log.warn("리스 갱신 실패. leaseName: {}, error: {}", leaseName, e.getMessage());
+            heldLeases.remove(leaseName);
+            return false;
+        }
+    }
+
+    /**
+     * 장시간 작업 중 리스 연장 (남은 시간이 TTL의 절반 이상이면 DB 갱신 없이 통과)
+     * 작업 청크마다 호출하여 실행 시간이 TTL을 넘어도 다른 노드가 중복 실행하지 않도록 함
+     * @return 계속 보유 중이면 true (보유하지 않았거나 다른 노드로 넘어갔으면 false → 작업 중단)
+     */
+    public boolean renew(String leaseName, Duration ttl) {
+        LocalDateTime expiresAt = heldLeases.get(leaseName);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt.isAfter(LocalDateTime.now().plus(ttl.dividedBy(2)))) {
+            return true;
+        }
+        return tryAcquire(leaseName, ttl);
+    }
+
+    /**
+     * 리스 보유 여부 (DB 조회 없이 마지막 갱신 결과 기준)
+     */
+    public boolean isHeld(String leaseName) {
+        LocalDateTime expiresAt = heldLeases.get(leaseName);
+        return expiresAt != null && expiresAt.isAfter(LocalDateTime.now());
+    }
+
+    /**
+     * 리스 반납
+     */
+    public void release(String leaseName) {
+        if (heldLeases.remove(leaseName) == null) {
+            return;
+        }
+
+        try {
+            leaseRepository.release(leaseName, ownerId, LocalDateTime.now());
+            log.info("리스 반납. leaseName: {}, ownerId: {}", leaseName, ownerId);
+        } catch (Exception e) {
+            log.warn("리스 반납 실패. leaseName: {}, error: {}", leaseName, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 보유 중인 리스를 모두 반납하여 다른 노드가 즉시 인계하도록 함
+     */
+    @PreDestroy
+    public void releaseAll() {
+        heldLeases.keySet().forEach(this::release);
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    private boolean createLease(String leaseName, LocalDateTime expiresAt) {
+        try {
+            leaseRepository.insert(leaseName, ownerId, expiresAt);
+            log.info("리스 최초 생성. leaseName: {}, ownerId: {}", leaseName, ownerId);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 생성함 (키 중복) → 획득 실패
+            log.debug("리스 생성 경합에서 밀림. leaseName: {}", leaseName);
+            return false;
+        }
+    }
+
+    private static String resolveOwnerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,42 @@
+package com.community.platform.shared.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 리스 엔티티
+ * 클러스터 내에서 하나의 노드만 특정 백그라운드 작업을 담당하도록 소유권과 만료 시각을 관리
+ */
+@Entity
+@Table(name = "scheduler_leases")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLease {
+
+    @Id
+    @Column(name = "lease_name", length = 100)
+    private String leaseName;
+
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    private SchedulerLease(String leaseName, String ownerId, LocalDateTime expiresAt) {
+        this.leaseName = leaseName;
+        this.ownerId = ownerId;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 리스 최초 생성
+     */
+    public static SchedulerLease create(String leaseName, String ownerId, LocalDateTime expiresAt) {
+        return new SchedulerLease(leaseName, ownerId, expiresAt);
+    }
+}
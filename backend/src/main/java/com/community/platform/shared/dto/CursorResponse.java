@@ -0,0 +1,25 @@
+package com.community.platform.shared.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 페이징 응답을 위한 공통 DTO
+ * 무한 스크롤용, 전체 개수 없이 다음 페이지 커서만 제공
+ */
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content; // 실제 데이터 목록
+    private final String nextCursor; // 다음 페이지 요청 시 전달할 커서 (마지막 페이지면 null)
+    private final boolean hasNext; // 다음 페이지 존재 여부
+    private final int size; // 현재 페이지 요소 수
+
+    public CursorResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = content.size();
+    }
+}
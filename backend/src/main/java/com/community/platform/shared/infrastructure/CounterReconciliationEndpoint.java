@@ -0,0 +1,26 @@
+package com.community.platform.shared.infrastructure;
+
+import com.community.platform.shared.application.CounterReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 카운터 정합성 보정 결과 actuator 엔드포인트
+ * GET /actuator/reconciliation
+ */
+@Component
+@Endpoint(id = "reconciliation")
+@RequiredArgsConstructor
+public class CounterReconciliationEndpoint {
+
+    private final CounterReconciliationService reconciliationService;
+
+    @ReadOperation
+    public Map<String, Object> driftStatistics() {
+        return reconciliationService.getDriftStatistics();
+    }
+}
@@ -0,0 +1,120 @@
+package com.community.platform.shared.infrastructure;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 세대 교체형 블룸 필터
+ * 최근 일정 기간 안에 본 키를 적은 메모리로 기억하여 "이미 본 키일 가능성"을 빠르게 판정
+ * - 현재/이전 두 세대를 유지하고 기간마다 이전 세대를 버림 (키는 최소 한 기간, 최대 두 기간 기억)
+ * - 거짓 양성은 설정한 확률로 발생할 수 있으나 거짓 음성은 없음
+ * - 비트 배열은 AtomicLongArray로 잠금 없이 갱신 (세대 교체만 동기화)
+ */
+public class RotatingBloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final int bitCount;
+    private final int hashCount;
+    private final long periodMillis;
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+    private volatile long rotatedAt;
+
+    /**
+     * @param expectedInsertions 한 기간 동안 추가될 것으로 예상되는 키 수
+     * @param falsePositiveRate 목표 거짓 양성 확률
+     * @param periodMillis 세대 교체 주기
+     */
+    public RotatingBloomFilter(int expectedInsertions, double falsePositiveRate, long periodMillis) {
+        int insertions = Math.max(expectedInsertions, 1);
+        double fpp = Math.min(Math.max(falsePositiveRate, 1e-6), 0.5);
+        long bits = (long) Math.ceil(-insertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+
+        this.bitCount = (int) Math.min(Math.max(bits, 64), Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+        this.periodMillis = periodMillis;
+        this.current = newBits();
+        this.previous = newBits();
+        this.rotatedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 키 추가
+     * @return 처음 보는 키면 true, 이미 본 키(또는 거짓 양성)면 false
+     */
+    public boolean putIfAbsent(String key) {
+        rotateIfNeeded();
+
+        long hash = fnv1a(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        AtomicLongArray bits = current;
+        AtomicLongArray older = previous;
+        boolean seenCurrent = true;
+        boolean seenPrevious = true;
+        for (int i = 1; i <= hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            if (!setBit(bits, index)) {
+                seenCurrent = false;
+            }
+            if (seenPrevious && !getBit(older, index)) {
+                seenPrevious = false;
+            }
+        }
+        return !seenCurrent && !seenPrevious;
+    }
+
+    private void rotateIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (now - rotatedAt < periodMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (now - rotatedAt >= periodMillis) {
+                // 두 기간 이상 지났으면 이전 세대도 의미가 없으므로 비움
+                previous = now - rotatedAt >= periodMillis * 2 ? newBits() : current;
+                current = newBits();
+                rotatedAt = now;
+            }
+        }
+    }
+
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((bitCount + 63) >>> 6);
+    }
+
+    // 비트를 켜고, 이미 켜져 있었는지 반환
+    private static boolean setBit(AtomicLongArray bits, int index) {
+        int word = index >>> 6;
+        long mask = 1L << index;
+        long value;
+        do {
+            value = bits.get(word);
+            if ((value & mask) != 0) {
+                return true;
+            }
+        } while (!bits.compareAndSet(word, value, value | mask));
+        return false;
+    }
+
+    private static boolean getBit(AtomicLongArray bits, int index) {
+        return (bits.get(index >>> 6) & (1L << index)) != 0;
+    }
+
+    private static long fnv1a(String key) {
+        long hash = FNV_OFFSET;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        // 상위/하위 비트를 섞어 이중 해싱의 두 값이 치우치지 않도록 함
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,160 @@
+package com.community.platform.shared.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이밍 휠
+ * 키별 만료 시각을 틱 단위 버킷에 배치하고, 매 틱마다 해당 버킷만 검사하여 만료된 키를 처리
+ * - 휠 한 바퀴보다 먼 만료 시각은 같은 버킷에 남아 있다가 해당 바퀴에서 처리됨
+ * - 같은 키로 다시 등록하면 기존 예약을 대체
+ * - 만료 처리는 단일 틱 스레드에서 순차 실행되므로 핸들러는 빠르게 반환해야 함
+ */
+@Slf4j
+public class TimingWheel<K> {
+
+    private final String name;
+    private final long tickMillis;
+    private final int mask;
+    private final Consumer<K> expiryHandler;
+
+    private final List<Set<K>> buckets;
+    private final Map<K, Long> deadlines = new HashMap<>();
+
+    private ScheduledExecutorService ticker;
+    private long lastTick;
+
+    /**
+     * @param tickMillis 틱 간격 (만료 정밀도)
+     * @param wheelSize 버킷 수 (2의 거듭제곱으로 올림)
+     */
+    public TimingWheel(String name, long tickMillis, int wheelSize, Consumer<K> expiryHandler) {
+        int size = Integer.highestOneBit(Math.max(wheelSize - 1, 1)) << 1;
+
+        this.name = name;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.expiryHandler = expiryHandler;
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new HashSet<>());
+        }
+        this.lastTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    /**
+     * 틱 스레드 시작
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "timing-wheel-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 틱 스레드 중지 (예약된 항목은 유지)
+     */
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    /**
+     * 만료 시각 예약 (이미 지난 시각이면 다음 틱에 처리)
+     */
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+
+        long tick = Math.max(tickOf(deadlineMillis), lastTick + 1);
+        deadlines.put(key, deadlineMillis);
+        buckets.get((int) (tick & mask)).add(key);
+    }
+
+    /**
+     * 예약 취소
+     */
+    public synchronized void cancel(K key) {
+        Long deadline = deadlines.remove(key);
+        if (deadline == null) {
+            return;
+        }
+
+        // 지난 시각으로 예약된 경우 버킷 위치를 알 수 없으므로 전체 버킷에서 제거
+        if (!buckets.get((int) (tickOf(deadline) & mask)).remove(key)) {
+            buckets.forEach(bucket -> bucket.remove(key));
+        }
+    }
+
+    /**
+     * 전체 예약 제거
+     */
+    public synchronized void clear() {
+        deadlines.clear();
+        buckets.forEach(Set::clear);
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    // 만료 시각 이후 처음 도래하는 틱 (해당 틱 처리 시점에는 반드시 만료 시각이 지나 있음)
+    private long tickOf(long deadlineMillis) {
+        return (deadlineMillis + tickMillis - 1) / tickMillis;
+    }
+
+    // 지난 틱부터 현재 틱까지의 버킷을 순서대로 처리 (지연된 틱도 누락 없이 처리)
+    private void advance() {
+        List<K> expired = new ArrayList<>();
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            long currentTick = now / tickMillis;
+
+            for (long tick = lastTick + 1; tick <= currentTick; tick++) {
+                Iterator<K> iterator = buckets.get((int) (tick & mask)).iterator();
+                while (iterator.hasNext()) {
+                    K key = iterator.next();
+                    if (deadlines.get(key) <= now) {
+                        iterator.remove();
+                        deadlines.remove(key);
+                        expired.add(key);
+                    }
+                }
+
+                // 한 바퀴 이상 밀린 경우 나머지 버킷은 이미 검사됨
+                if (tick - lastTick > mask) {
+                    break;
+                }
+            }
+            lastTick = currentTick;
+        }
+
+        for (K key : expired) {
+            try {
+                expiryHandler.accept(key);
+            } catch (Exception e) {
+                log.error("타이밍 휠 만료 처리 실패. wheel: {}, key: {}", name, key, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.community.platform.shared.infrastructure.persistence;
+
+import com.community.platform.shared.domain.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 리스 Repository
+ */
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * 리스 획득/갱신 (본인 소유이거나 만료된 경우에만 성공)
+     * @return 갱신된 행 수 (1이면 획득 성공)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.ownerId = :ownerId, l.expiresAt = :expiresAt " +
+           "WHERE l.leaseName = :leaseName AND (l.ownerId = :ownerId OR l.expiresAt < :now)")
+    int tryAcquire(@Param("leaseName") String leaseName,
+                   @Param("ownerId") String ownerId,
+                   @Param("expiresAt") LocalDateTime expiresAt,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * 리스 최초 생성 (merge를 거치지 않는 INSERT, 다른 노드가 먼저 생성했으면 키 중복 예외)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_leases (lease_name, owner_id, expires_at) " +
+                   "VALUES (:leaseName, :ownerId, :expiresAt)", nativeQuery = true)
+    int insert(@Param("leaseName") String leaseName,
+               @Param("ownerId") String ownerId,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * 리스 반납 (본인 소유인 경우 즉시 만료 처리)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = :now " +
+           "WHERE l.leaseName = :leaseName AND l.ownerId = :ownerId")
+    int release(@Param("leaseName") String leaseName,
+                @Param("ownerId") String ownerId,
+                @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,75 @@
+package com.community.platform.shared.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Redis Pub/Sub 기반 노드 간 메시지 브로커
+ * 메시지 앞에 발행 노드 ID를 붙여 자기 노드가 발행한 메시지는 구독자에게 전달하지 않음
+ * Redis 장애 시 발행 실패는 로그만 남김 (단일 노드 동작에는 영향 없음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterMessageBroker {
+
+    private static final char NODE_SEPARATOR = '|';
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 채널에 메시지 발행 (다른 노드에게만 전달됨)
+     */
+    public void publish(String channel, String payload) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + NODE_SEPARATOR + payload);
+        } catch (Exception e) {
+            log.warn("Redis 메시지 발행 실패. channel: {}, error: {}", channel, e.getMessage());
+        }
+    }
+
+    /**
+     * 채널 구독 등록
+     * 다른 노드가 발행한 메시지의 payload만 handler로 전달
+     */
+    public void subscribe(String channel, Consumer<String> handler) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separatorIndex = body.indexOf(NODE_SEPARATOR);
+            if (separatorIndex < 0) {
+                return;
+            }
+
+            // 자기 노드가 발행한 메시지는 무시
+            if (separatorIndex == nodeId.length() && body.startsWith(nodeId)) {
+                return;
+            }
+
+            try {
+                handler.accept(body.substring(separatorIndex + 1));
+            } catch (Exception e) {
+                log.error("Redis 메시지 처리 실패. channel: {}", channel, e);
+            }
+        }, new ChannelTopic(channel));
+
+        log.debug("Redis 채널 구독 등록. channel: {}", channel);
+    }
+
+    /**
+     * 현재 노드 ID
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,25 @@
+package com.community.platform.shared.infrastructure.redis;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 설정
+ * 노드 간 캐시 무효화, 실시간 이벤트 전달에 사용하는 리스너 컨테이너 구성
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    private static final long RECOVERY_INTERVAL_MILLIS = 5000L; // Redis 재연결 시도 간격
+
+    // 채널 구독용 리스너 컨테이너 (Redis 장애 시 자동 재구독)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setRecoveryInterval(RECOVERY_INTERVAL_MILLIS);
+        return container;
+    }
+}
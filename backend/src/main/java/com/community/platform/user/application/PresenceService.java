@@ -0,0 +1,262 @@
+package com.community.platform.user.application;
+
+import com.community.platform.shared.infrastructure.TimingWheel;
+import com.community.platform.shared.infrastructure.redis.ClusterMessageBroker;
+import com.community.platform.user.dto.PresenceSnapshotResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 접속 상태(프레즌스) 서비스
+ * 클라이언트 하트비트(또는 살아있는 SSE 연결)를 기준으로 사용자별 마지막 활동 시각을 메모리에 유지
+ * - 마지막 활동 후 ttl이 지나면 타이밍 휠에서 만료되어 오프라인으로 전환 (마지막 접속 시각은 제한된 수만큼 보관)
+ * - 이 노드에서 받은 하트비트는 사용자별로 ttl/3에 한 번만 복제 대기열에 넣고, 주기마다 모아서 Redis Pub/Sub으로 전파
+ *   (모든 노드가 같은 접속 상태를 가지며, 새로 뜬 노드도 ttl/3 이내에 따라잡음)
+ * - 조회는 메모리 맵만 읽으므로 여러 사용자의 상태를 한 번에 조회해도 DB/Redis 접근 없음
+ */
+@Slf4j
+@Component
+public class PresenceService {
+
+    private static final String REPLICATION_CHANNEL = "user:presence";
+    private static final int MAX_ENTRIES_PER_MESSAGE = 500;
+
+    private final ClusterMessageBroker messageBroker;
+    private final long ttlMillis;
+    private final long replicateAfterMillis;
+    private final int maxLastSeen;
+
+    // 온라인 사용자 → 마지막 활동 시각 (epoch millis)
+    private final Map<Long, Long> lastActiveAt = new ConcurrentHashMap<>();
+
+    // 이 노드의 하트비트를 마지막으로 복제한 시각
+    private final Map<Long, Long> lastReplicatedAt = new ConcurrentHashMap<>();
+
+    // 복제 대기열 (양수: 해당 시각 활동, 음수: 해당 시각 오프라인 전환)
+    private final Map<Long, Long> outbox = new ConcurrentHashMap<>();
+
+    // 오프라인 사용자 → 마지막 활동 시각 (접근 순서 LRU, this로 동기화)
+    private final Map<Long, Long> lastSeen;
+
+    private final TimingWheel<Long> expiryWheel;
+
+    public PresenceService(
+            ClusterMessageBroker messageBroker,
+            MeterRegistry meterRegistry,
+            @Value("${community.user.presence.ttl-ms:90000}") long ttlMillis,
+            @Value("${community.user.presence.max-last-seen:100000}") int maxLastSeen) {
+        this.messageBroker = messageBroker;
+        this.ttlMillis = Math.max(ttlMillis, 1000);
+        this.replicateAfterMillis = this.ttlMillis / 3;
+        this.maxLastSeen = Math.max(maxLastSeen, 1);
+        this.lastSeen = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                return size() > PresenceService.this.maxLastSeen;
+            }
+        };
+        this.expiryWheel = new TimingWheel<>("presence-expiry", 1000, 256, this::expire);
+
+        Gauge.builder("community.user.presence.online", lastActiveAt, Map::size)
+                .description("온라인 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        expiryWheel.start();
+        messageBroker.subscribe(REPLICATION_CHANNEL, this::handleReplication);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        expiryWheel.stop();
+    }
+
+    /**
+     * 하트비트 (사용자를 온라인으로 표시하고 만료 시각 연장)
+     */
+    public void heartbeat(Long userId) {
+        if (userId != null) {
+            touch(userId, System.currentTimeMillis(), true);
+        }
+    }
+
+    /**
+     * 여러 사용자 하트비트 (SSE 연결 유지 확인 등)
+     */
+    public void heartbeat(Collection<Long> userIds) {
+        long now = System.currentTimeMillis();
+        for (Long userId : userIds) {
+            touch(userId, now, true);
+        }
+    }
+
+    /**
+     * 명시적 오프라인 전환 (로그아웃 등)
+     */
+    public void markOffline(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (goOffline(userId, now)) {
+            outbox.put(userId, -now);
+        }
+    }
+
+    /**
+     * 온라인 여부
+     */
+    public boolean isOnline(Long userId) {
+        Long activeAt = userId != null ? lastActiveAt.get(userId) : null;
+        return activeAt != null && System.currentTimeMillis() - activeAt < ttlMillis;
+    }
+
+    /**
+     * 여러 사용자의 접속 상태 (온라인 사용자 ID + 알고 있는 오프라인 사용자의 마지막 접속 시각)
+     */
+    public PresenceSnapshotResponse getSnapshot(Collection<Long> userIds) {
+        List<Long> online = new ArrayList<>();
+        Map<Long, Long> offlineLastSeen = new HashMap<>();
+
+        for (Long userId : userIds) {
+            if (isOnline(userId)) {
+                online.add(userId);
+            }
+        }
+        if (online.size() < userIds.size()) {
+            Set<Long> onlineIds = new HashSet<>(online);
+            synchronized (this) {
+                for (Long userId : userIds) {
+                    Long seen = onlineIds.contains(userId) ? null : lastSeen.get(userId);
+                    if (seen != null) {
+                        offlineLastSeen.put(userId, seen);
+                    }
+                }
+            }
+        }
+        return PresenceSnapshotResponse.builder()
+                .onlineUserIds(online)
+                .lastSeenAt(offlineLastSeen)
+                .build();
+    }
+
+    /**
+     * 복제 대기열 전파 (기본 1초마다, 여러 사용자를 한 메시지로 묶음)
+     */
+    @Scheduled(fixedDelayString = "${community.user.presence.replication-interval-ms:1000}")
+    public void replicate() {
+        if (outbox.isEmpty()) {
+            return;
+        }
+
+        StringBuilder payload = new StringBuilder();
+        int entries = 0;
+        for (Long userId : outbox.keySet()) {
+            Long at = outbox.remove(userId);
+            if (at == null) {
+                continue;
+            }
+            if (entries > 0) {
+                payload.append(',');
+            }
+            payload.append(userId).append(':').append(at);
+            if (++entries == MAX_ENTRIES_PER_MESSAGE) {
+                messageBroker.publish(REPLICATION_CHANNEL, payload.toString());
+                payload.setLength(0);
+                entries = 0;
+            }
+        }
+        if (entries > 0) {
+            messageBroker.publish(REPLICATION_CHANNEL, payload.toString());
+        }
+    }
+
+    // 활동 시각 반영 (더 최근 시각일 때만), local이면 필요 시 복제 대기열에 추가
+    private void touch(Long userId, long at, boolean local) {
+        Long previous = lastActiveAt.get(userId);
+        long activeAt = lastActiveAt.merge(userId, at, Math::max);
+        if (activeAt == at && (previous == null || previous < at)) {
+            expiryWheel.schedule(userId, at + ttlMillis);
+        }
+        if (previous == null) {
+            synchronized (this) {
+                lastSeen.remove(userId);
+            }
+        }
+
+        if (local) {
+            Long replicated = lastReplicatedAt.get(userId);
+            if (replicated == null || at - replicated >= replicateAfterMillis) {
+                lastReplicatedAt.put(userId, at);
+                outbox.merge(userId, at, Math::max);
+            }
+        }
+    }
+
+    // at 이전의 활동만 있으면 오프라인 전환 (이후 활동이 있으면 유지)
+    private boolean goOffline(Long userId, long at) {
+        Long activeAt = lastActiveAt.get(userId);
+        if (activeAt == null || activeAt > at || !lastActiveAt.remove(userId, activeAt)) {
+            return false;
+        }
+        expiryWheel.cancel(userId);
+        lastReplicatedAt.remove(userId);
+        synchronized (this) {
+            lastSeen.put(userId, activeAt);
+        }
+        return true;
+    }
+
+    // 타이밍 휠 만료 처리 (만료 시각 이후 하트비트가 있었으면 다시 예약)
+    private void expire(Long userId) {
+        Long activeAt = lastActiveAt.get(userId);
+        if (activeAt == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - activeAt >= ttlMillis) {
+            goOffline(userId, activeAt);
+        } else {
+            expiryWheel.schedule(userId, activeAt + ttlMillis);
+        }
+    }
+
+    // 다른 노드의 복제 메시지 반영 ("userId:시각" 목록, 음수 시각은 오프라인 전환)
+    private void handleReplication(String payload) {
+        for (String entry : payload.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                Long userId = Long.parseLong(entry.substring(0, separator));
+                long at = Long.parseLong(entry.substring(separator + 1));
+                if (at >= 0) {
+                    touch(userId, at, false);
+                } else {
+                    goOffline(userId, -at);
+                }
+            } catch (NumberFormatException e) {
+                log.warn("접속 상태 복제 메시지 형식 오류: {}", entry);
+            }
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.community.platform.user.infrastructure.persistence.UserFollowReposito
 import com.community.platform.user.infrastructure.persistence.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -85,6 +86,13 @@ public class UserFollowService {
         return userFollowRepository.findFollowerIdsByFollowingId(userId);
     }
 
+    /**
+     * 팔로워 ID를 afterFollowerId 다음부터 최대 size개 조회 (팔로워가 많은 사용자를 나누어 처리할 때 사용)
+     */
+    public List<Long> getFollowerIdsAfter(Long userId, Long afterFollowerId, int size) {
+        return userFollowRepository.findFollowerIdsAfter(userId, afterFollowerId, PageRequest.of(0, size));
+    }
+
     /**
      * 팔로잉 수 조회
      */
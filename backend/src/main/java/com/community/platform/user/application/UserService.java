@@ -136,18 +136,18 @@ public class UserService {
         log.info("사용자 프로필 업데이트. userId: {}", userId);
         
         // 사용자 존재 확인
-        getUserById(userId);
+        User user = getUserById(userId);
         
         // 프로필 조회 또는 생성
         UserProfile profile = userProfileRepository.findByUserId(userId)
-                .orElseGet(() -> {
-                    User user = getUserById(userId);
-                    return UserProfile.createFor(user);
-                });
+                .orElseGet(() -> UserProfile.createFor(user));
         
         // 프로필 정보 업데이트
         profile.updateProfile(profileImageUrl, bio, birthDate, gender);
         userProfileRepository.save(profile);
+
+        user.publishProfileUpdatedEvent();
+        domainEventService.publishEvents(user);
         
         log.info("사용자 프로필 업데이트 완료. userId: {}", userId);
     }
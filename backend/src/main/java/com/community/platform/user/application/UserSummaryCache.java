@@ -0,0 +1,148 @@
+package com.community.platform.user.application;
+
+import com.community.platform.shared.infrastructure.redis.ClusterMessageBroker;
+import com.community.platform.user.domain.UserProfileUpdatedEvent;
+import com.community.platform.user.dto.UserSummaryResponse;
+import com.community.platform.user.infrastructure.persistence.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 요약 정보 캐시
+ * 목록 화면에서 작성자/발신자 표시용 요약 정보(닉네임, 프로필 이미지)를 페이지 단위로 한 번에 채우기 위한 공용 캐시
+ * - 최근 사용 순으로 최대 사용자 수를 넘으면 오래된 사용자부터 제거, 적재 후 일정 시간이 지나면 재조회
+ * - 미적재 사용자는 모아서 IN 조회 한 번으로 적재 (없는 사용자는 결과에서 빠짐)
+ * - 프로필 변경 이벤트로 즉시 제거하고 다른 노드에는 Redis Pub/Sub 무효화 메시지 전파
+ * - 무효화 세대 번호로 변경 전에 시작된 조회 결과가 변경 후 값을 덮어쓰지 않도록 함
+ */
+@Slf4j
+@Component
+public class UserSummaryCache {
+
+    private static final String INVALIDATION_CHANNEL = "user:summary:invalidate";
+
+    private final UserRepository userRepository;
+    private final ClusterMessageBroker messageBroker;
+    private final int maxUsers;
+    private final long ttlMillis;
+
+    // userId → 캐시 항목 (접근 순서 LRU, this로 동기화)
+    private final Map<Long, CachedSummary> summaries;
+
+    // 무효화가 일어날 때마다 증가
+    private final AtomicLong invalidationGeneration = new AtomicLong();
+
+    public UserSummaryCache(
+            UserRepository userRepository,
+            ClusterMessageBroker messageBroker,
+            @Value("${community.user.summary-cache.max-users:100000}") int maxUsers,
+            @Value("${community.user.summary-cache.ttl-ms:600000}") long ttlMillis) {
+        this.userRepository = userRepository;
+        this.messageBroker = messageBroker;
+        this.maxUsers = maxUsers;
+        this.ttlMillis = ttlMillis;
+        this.summaries = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedSummary> eldest) {
+                return size() > UserSummaryCache.this.maxUsers;
+            }
+        };
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        messageBroker.subscribe(INVALIDATION_CHANNEL, payload -> evict(Long.parseLong(payload)));
+    }
+
+    /**
+     * 사용자 요약 정보 (없는 사용자면 null)
+     */
+    public UserSummaryResponse get(Long userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 사용자의 요약 정보 (캐시에 없는 사용자는 한 번에 조회하여 적재)
+     */
+    public Map<Long, UserSummaryResponse> getAll(Collection<Long> userIds) {
+        Map<Long, UserSummaryResponse> result = new HashMap<>(userIds.size() * 2);
+        Set<Long> misses = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            for (Long userId : userIds) {
+                if (userId == null || result.containsKey(userId)) {
+                    continue;
+                }
+                CachedSummary cached = summaries.get(userId);
+                if (cached != null && now - cached.loadedAtMillis() < ttlMillis) {
+                    result.put(userId, cached.summary());
+                } else {
+                    misses.add(userId);
+                }
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long generation = invalidationGeneration.get();
+        Map<Long, UserSummaryResponse> loaded = new HashMap<>(misses.size() * 2);
+        for (Object[] row : userRepository.findSummariesByIdIn(misses)) {
+            Long userId = (Long) row[0];
+            loaded.put(userId, UserSummaryResponse.builder()
+                    .id(userId)
+                    .nickname((String) row[1])
+                    .profileImageUrl((String) row[2])
+                    .build());
+        }
+
+        synchronized (this) {
+            // 조회 중 무효화가 있었다면 이번 결과는 캐시하지 않음 (다음 조회에서 다시 적재)
+            if (invalidationGeneration.get() == generation) {
+                loaded.forEach((userId, summary) -> summaries.put(userId, new CachedSummary(summary, now)));
+            }
+        }
+        result.putAll(loaded);
+        return result;
+    }
+
+    /**
+     * 프로필 변경 이벤트 처리 - 캐시 제거 후 다른 노드에 무효화 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProfileUpdated(UserProfileUpdatedEvent event) {
+        evict(event.getUserId());
+        messageBroker.publish(INVALIDATION_CHANNEL, String.valueOf(event.getUserId()));
+        log.debug("사용자 요약 캐시 무효화. userId: {}", event.getUserId());
+    }
+
+    /**
+     * 사용자 캐시 제거 (다음 조회 시 DB에서 재적재)
+     */
+    public void evict(Long userId) {
+        synchronized (this) {
+            invalidationGeneration.incrementAndGet();
+            summaries.remove(userId);
+        }
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private record CachedSummary(UserSummaryResponse summary, long loadedAtMillis) {
+    }
+}
@@ -69,6 +69,13 @@ public class User extends AggregateRoot {
         addDomainEvent(new UserRegisteredEvent(this.getId(), this.email, this.nickname));
     }
 
+    /**
+     * 프로필 변경 이벤트 발행 (사용자 요약 캐시 무효화용)
+     */
+    public void publishProfileUpdatedEvent() {
+        addDomainEvent(new UserProfileUpdatedEvent(this.getId()));
+    }
+
     public void updateLastLoginAt() {
         this.lastLoginAt = LocalDateTime.now();
     }
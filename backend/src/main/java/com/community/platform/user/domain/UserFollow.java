@@ -16,7 +16,7 @@ import lombok.NoArgsConstructor;
        },
        indexes = {
            @Index(name = "idx_follower_id", columnList = "follower_id"),
-           @Index(name = "idx_following_id", columnList = "following_id")
+           @Index(name = "idx_following_follower", columnList = "following_id, follower_id")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
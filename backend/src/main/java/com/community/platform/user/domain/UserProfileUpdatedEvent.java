@@ -0,0 +1,17 @@
+package com.community.platform.user.domain;
+
+import com.community.platform.shared.domain.DomainEvent;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class UserProfileUpdatedEvent implements DomainEvent {
+    private final Long userId;
+    private final LocalDateTime occurredOn;
+
+    public UserProfileUpdatedEvent(Long userId) {
+        this.userId = userId;
+        this.occurredOn = LocalDateTime.now();
+    }
+}
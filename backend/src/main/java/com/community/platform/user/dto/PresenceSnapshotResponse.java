@@ -0,0 +1,20 @@
+package com.community.platform.user.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 접속 상태 조회 응답 DTO
+ * 메시지 목록/대화 화면에서 여러 사용자의 접속 여부를 한 번에 표시할 때 사용
+ */
+@Getter
+@Builder
+public class PresenceSnapshotResponse {
+
+    private List<Long> onlineUserIds; // 접속 중인 사용자 ID 목록
+
+    private Map<Long, Long> lastSeenAt; // 접속 중이 아닌 사용자의 마지막 접속 시각 (epoch millis, 알려진 경우만)
+}
@@ -1,6 +1,7 @@
 package com.community.platform.user.infrastructure.persistence;
 
 import com.community.platform.user.domain.UserFollow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -34,6 +35,15 @@ public interface UserFollowRepository extends JpaRepository<UserFollow, Long> {
     @Query("SELECT uf.followerId FROM UserFollow uf WHERE uf.followingId = :followingId")
     List<Long> findFollowerIdsByFollowingId(@Param("followingId") Long followingId);
 
+    /**
+     * 특정 사용자를 팔로우하는 사용자 ID를 afterFollowerId 다음부터 오름차순으로 조회 (키셋 페이지)
+     */
+    @Query("SELECT uf.followerId FROM UserFollow uf " +
+           "WHERE uf.followingId = :followingId AND uf.followerId > :afterFollowerId ORDER BY uf.followerId")
+    List<Long> findFollowerIdsAfter(@Param("followingId") Long followingId,
+                                    @Param("afterFollowerId") Long afterFollowerId,
+                                    Pageable pageable);
+
     /**
      * 팔로잉 수 카운트
      */
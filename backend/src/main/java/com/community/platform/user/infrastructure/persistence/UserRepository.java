@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -77,4 +78,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 상태별 사용자 수 조회
     long countByStatus(UserStatus status);
+
+    // 사용자 요약 정보 일괄 조회 [id, nickname, profileImageUrl] (목록 화면의 작성자/발신자 표시용)
+    @Query("SELECT u.id, u.nickname, p.profileImageUrl FROM User u " +
+           "LEFT JOIN UserProfile p ON p.user.id = u.id WHERE u.id IN :userIds")
+    List<Object[]> findSummariesByIdIn(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package com.community.platform.user.presentation.web;
+
+import com.community.platform.shared.dto.ApiResponse;
+import com.community.platform.shared.security.SecurityUtils;
+import com.community.platform.user.application.PresenceService;
+import com.community.platform.user.dto.PresenceSnapshotResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 접속 상태 REST API Controller
+ * 실시간 알림(SSE)에 연결된 동안은 하트비트가 자동으로 갱신되므로, 별도 하트비트는 SSE를 쓰지 않는 클라이언트용
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/presence")
+@RequiredArgsConstructor
+public class PresenceController {
+
+    private static final int MAX_USER_IDS = 200;
+
+    private final PresenceService presenceService;
+
+    /**
+     * 하트비트 (접속 중으로 표시)
+     * POST /api/v1/presence/heartbeat
+     */
+    @PostMapping("/heartbeat")
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<Void> heartbeat() {
+        presenceService.heartbeat(SecurityUtils.requireCurrentUserId());
+        return ApiResponse.success("접속 상태가 갱신되었습니다");
+    }
+
+    /**
+     * 오프라인 전환 (로그아웃, 앱 종료 등)
+     * POST /api/v1/presence/offline
+     */
+    @PostMapping("/offline")
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<Void> offline() {
+        Long currentUserId = SecurityUtils.requireCurrentUserId();
+        log.debug("오프라인 전환: userId={}", currentUserId);
+
+        presenceService.markOffline(currentUserId);
+        return ApiResponse.success("오프라인으로 전환되었습니다");
+    }
+
+    /**
+     * 여러 사용자의 접속 상태 조회 (최대 200명)
+     * GET /api/v1/presence?userIds=1,2,3
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ApiResponse<PresenceSnapshotResponse> getPresence(@RequestParam List<Long> userIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(userIds);
+        if (distinctIds.size() > MAX_USER_IDS) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_USER_IDS + "명입니다");
+        }
+        return ApiResponse.success(presenceService.getSnapshot(distinctIds));
+    }
+}